@@ -3,11 +3,14 @@ package com.github.streamshub.console.api;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.net.URL;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
@@ -53,8 +56,11 @@ import org.jboss.logging.Logger;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.github.streamshub.console.api.service.KafkaClusterService;
+import com.github.streamshub.console.api.support.AdminClientCache;
+import com.github.streamshub.console.api.support.ClusterCircuitFilter;
 import com.github.streamshub.console.api.support.Holder;
 import com.github.streamshub.console.api.support.KafkaContext;
+import com.github.streamshub.console.api.support.RecordConsumerPool;
 import com.github.streamshub.console.api.support.TrustAllCertificateManager;
 import com.github.streamshub.console.config.ConsoleConfig;
 import com.github.streamshub.console.config.KafkaClusterConfig;
@@ -65,11 +71,13 @@ import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.strimzi.api.kafka.model.kafka.Kafka;
 import io.strimzi.api.kafka.model.kafka.KafkaStatus;
 import io.strimzi.api.kafka.model.kafka.listener.ListenerStatus;
+import io.vertx.ext.web.RoutingContext;
 
 /**
  * The ClientFactory is responsible for managing the life-cycles of Kafka clients
- * - the {@linkplain Admin} client and the {@linkplain Consumer}. The factory
- * will lazily create a per-request client when accessed by
+ * - the {@linkplain Admin} client, the {@linkplain Producer}, and the pool of
+ * {@linkplain Consumer}s of each cluster. The factory will lazily create a
+ * per-request client when accessed by
  * {@linkplain com.github.streamshub.console.api.service service code} which
  * will be usable for the duration of the request and closed by the disposer
  * methods in this class upon completion of the request.
@@ -108,6 +116,21 @@ public class ClientFactory {
     @Inject
     Instance<TrustAllCertificateManager> trustManager;
 
+    @Inject
+    AdminClientCache adminCache;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.record-consumers.max-size", defaultValue = "8")
+    int recordConsumersMaxSize;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.record-consumers.max-waiting", defaultValue = "32")
+    int recordConsumersMaxWaiting;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.record-consumers.idle-timeout-ms", defaultValue = "300000")
+    long recordConsumersIdleTimeoutMs;
+
     @Inject
     UriInfo requestUri;
 
@@ -135,42 +158,49 @@ public class ClientFactory {
     @ApplicationScoped
     public ConsoleConfig produceConsoleConfig() {
         return configPath.map(Path::of)
-            .map(Path::toUri)
-            .map(uri -> {
-                try {
-                    return uri.toURL();
-                } catch (IOException e) {
-                    throw new UncheckedIOException(e);
-                }
-            })
-            .filter(Objects::nonNull)
-            .map(url -> {
-                log.infof("Loading console configuration from %s", url);
-
-                ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
-
-                try (InputStream stream = url.openStream()) {
-                    return mapper.readValue(stream, ConsoleConfig.class);
-                } catch (IOException e) {
-                    throw new UncheckedIOException(e);
-                }
-            })
-            .map(consoleConfig -> {
-                consoleConfig.getKafka().getClusters().stream().forEach(cluster -> {
-                    resolveValues(cluster.getProperties());
-                    resolveValues(cluster.getAdminProperties());
-                    resolveValues(cluster.getProducerProperties());
-                    resolveValues(cluster.getConsumerProperties());
-                });
-
-                return consoleConfig;
-            })
+            .map(this::loadConsoleConfig)
             .orElseGet(() -> {
                 log.infof("Console configuration not specified");
                 return new ConsoleConfig();
             });
     }
 
+    /**
+     * Read the console configuration from the given file, resolving any
+     * references to other configuration properties in the clusters' client
+     * properties.
+     *
+     * @throws UncheckedIOException when the file cannot be read or parsed
+     */
+    public ConsoleConfig loadConsoleConfig(Path path) {
+        URL url;
+
+        try {
+            url = path.toUri().toURL();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        log.infof("Loading console configuration from %s", url);
+        ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
+        ConsoleConfig consoleConfig;
+
+        try (InputStream stream = url.openStream()) {
+            consoleConfig = mapper.readValue(stream, ConsoleConfig.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        consoleConfig.getKafka().getClusters().stream().forEach(cluster -> {
+            resolveValues(cluster.getProperties());
+            resolveValues(cluster.getAdminProperties());
+            resolveValues(cluster.getProducerProperties());
+            resolveValues(cluster.getConsumerProperties());
+        });
+
+        return consoleConfig;
+    }
+
     @Produces
     @ApplicationScoped
     Map<String, KafkaContext> produceKafkaContexts(ConsoleConfig consoleConfig,
@@ -226,6 +256,7 @@ public class ClientFactory {
                     log.debugf("Known KafkaContext identifiers: %s", contexts.keySet());
                     KafkaContext previous = contexts.remove(clusterId);
                     Optional.ofNullable(previous).ifPresent(KafkaContext::close);
+                    adminCache.invalidate(clusterId);
                 });
             }
 
@@ -273,10 +304,11 @@ public class ClientFactory {
         clientConfigs.put(Consumer.class, consumerConfigs);
         clientConfigs.put(Producer.class, producerConfigs);
 
-        Admin admin = null;
+        Supplier<Admin> adminSupplier = null;
 
         if (establishGlobalConnection(clusterConfig, adminConfigs)) {
-            admin = adminBuilder.apply(adminConfigs);
+            // Created when first used by a request or background task
+            adminSupplier = () -> adminBuilder.apply(adminConfigs);
         }
 
         String clusterKey = clusterConfig.clusterKey();
@@ -301,13 +333,116 @@ public class ClientFactory {
                         trusted certificate which is no longer available.""", clusterKey);
             }
         } else {
-            KafkaContext ctx = new KafkaContext(clusterConfig, kafkaResource.orElse(null), clientConfigs, admin);
+            var recordConsumers = new RecordConsumerPool(clusterKey,
+                    () -> new KafkaConsumer<>(consumerConfigs),
+                    recordConsumersMaxSize,
+                    recordConsumersMaxWaiting,
+                    recordConsumersIdleTimeoutMs);
+            KafkaContext ctx = new KafkaContext(clusterConfig, kafkaResource.orElse(null), clientConfigs, adminSupplier, recordConsumers);
             log.infof("%s KafkaContext for cluster %s, id=%s", replace ? "Replacing" : "Adding", clusterKey, clusterId);
             KafkaContext previous = contexts.put(clusterId, ctx);
             Optional.ofNullable(previous).ifPresent(KafkaContext::close);
+            adminCache.invalidate(clusterId);
         }
     }
 
+    /**
+     * Apply the Kafka clusters of an updated console configuration. Only the
+     * contexts of clusters that were added, removed, or whose configuration
+     * changed are replaced. The contexts of other clusters, including their
+     * Admin clients and caches, are left as they are. The list of clusters in
+     * the current configuration is replaced by an unmodifiable copy of the
+     * updated list, so that subsequent Kafka resource events use the updated
+     * configuration and concurrent readers never observe a partial update.
+     *
+     * <p>Changes to other parts of the configuration (e.g. Kubernetes) require
+     * a restart and are ignored.
+     */
+    public synchronized void reloadKafkaClusters(ConsoleConfig current,
+            ConsoleConfig updated,
+            Map<String, KafkaContext> contexts,
+            Function<Map<String, Object>, Admin> adminBuilder) {
+
+        List<KafkaClusterConfig> clusters = List.copyOf(updated.getKafka().getClusters());
+        List<ClusterChange> changes = clusterChanges(current.getKafka().getClusters(), clusters);
+
+        current.getKafka().setClusters(clusters);
+
+        changes.forEach(change -> {
+            KafkaClusterConfig previousConfig = change.previous();
+            KafkaClusterConfig clusterConfig = change.updated();
+
+            if (clusterConfig == null) {
+                log.infof("Configuration of Kafka cluster %s removed", previousConfig.clusterKey());
+                removeKafkaContexts(contexts, previousConfig);
+                return;
+            }
+
+            log.infof("Configuration of Kafka cluster %s %s", clusterConfig.clusterKey(),
+                    previousConfig == null ? "added" : "modified");
+
+            putKafkaContext(contexts,
+                    clusterConfig,
+                    cachedKafkaResource(clusterConfig),
+                    adminBuilder,
+                    previousConfig != null);
+
+            if (previousConfig != null) {
+                // Context of the previous configuration remains when the cluster id changed
+                removeKafkaContexts(contexts, previousConfig);
+            }
+        });
+    }
+
+    /**
+     * Change to the configuration of a single Kafka cluster. The previous
+     * configuration is null for an added cluster and the updated configuration
+     * is null for a removed cluster.
+     */
+    record ClusterChange(KafkaClusterConfig previous, KafkaClusterConfig updated) {
+    }
+
+    /**
+     * Compare two lists of Kafka cluster configurations by cluster key. Added
+     * and modified clusters are given in the order of the updated list,
+     * followed by the removed clusters. Unchanged clusters are omitted.
+     */
+    static List<ClusterChange> clusterChanges(List<KafkaClusterConfig> previousClusters,
+            List<KafkaClusterConfig> updatedClusters) {
+
+        Map<String, KafkaClusterConfig> previous = previousClusters.stream()
+                .collect(Collectors.toMap(KafkaClusterConfig::clusterKey, Function.identity(), (c1, c2) -> c1,
+                        LinkedHashMap::new));
+        List<ClusterChange> changes = new ArrayList<>();
+
+        updatedClusters.forEach(clusterConfig -> {
+            KafkaClusterConfig previousConfig = previous.remove(clusterConfig.clusterKey());
+
+            if (!clusterConfig.equals(previousConfig)) {
+                changes.add(new ClusterChange(previousConfig, clusterConfig));
+            }
+        });
+
+        previous.values().forEach(clusterConfig -> changes.add(new ClusterChange(clusterConfig, null)));
+
+        return changes;
+    }
+
+    void removeKafkaContexts(Map<String, KafkaContext> contexts, KafkaClusterConfig clusterConfig) {
+        contexts.entrySet().removeIf(entry -> {
+            KafkaContext ctx = entry.getValue();
+
+            if (clusterConfig.equals(ctx.clusterConfig())) {
+                log.infof("Removing KafkaContext for cluster %s, id=%s", clusterConfig.clusterKey(), entry.getKey());
+                ctx.close();
+                adminCache.invalidate(entry.getKey());
+                return true;
+            }
+
+            return false;
+        });
+    }
+
     Optional<Kafka> cachedKafkaResource(KafkaClusterConfig clusterConfig) {
         return kafkaInformer.map(SharedIndexInformer::getStore)
                 .map(store -> {
@@ -395,7 +530,8 @@ public class ClientFactory {
     @RequestScoped
     public KafkaContext produceKafkaContext(Map<String, KafkaContext> contexts,
             UnaryOperator<Admin> filter,
-            Function<Map<String, Object>, Admin> adminBuilder) {
+            Function<Map<String, Object>, Admin> adminBuilder,
+            RoutingContext routingContext) {
 
         String clusterId = requestUri.getPathParameters().getFirst("clusterId");
 
@@ -405,14 +541,24 @@ public class ClientFactory {
 
         return Optional.ofNullable(contexts.get(clusterId))
                 .map(ctx -> {
-                    Admin admin = Optional.ofNullable(ctx.admin())
-                            /*
-                             * Admin may be null if credentials were not given
-                             * in the configuration. The user must provide the
-                             * login secrets in the request in that case.
-                             */
-                            .orElseGet(() -> adminBuilder.apply(ctx.configs(Admin.class)));
-                    return new KafkaContext(ctx, filter.apply(admin));
+                    routingContext.put(ClusterCircuitFilter.CLUSTER_ACCESSED, Boolean.TRUE);
+
+                    if (ctx.sharedAdmin()) {
+                        return new KafkaContext(ctx, filter.apply(ctx.admin()));
+                    }
+
+                    /*
+                     * Admin may be null if credentials were not given in the
+                     * configuration. The user must provide the login secrets
+                     * in the request in that case. Clients are shared by
+                     * requests having the same configuration. The lease is
+                     * keyed by the context's configuration, which does not
+                     * (yet) include credentials taken from the request, so
+                     * the fingerprint is currently the same for every
+                     * request to the cluster.
+                     */
+                    var lease = adminCache.acquire(clusterId, ctx.configs(Admin.class), adminBuilder);
+                    return new KafkaContext(ctx, filter.apply(lease.admin()), lease);
                 })
                 .orElseThrow(() -> noSuchKafka.apply(clusterId));
     }
@@ -424,18 +570,6 @@ public class ClientFactory {
         }
     }
 
-    @Produces
-    @RequestScoped
-    public Supplier<Consumer<byte[], byte[]>> consumerSupplier(ConsoleConfig consoleConfig, KafkaContext context) {
-        var configs = context.configs(Consumer.class);
-        Consumer<byte[], byte[]> client = new KafkaConsumer<>(configs);
-        return () -> client;
-    }
-
-    public void consumerDisposer(@Disposes Supplier<Consumer<byte[], byte[]>> consumer) {
-        consumer.get().close();
-    }
-
     @Produces
     @RequestScoped
     public Supplier<Producer<String, String>> producerSupplier(ConsoleConfig consoleConfig, KafkaContext context) {
@@ -0,0 +1,211 @@
+package com.github.streamshub.console.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.jboss.logging.Logger;
+
+import com.github.streamshub.console.api.support.KafkaContext;
+import com.github.streamshub.console.config.ConsoleConfig;
+
+/**
+ * Watches the console configuration file given by {@code console.config-path}
+ * and applies changes to the configured Kafka clusters without a restart. Only
+ * the contexts of clusters whose configuration changed are replaced, see
+ * {@linkplain ClientFactory#reloadKafkaClusters}.
+ *
+ * <p>The whole directory of the file is watched and the file's content is
+ * compared with the content last applied, since a file mounted from a
+ * Kubernetes secret is updated by replacing a symbolic link in the directory
+ * rather than modifying the file itself.
+ */
+@Singleton
+public class ConsoleConfigWatcher {
+
+    private static final Logger LOGGER = Logger.getLogger(ConsoleConfigWatcher.class);
+
+    @FunctionalInterface
+    interface WatchKeyLookup {
+        WatchKey apply(WatchService source) throws InterruptedException;
+    }
+
+    @Inject
+    ManagedExecutor executor;
+
+    @Inject
+    ClientFactory clientFactory;
+
+    @Inject
+    ConsoleConfig consoleConfig;
+
+    /**
+     * All Kafka contexts known to the application
+     */
+    @Inject
+    Map<String, KafkaContext> kafkaContexts;
+
+    @Inject
+    Function<Map<String, Object>, Admin> adminBuilder;
+
+    @Inject
+    @ConfigProperty(name = "console.config-path")
+    Optional<String> configPath;
+
+    @Inject
+    @ConfigProperty(name = "console.config-watch.enabled", defaultValue = "true")
+    boolean watchEnabled;
+
+    volatile boolean shutdown = false;
+
+    WatchService watchService;
+
+    /**
+     * Digest of the configuration file content last applied
+     */
+    byte[] appliedDigest;
+
+    /**
+     * Starts the file watch upon startup of the CDI container.
+     *
+     * @param event the Startup CDI event
+     */
+    public void start(@Observes jakarta.enterprise.event.Startup event) {
+        if (watchEnabled) {
+            configPath.ifPresent(this::startFileWatch);
+        }
+    }
+
+    /**
+     * Stops the file watch upon shutdown of the CDI container.
+     *
+     * @param event the Shutdown CDI event
+     */
+    public void stop(@Observes jakarta.enterprise.event.Shutdown event) {
+        this.shutdown = true;
+
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOGGER.warnf("Exception closing WatchService: %s", e.getMessage());
+            }
+        }
+    }
+
+    void startFileWatch(String configPath) {
+        Path configFile = Path.of(configPath).toAbsolutePath();
+        LOGGER.infof("Monitoring console configuration file: %s", configFile);
+        appliedDigest = digest(configFile);
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        executor.submit(() -> {
+            while (!shutdown) {
+                try {
+                    if (!watchConfig(configFile, WatchService::take)) {
+                        Thread.sleep(Duration.ofSeconds(30).toMillis());
+                    }
+                } catch (InterruptedException e) {
+                    LOGGER.warnf("WatchService interrupted", e);
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+    }
+
+    boolean watchConfig(Path configFile, WatchKeyLookup lookup) throws InterruptedException {
+        Path directory = configFile.getParent();
+
+        if (!Files.isDirectory(directory)) {
+            return false;
+        }
+
+        try {
+            directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+
+            // Changes made while the directory was not watched
+            handleChange(configFile);
+
+            WatchKey key;
+
+            while (Files.isDirectory(directory) && (key = lookup.apply(watchService)) != null) {
+                if (!key.pollEvents().isEmpty()) {
+                    handleChange(configFile);
+                }
+
+                key.reset();
+            }
+        } catch (NoSuchFileException e) {
+            LOGGER.debugf("Console configuration directory does not exist: %s", e.getFile());
+        } catch (ClosedWatchServiceException e) {
+            LOGGER.info("WatchService closed");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return Files.isDirectory(directory);
+    }
+
+    void handleChange(Path configFile) {
+        byte[] digest = digest(configFile);
+
+        if (digest == null || Arrays.equals(digest, appliedDigest)) {
+            // Missing (e.g. mid-update) or unchanged
+            return;
+        }
+
+        appliedDigest = digest;
+        ConsoleConfig updated;
+
+        try {
+            updated = clientFactory.loadConsoleConfig(configFile);
+        } catch (RuntimeException e) {
+            LOGGER.warnf("Console configuration %s cannot be loaded, retaining current configuration: %s",
+                    configFile, e.getMessage());
+            return;
+        }
+
+        LOGGER.infof("Console configuration has been modified: %s", configFile);
+        clientFactory.reloadKafkaClusters(consoleConfig, updated, kafkaContexts, adminBuilder);
+    }
+
+    static byte[] digest(Path file) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file));
+        } catch (IOException e) {
+            // Missing or replaced while reading
+            return null;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.streamshub.console.api;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponseSchema;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+
+import com.github.streamshub.console.api.model.ConsumerGroupEvent;
+import com.github.streamshub.console.api.service.ConsumerGroupRebalanceMonitor;
+import com.github.streamshub.console.api.support.KafkaContext;
+
+import io.smallrye.mutiny.Multi;
+
+@Path("/api/kafkas/{clusterId}/consumerGroupEvents")
+@Tag(name = "Kafka Cluster Resources")
+public class ConsumerGroupEventsResource {
+
+    @Inject
+    KafkaContext kafkaContext;
+
+    @Inject
+    ConsumerGroupRebalanceMonitor rebalanceMonitor;
+
+    @GET
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    @Operation(
+        summary = "Stream consumer group events",
+        description = """
+            Stream of the changes to the consumer groups in the cluster as server-sent events: group
+            state transitions, members joining and leaving groups, and changes to the partitions
+            assigned to members. Changes are detected by periodically comparing the groups in the
+            cluster and are only available for clusters with credentials present in the console
+            configuration.
+            """)
+    @APIResponseSchema(value = ConsumerGroupEvent.class, responseDescription = "Stream of consumer group events")
+    @APIResponse(responseCode = "404", ref = "NotFound")
+    @APIResponse(responseCode = "500", ref = "ServerError")
+    public Multi<ConsumerGroupEvent> streamEvents(
+            @Parameter(description = "Cluster identifier")
+            @PathParam("clusterId")
+            String clusterId) {
+
+        return rebalanceMonitor.events(kafkaContext);
+    }
+}
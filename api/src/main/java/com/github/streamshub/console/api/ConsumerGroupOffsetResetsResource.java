@@ -0,0 +1,77 @@
+package com.github.streamshub.console.api;
+
+import java.util.concurrent.CompletionStage;
+
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.ExampleObject;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponseSchema;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import com.github.streamshub.console.api.model.OffsetReset;
+import com.github.streamshub.console.api.service.ConsumerGroupService;
+
+@Path("/api/kafkas/{clusterId}/consumerGroupOffsetResets")
+@Tag(name = "Kafka Cluster Resources")
+public class ConsumerGroupOffsetResetsResource {
+
+    @Inject
+    ConsumerGroupService consumerGroupService;
+
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+        summary = "Reset the offsets of many consumer groups",
+        description = """
+            Reset the committed offsets of one or more consumer groups to the same target. The response
+            gives the current and target offset of each group partition. When `meta.dryRun` is true,
+            the target offsets are calculated but no offsets are altered.
+            """)
+    @APIResponseSchema(
+        value = OffsetReset.OffsetResetDocument.class,
+        responseDescription = "Current and target offsets of each group partition")
+    @APIResponse(responseCode = "404", ref = "NotFound")
+    @APIResponse(responseCode = "500", ref = "ServerError")
+    @APIResponse(responseCode = "504", ref = "ServerTimeout")
+    public CompletionStage<Response> resetOffsets(
+            @Parameter(description = "Cluster identifier")
+            @PathParam("clusterId")
+            String clusterId,
+
+            @Valid
+            @RequestBody(content = @Content(
+                    schema = @Schema(implementation = OffsetReset.OffsetResetDocument.class),
+                    examples = {
+                        @ExampleObject(
+                            name = "resetConsumerGroupOffsets-dryRun",
+                            externalValue = "/openapi/examples/resetConsumerGroupOffsets-dryRun.json"),
+                        @ExampleObject(
+                            name = "resetConsumerGroupOffsets-shiftBy",
+                            externalValue = "/openapi/examples/resetConsumerGroupOffsets-shiftBy.json")
+                    })
+            )
+            OffsetReset.OffsetResetDocument reset) {
+
+        final boolean dryRun = Boolean.TRUE.equals(reset.meta("dryRun"));
+
+        return consumerGroupService.resetOffsets(reset.getData().getAttributes(), dryRun)
+                .thenApply(OffsetReset.OffsetResetDocument::new)
+                .thenApply(Response::ok)
+                .thenApply(Response.ResponseBuilder::build);
+    }
+}
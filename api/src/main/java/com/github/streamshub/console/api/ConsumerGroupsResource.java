@@ -8,6 +8,8 @@ import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.validation.ConstraintTarget;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.ws.rs.BeanParam;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
@@ -35,6 +37,7 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
 import com.github.streamshub.console.api.model.ConsumerGroup;
 import com.github.streamshub.console.api.model.ConsumerGroupFilterParams;
+import com.github.streamshub.console.api.model.LagHistory;
 import com.github.streamshub.console.api.model.ListFetchParams;
 import com.github.streamshub.console.api.service.ConsumerGroupService;
 import com.github.streamshub.console.api.support.ErrorCategory;
@@ -83,7 +86,11 @@ public class ConsumerGroupsResource {
                         ConsumerGroup.Fields.OFFSETS,
                         ConsumerGroup.Fields.AUTHORIZED_OPERATIONS,
                         ConsumerGroup.Fields.COORDINATOR,
-                        ConsumerGroup.Fields.PARTITION_ASSIGNOR
+                        ConsumerGroup.Fields.PARTITION_ASSIGNOR,
+                        ConsumerGroup.Fields.TIME_LAG,
+                        ConsumerGroup.Fields.TOTAL_LAG,
+                        ConsumerGroup.Fields.MAX_PARTITION_LAG,
+                        ConsumerGroup.Fields.MEMBER_COUNT
                     },
                     payload = ErrorCategory.InvalidQueryParameter.class)
             @Parameter(
@@ -99,7 +106,11 @@ public class ConsumerGroupsResource {
                                 ConsumerGroup.Fields.OFFSETS,
                                 ConsumerGroup.Fields.AUTHORIZED_OPERATIONS,
                                 ConsumerGroup.Fields.COORDINATOR,
-                                ConsumerGroup.Fields.PARTITION_ASSIGNOR
+                                ConsumerGroup.Fields.PARTITION_ASSIGNOR,
+                                ConsumerGroup.Fields.TIME_LAG,
+                                ConsumerGroup.Fields.TOTAL_LAG,
+                                ConsumerGroup.Fields.MAX_PARTITION_LAG,
+                                ConsumerGroup.Fields.MEMBER_COUNT
                             }))
             List<String> fields,
 
@@ -152,7 +163,8 @@ public class ConsumerGroupsResource {
                         ConsumerGroup.Fields.OFFSETS,
                         ConsumerGroup.Fields.AUTHORIZED_OPERATIONS,
                         ConsumerGroup.Fields.COORDINATOR,
-                        ConsumerGroup.Fields.PARTITION_ASSIGNOR
+                        ConsumerGroup.Fields.PARTITION_ASSIGNOR,
+                        ConsumerGroup.Fields.TIME_LAG
                     },
                     payload = ErrorCategory.InvalidQueryParameter.class)
             @Parameter(
@@ -168,7 +180,8 @@ public class ConsumerGroupsResource {
                                 ConsumerGroup.Fields.OFFSETS,
                                 ConsumerGroup.Fields.AUTHORIZED_OPERATIONS,
                                 ConsumerGroup.Fields.COORDINATOR,
-                                ConsumerGroup.Fields.PARTITION_ASSIGNOR
+                                ConsumerGroup.Fields.PARTITION_ASSIGNOR,
+                                ConsumerGroup.Fields.TIME_LAG
                             }))
             List<String> fields) {
 
@@ -180,6 +193,41 @@ public class ConsumerGroupsResource {
                 .thenApply(Response.ResponseBuilder::build);
     }
 
+    @Path("{groupId}/lagHistory")
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @APIResponseSchema(LagHistory.LagHistoryDocument.class)
+    @APIResponse(responseCode = "404", ref = "NotFound")
+    @APIResponse(responseCode = "500", ref = "ServerError")
+    @APIResponse(responseCode = "504", ref = "ServerTimeout")
+    public CompletionStage<Response> getConsumerGroupLagHistory(
+            @Parameter(description = "Cluster identifier")
+            @PathParam("clusterId")
+            String clusterId,
+
+            @PathParam("groupId")
+            @Parameter(description = "Consumer group identifier")
+            String groupId,
+
+            @QueryParam(LagHistory.MAX_SAMPLES_PARAM)
+            @DefaultValue(LagHistory.MAX_SAMPLES_DEFAULT + "")
+            @Min(value = 1, payload = ErrorCategory.InvalidQueryParameter.class)
+            @Max(value = LagHistory.MAX_SAMPLES_MAX, payload = ErrorCategory.InvalidQueryParameter.class)
+            @Parameter(
+                    description = "Maximum number of samples returned for each partition",
+                    schema = @Schema(
+                            implementation = Integer.class,
+                            minimum = "1",
+                            maximum = LagHistory.MAX_SAMPLES_MAX + "",
+                            defaultValue = LagHistory.MAX_SAMPLES_DEFAULT + ""))
+            int maxSamples) {
+
+        return consumerGroupService.getLagHistory(groupId, maxSamples)
+                .thenApply(history -> new LagHistory.LagHistoryDocument(groupId, history))
+                .thenApply(Response::ok)
+                .thenApply(Response.ResponseBuilder::build);
+    }
+
     @Path("{groupId}")
     @PATCH
     @Consumes(MediaType.APPLICATION_JSON)
@@ -71,8 +71,9 @@ public class RecordsResource {
         responseDescription = "List of records matching the request query parameters.")
     @APIResponse(responseCode = "404", ref = "NotFound")
     @APIResponse(responseCode = "500", ref = "ServerError")
+    @APIResponse(responseCode = "503", ref = "ServiceUnavailable")
     @APIResponse(responseCode = "504", ref = "ServerTimeout")
-    public Response consumeRecords(
+    public CompletionStage<Response> consumeRecords(
             @Parameter(description = "Cluster identifier")
             @PathParam("clusterId")
             String clusterId,
@@ -121,10 +122,12 @@ public class RecordsResource {
             List<String> fields) {
 
         requestedFields.accept(fields);
-        var result = recordService.consumeRecords(topicId, params.getPartition(), params.getOffset(), params.getTimestamp(), params.getLimit(), fields, params.getMaxValueLength());
-
         CacheControl noStore = RuntimeDelegate.getInstance().createHeaderDelegate(CacheControl.class).fromString("no-store");
-        return Response.ok(new KafkaRecord.ListResponse(result)).cacheControl(noStore).build();
+
+        return recordService.consumeRecords(topicId, params.getPartition(), params.getOffset(), params.getTimestamp(), params.getLimit(), fields, params.getMaxValueLength())
+                .thenApply(KafkaRecord.ListResponse::new)
+                .thenApply(entity -> Response.ok(entity).cacheControl(noStore))
+                .thenApply(Response.ResponseBuilder::build);
     }
 
     @POST
@@ -314,7 +314,11 @@ public class TopicsResource {
                         ConsumerGroup.Fields.OFFSETS,
                         ConsumerGroup.Fields.AUTHORIZED_OPERATIONS,
                         ConsumerGroup.Fields.COORDINATOR,
-                        ConsumerGroup.Fields.PARTITION_ASSIGNOR
+                        ConsumerGroup.Fields.PARTITION_ASSIGNOR,
+                        ConsumerGroup.Fields.TIME_LAG,
+                        ConsumerGroup.Fields.TOTAL_LAG,
+                        ConsumerGroup.Fields.MAX_PARTITION_LAG,
+                        ConsumerGroup.Fields.MEMBER_COUNT
                     },
                     payload = ErrorCategory.InvalidQueryParameter.class)
             @Parameter(
@@ -330,7 +334,11 @@ public class TopicsResource {
                                 ConsumerGroup.Fields.OFFSETS,
                                 ConsumerGroup.Fields.AUTHORIZED_OPERATIONS,
                                 ConsumerGroup.Fields.COORDINATOR,
-                                ConsumerGroup.Fields.PARTITION_ASSIGNOR
+                                ConsumerGroup.Fields.PARTITION_ASSIGNOR,
+                                ConsumerGroup.Fields.TIME_LAG,
+                                ConsumerGroup.Fields.TOTAL_LAG,
+                                ConsumerGroup.Fields.MAX_PARTITION_LAG,
+                                ConsumerGroup.Fields.MEMBER_COUNT
                             }))
             List<String> fields,
 
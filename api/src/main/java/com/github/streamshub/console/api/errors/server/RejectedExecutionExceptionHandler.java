@@ -0,0 +1,55 @@
+package com.github.streamshub.console.api.errors.server;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+import org.jboss.logging.Logger;
+
+import com.github.streamshub.console.api.model.Error;
+import com.github.streamshub.console.api.support.ErrorCategory;
+
+/**
+ * Handles requests rejected because the resources needed to process them,
+ * e.g. the record consumers of a Kafka cluster, are all in use and too many
+ * requests are already waiting. The client is asked to retry after a short
+ * delay.
+ */
+@Provider
+@ApplicationScoped
+public class RejectedExecutionExceptionHandler
+        extends AbstractServerExceptionHandler<RejectedExecutionException>
+        implements ExceptionMapper<RejectedExecutionException> {
+
+    private static final Logger LOGGER = Logger.getLogger(RejectedExecutionExceptionHandler.class);
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    public RejectedExecutionExceptionHandler() {
+        super(ErrorCategory.ServiceUnavailable.class);
+    }
+
+    @Override
+    public boolean handlesException(Throwable thrown) {
+        return thrown instanceof RejectedExecutionException;
+    }
+
+    @Override
+    public List<Error> buildErrors(RejectedExecutionException exception) {
+        // Expected under load, not logged as a server error
+        Error error = category.createError(exception.getMessage(), null, null);
+        LOGGER.debugf("error=%s", error);
+        return List.of(error);
+    }
+
+    @Override
+    public Response toResponse(RejectedExecutionException exception) {
+        return Response.fromResponse(super.toResponse(exception))
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .build();
+    }
+}
@@ -9,6 +9,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
@@ -28,6 +29,7 @@ import com.github.streamshub.console.api.support.ListRequestContext;
 import io.xlate.validation.constraints.Expression;
 
 import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
 import static java.util.Comparator.nullsLast;
 
 @Schema(name = "ConsumerGroupAttributes")
@@ -44,6 +46,16 @@ public class ConsumerGroup {
         public static final String PARTITION_ASSIGNOR = "partitionAssignor";
         public static final String OFFSETS = "offsets";
         public static final String SIMPLE_CONSUMER_GROUP = "simpleConsumerGroup";
+        public static final String TIME_LAG = "timeLag";
+        public static final String TOTAL_LAG = "totalLag";
+        public static final String MAX_PARTITION_LAG = "maxPartitionLag";
+        public static final String MEMBER_COUNT = "memberCount";
+
+        /**
+         * Fields provided by the cluster's consumer group summary, available for
+         * all groups without describing each group.
+         */
+        public static final List<String> SUMMARY_FIELDS = List.of(TOTAL_LAG, MAX_PARTITION_LAG, MEMBER_COUNT);
 
         static final Comparator<ConsumerGroup> ID_COMPARATOR =
                 comparing(ConsumerGroup::getGroupId);
@@ -51,7 +63,11 @@ public class ConsumerGroup {
         static final Map<String, Map<Boolean, Comparator<ConsumerGroup>>> COMPARATORS = ComparatorBuilder.bidirectional(
                 Map.of("id", ID_COMPARATOR,
                         STATE, nullsLast(comparing(ConsumerGroup::getState)),
-                        SIMPLE_CONSUMER_GROUP, comparing(ConsumerGroup::isSimpleConsumerGroup)));
+                        SIMPLE_CONSUMER_GROUP, comparing(ConsumerGroup::isSimpleConsumerGroup),
+                        TIME_LAG, comparing(ConsumerGroup::getTimeLag, nullsLast(naturalOrder())),
+                        TOTAL_LAG, comparing(ConsumerGroup::getTotalLag, nullsLast(naturalOrder())),
+                        MAX_PARTITION_LAG, comparing(ConsumerGroup::getMaxPartitionLag, nullsLast(naturalOrder())),
+                        MEMBER_COUNT, comparing(ConsumerGroup::getMemberCount, nullsLast(naturalOrder()))));
 
         public static final ComparatorBuilder<ConsumerGroup> COMPARATOR_BUILDER =
                 new ComparatorBuilder<>(ConsumerGroup.Fields::comparator, ConsumerGroup.Fields.defaultComparator());
@@ -160,6 +176,34 @@ public class ConsumerGroup {
 
     private List<@Valid OffsetAndMetadata> offsets = Collections.emptyList();
 
+    // Available via list offsets operation, or via list operation when the lag monitor is enabled
+
+    @Schema(readOnly = true, description = """
+            Greatest time lag, in milliseconds, of the group's committed offsets.
+            Estimated from the times at which partition end offsets were observed,
+            and null when too few observations are available, e.g. when listing
+            groups while the consumer lag monitor is disabled.
+
+            Groups without a time lag are sorted after all other groups by an
+            ascending time lag sort, and before all other groups by a descending sort.
+            """)
+    private Long timeLag;
+
+    // Available via list operation from the consumer group summary
+
+    @Schema(readOnly = true, description = "Total lag of the group's committed offsets across all partitions")
+    private Long totalLag;
+
+    @Schema(readOnly = true, description = "Greatest lag of the group's committed offset for any single partition")
+    private Long maxPartitionLag;
+
+    @Schema(readOnly = true, description = "Number of members in the group")
+    private Integer memberCount;
+
+    // Names of the topics consumed by the group, used for filtering
+    @JsonIgnore
+    private Set<String> topicNames;
+
     // When a describe error occurs
     private List<Error> errors;
 
@@ -276,6 +320,47 @@ public class ConsumerGroup {
         this.offsets = offsets;
     }
 
+    public Long getTimeLag() {
+        return timeLag;
+    }
+
+    public void setTimeLag(Long timeLag) {
+        this.timeLag = timeLag;
+    }
+
+    public Long getTotalLag() {
+        return totalLag;
+    }
+
+    public void setTotalLag(Long totalLag) {
+        this.totalLag = totalLag;
+    }
+
+    public Long getMaxPartitionLag() {
+        return maxPartitionLag;
+    }
+
+    public void setMaxPartitionLag(Long maxPartitionLag) {
+        this.maxPartitionLag = maxPartitionLag;
+    }
+
+    public Integer getMemberCount() {
+        return memberCount;
+    }
+
+    public void setMemberCount(Integer memberCount) {
+        this.memberCount = memberCount;
+    }
+
+    @JsonIgnore
+    public Set<String> getTopicNames() {
+        return topicNames;
+    }
+
+    public void setTopicNames(Set<String> topicNames) {
+        this.topicNames = topicNames;
+    }
+
     /**
      * Constructs a "cursor" ConsumerGroup from the encoded string representation of the subset
      * of Topic fields used to compare entities for pagination/sorting.
@@ -287,9 +372,18 @@ public class ConsumerGroup {
 
         JsonObject attr = cursor.getJsonObject("attributes");
 
-        return new ConsumerGroup(cursor.getString("id"),
+        ConsumerGroup group = new ConsumerGroup(cursor.getString("id"),
                 attr.getBoolean(Fields.SIMPLE_CONSUMER_GROUP, false),
                 attr.getString(Fields.STATE, null));
+
+        group.setTimeLag(cursorLong(attr, Fields.TIME_LAG));
+        group.setTotalLag(cursorLong(attr, Fields.TOTAL_LAG));
+        group.setMaxPartitionLag(cursorLong(attr, Fields.MAX_PARTITION_LAG));
+
+        Long memberCount = cursorLong(attr, Fields.MEMBER_COUNT);
+        group.setMemberCount(memberCount != null ? memberCount.intValue() : null);
+
+        return group;
     }
 
     public String toCursor(List<String> sortFields) {
@@ -305,8 +399,30 @@ public class ConsumerGroup {
             attrBuilder.add(Fields.STATE, state);
         }
 
+        maybeAddAttribute(attrBuilder, sortFields, Fields.TIME_LAG, timeLag);
+        maybeAddAttribute(attrBuilder, sortFields, Fields.TOTAL_LAG, totalLag);
+        maybeAddAttribute(attrBuilder, sortFields, Fields.MAX_PARTITION_LAG, maxPartitionLag);
+        maybeAddAttribute(attrBuilder, sortFields, Fields.MEMBER_COUNT, memberCount != null ? memberCount.longValue() : null);
+
         cursor.add("attributes", attrBuilder.build());
 
         return Base64.getUrlEncoder().encodeToString(cursor.build().toString().getBytes(StandardCharsets.UTF_8));
     }
+
+    static Long cursorLong(JsonObject attr, String key) {
+        if (attr.containsKey(key) && !attr.isNull(key)) {
+            return attr.getJsonNumber(key).longValue();
+        }
+        return null;
+    }
+
+    static void maybeAddAttribute(JsonObjectBuilder attrBuilder, List<String> sortFields, String key, Long value) {
+        if (sortFields.contains(key)) {
+            if (value != null) {
+                attrBuilder.add(key, value);
+            } else {
+                attrBuilder.addNull(key);
+            }
+        }
+    }
 }
@@ -0,0 +1,44 @@
+package com.github.streamshub.console.api.model;
+
+import java.time.Instant;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+/**
+ * Change to a consumer group detected by the rebalance monitor: a transition
+ * of the group's state, a member joining or leaving the group, or a change to
+ * the partitions assigned to a member.
+ */
+@Schema(name = "ConsumerGroupEvent")
+@JsonInclude(Include.NON_NULL)
+public record ConsumerGroupEvent(
+        @Schema(enumeration = { ConsumerGroupEvent.STATE_CHANGED, ConsumerGroupEvent.MEMBER_JOINED,
+            ConsumerGroupEvent.MEMBER_LEFT, ConsumerGroupEvent.ASSIGNMENT_CHANGED })
+        String type,
+
+        @Schema(description = "Time the change was detected")
+        Instant timestamp,
+
+        String groupId,
+
+        @Schema(nullable = true, description = "State of the group prior to a state change")
+        String previousState,
+
+        @Schema(nullable = true, description = "State of the group following a state change")
+        String state,
+
+        @Schema(nullable = true, description = "Identifier of the member that joined, left, or was reassigned")
+        String memberId,
+
+        @Schema(nullable = true, description = "Description of the member that joined or was reassigned")
+        MemberDescription member) {
+
+    public static final String STATE_CHANGED = "stateChanged";
+    public static final String MEMBER_JOINED = "memberJoined";
+    public static final String MEMBER_LEFT = "memberLeft";
+    public static final String ASSIGNMENT_CHANGED = "assignmentChanged";
+
+}
@@ -18,6 +18,20 @@ import io.xlate.validation.constraints.Expression.ExceptionalValue;
 
 public class ConsumerGroupFilterParams {
 
+    public static final String TOPIC_FILTER = "filter[topic]";
+    public static final String TOTAL_LAG_FILTER = "filter[totalLag]";
+    public static final String MAX_PARTITION_LAG_FILTER = "filter[maxPartitionLag]";
+    public static final String MEMBER_COUNT_FILTER = "filter[memberCount]";
+
+    /**
+     * Filters on fields provided by the cluster's consumer group summary
+     */
+    public static final List<String> SUMMARY_FILTERS = List.of(
+            TOPIC_FILTER,
+            TOTAL_LAG_FILTER,
+            MAX_PARTITION_LAG_FILTER,
+            MEMBER_COUNT_FILTER);
+
     @QueryParam("filter[id]")
     @Parameter(
         description = "Retrieve only consumer groups with an ID matching this parameter",
@@ -25,8 +39,8 @@ public class ConsumerGroupFilterParams {
         explode = Explode.FALSE)
     @Expression(
         when = "self != null",
-        value = "self.operator == 'eq' || self.operator == 'in' || self.operator == 'like'",
-        message = "unsupported filter operator, supported values: [ 'eq', 'in', 'like' ]",
+        value = "self.operator == 'eq' || self.operator == 'neq' || self.operator == 'in' || self.operator == 'like' || self.operator == 're'",
+        message = "unsupported filter operator, supported values: [ 'eq', 'neq', 'in', 'like', 're' ]",
         payload = ErrorCategory.InvalidQueryParameter.class,
         node = "filter[id]")
     @Expression(
@@ -35,6 +49,12 @@ public class ConsumerGroupFilterParams {
         message = "at least 1 operand is required",
         payload = ErrorCategory.InvalidQueryParameter.class,
         node = "filter[id]")
+    @Expression(
+        when = "self != null && self.operator == 're' && self.operands.size() >= 1",
+        value = "self.validPattern",
+        message = "operand must be a valid regular expression of at most 256 characters",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = "filter[id]")
     FetchFilter idFilter;
 
     @QueryParam("filter[state]")
@@ -44,8 +64,8 @@ public class ConsumerGroupFilterParams {
         explode = Explode.FALSE)
     @Expression(
         when = "self != null",
-        value = "self.operator == 'eq' || self.operator == 'in'",
-        message = "unsupported filter operator, supported values: [ 'eq', 'in' ]",
+        value = "self.operator == 'eq' || self.operator == 'neq' || self.operator == 'in'",
+        message = "unsupported filter operator, supported values: [ 'eq', 'neq', 'in' ]",
         payload = ErrorCategory.InvalidQueryParameter.class,
         node = "filter[state]")
     @Expression(
@@ -68,8 +88,107 @@ public class ConsumerGroupFilterParams {
         node = "filter[state]")
     FetchFilter stateFilter;
 
+    @QueryParam(TOPIC_FILTER)
+    @Parameter(
+        description = "Retrieve only consumer groups consuming a topic with a name matching this parameter",
+        schema = @Schema(implementation = String[].class, minItems = 2),
+        explode = Explode.FALSE)
+    @Expression(
+        when = "self != null",
+        value = "self.operator == 'eq' || self.operator == 'in' || self.operator == 'like'",
+        message = "unsupported filter operator, supported values: [ 'eq', 'in', 'like' ]",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = TOPIC_FILTER)
+    @Expression(
+        when = "self != null",
+        value = "self.operands.size() >= 1",
+        message = "at least 1 operand is required",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = TOPIC_FILTER)
+    FetchFilter topicFilter;
+
+    @QueryParam(TOTAL_LAG_FILTER)
+    @Parameter(
+        description = "Retrieve only consumer groups with a total lag matching this parameter. "
+            + "Evaluated using the lag most recently calculated by the consumer lag monitor, if enabled.",
+        schema = @Schema(implementation = String[].class, minItems = 2),
+        explode = Explode.FALSE)
+    @Expression(
+        when = "self != null",
+        value = "self.operator == 'eq' || self.operator == 'gt' || self.operator == 'gte' || self.operator == 'lt' || self.operator == 'lte'",
+        message = "unsupported filter operator, supported values: [ 'eq', 'gt', 'gte', 'lt', 'lte' ]",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = TOTAL_LAG_FILTER)
+    @Expression(
+        when = "self != null",
+        value = "self.operands.size() == 1",
+        message = "exactly 1 operand is required",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = TOTAL_LAG_FILTER)
+    @Expression(
+        when = "self != null && self.operands.size() == 1",
+        value = "Long.parseLong(self.firstOperand) >= 0",
+        exceptionalValue = ExceptionalValue.FALSE,
+        message = "operand must be a non-negative integer",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = TOTAL_LAG_FILTER)
+    FetchFilter totalLagFilter;
+
+    @QueryParam(MAX_PARTITION_LAG_FILTER)
+    @Parameter(
+        description = "Retrieve only consumer groups with a greatest partition lag matching this parameter. "
+            + "Evaluated using the lag most recently calculated by the consumer lag monitor, if enabled.",
+        schema = @Schema(implementation = String[].class, minItems = 2),
+        explode = Explode.FALSE)
+    @Expression(
+        when = "self != null",
+        value = "self.operator == 'eq' || self.operator == 'gt' || self.operator == 'gte' || self.operator == 'lt' || self.operator == 'lte'",
+        message = "unsupported filter operator, supported values: [ 'eq', 'gt', 'gte', 'lt', 'lte' ]",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = MAX_PARTITION_LAG_FILTER)
+    @Expression(
+        when = "self != null",
+        value = "self.operands.size() == 1",
+        message = "exactly 1 operand is required",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = MAX_PARTITION_LAG_FILTER)
+    @Expression(
+        when = "self != null && self.operands.size() == 1",
+        value = "Long.parseLong(self.firstOperand) >= 0",
+        exceptionalValue = ExceptionalValue.FALSE,
+        message = "operand must be a non-negative integer",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = MAX_PARTITION_LAG_FILTER)
+    FetchFilter maxPartitionLagFilter;
+
+    @QueryParam(MEMBER_COUNT_FILTER)
+    @Parameter(
+        description = "Retrieve only consumer groups with a number of members matching this parameter",
+        schema = @Schema(implementation = String[].class, minItems = 2),
+        explode = Explode.FALSE)
+    @Expression(
+        when = "self != null",
+        value = "self.operator == 'eq' || self.operator == 'gt' || self.operator == 'gte' || self.operator == 'lt' || self.operator == 'lte'",
+        message = "unsupported filter operator, supported values: [ 'eq', 'gt', 'gte', 'lt', 'lte' ]",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = MEMBER_COUNT_FILTER)
+    @Expression(
+        when = "self != null",
+        value = "self.operands.size() == 1",
+        message = "exactly 1 operand is required",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = MEMBER_COUNT_FILTER)
+    @Expression(
+        when = "self != null && self.operands.size() == 1",
+        value = "Integer.parseInt(self.firstOperand) >= 0",
+        exceptionalValue = ExceptionalValue.FALSE,
+        message = "operand must be a non-negative integer",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = MEMBER_COUNT_FILTER)
+    FetchFilter memberCountFilter;
+
     public List<Predicate<ConsumerGroup>> buildPredicates() {
-        List<Predicate<ConsumerGroup>> predicates = new ArrayList<>(2);
+        List<Predicate<ConsumerGroup>> predicates = new ArrayList<>(6);
 
         if (idFilter != null) {
             predicates.add(new FetchFilterPredicate<>(idFilter, ConsumerGroup::getGroupId));
@@ -79,6 +198,24 @@ public class ConsumerGroupFilterParams {
             predicates.add(new FetchFilterPredicate<>("filter[state]", stateFilter, ConsumerGroup::getState));
         }
 
+        if (topicFilter != null) {
+            predicates.add(FetchFilterPredicate.anyMatch(TOPIC_FILTER, topicFilter, ConsumerGroup::getTopicNames));
+        }
+
+        if (totalLagFilter != null) {
+            predicates.add(new FetchFilterPredicate<>(TOTAL_LAG_FILTER, totalLagFilter, Long::valueOf, ConsumerGroup::getTotalLag));
+        }
+
+        if (maxPartitionLagFilter != null) {
+            predicates.add(new FetchFilterPredicate<>(MAX_PARTITION_LAG_FILTER, maxPartitionLagFilter, Long::valueOf,
+                    ConsumerGroup::getMaxPartitionLag));
+        }
+
+        if (memberCountFilter != null) {
+            predicates.add(new FetchFilterPredicate<>(MEMBER_COUNT_FILTER, memberCountFilter, Integer::valueOf,
+                    ConsumerGroup::getMemberCount));
+        }
+
         return predicates;
     }
 
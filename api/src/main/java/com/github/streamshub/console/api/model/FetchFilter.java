@@ -1,9 +1,18 @@
 package com.github.streamshub.console.api.model;
 
 import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 public class FetchFilter {
 
+    static final String REGEX_OPERATOR = "re";
+
+    /**
+     * Maximum length of a regular expression given with the {@code re} operator
+     */
+    public static final int MAX_PATTERN_LENGTH = 256;
+
     final String rawFilter;
     final String operator;
     final List<String> operands;
@@ -22,7 +31,12 @@ public class FetchFilter {
             if (operator.isBlank()) {
                 operator = "eq";
             }
-            operands = List.of(filter.substring(operatorIdx + 1).split(","));
+            if (REGEX_OPERATOR.equals(operator)) {
+                // Regular expressions may contain commas, the remainder is a single operand
+                operands = List.of(filter.substring(operatorIdx + 1));
+            } else {
+                operands = List.of(filter.substring(operatorIdx + 1).split(","));
+            }
         } else {
             operator = "eq";
             operands = List.of(filter);
@@ -56,4 +70,25 @@ public class FetchFilter {
     public String getFirstOperand() {
         return operands.get(0);
     }
+
+    /**
+     * Determine whether the first operand is a valid regular expression, for use
+     * in validating filters using the {@code re} operator.
+     *
+     * @return true if the first operand is no longer than
+     *         {@linkplain #MAX_PATTERN_LENGTH} and may be compiled to a
+     *         {@linkplain Pattern}, otherwise false
+     */
+    public boolean isValidPattern() {
+        if (getFirstOperand().length() > MAX_PATTERN_LENGTH) {
+            return false;
+        }
+
+        try {
+            Pattern.compile(getFirstOperand());
+            return true;
+        } catch (PatternSyntaxException e) {
+            return false;
+        }
+    }
 }
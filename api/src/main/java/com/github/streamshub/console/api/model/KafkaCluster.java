@@ -92,6 +92,12 @@ public class KafkaCluster {
                         rsrc.addMeta("page", listSupport.buildPageMeta(entry::toCursor));
                         rsrc.addMeta("configured", entry.isConfigured());
                         rsrc.addMeta("managed", entry.isManaged());
+                        if (entry.getCircuitState() != null) {
+                            rsrc.addMeta("circuitState", entry.getCircuitState());
+                        }
+                        if (entry.getMeanLatencyMs() != null) {
+                            rsrc.addMeta("meanLatencyMs", entry.getMeanLatencyMs());
+                        }
                         return rsrc;
                     })
                     .toList());
@@ -136,6 +142,10 @@ public class KafkaCluster {
     List<String> nodePools;
     @JsonIgnore
     boolean managed;
+    @JsonIgnore
+    String circuitState; // configured clusters only
+    @JsonIgnore
+    Long meanLatencyMs; // configured clusters with requests recorded only
 
     public KafkaCluster(String id, List<Node> nodes, Node controller, List<String> authorizedOperations) {
         super();
@@ -281,4 +291,20 @@ public class KafkaCluster {
     public boolean isManaged() {
         return managed;
     }
+
+    public String getCircuitState() {
+        return circuitState;
+    }
+
+    public void setCircuitState(String circuitState) {
+        this.circuitState = circuitState;
+    }
+
+    public Long getMeanLatencyMs() {
+        return meanLatencyMs;
+    }
+
+    public void setMeanLatencyMs(Long meanLatencyMs) {
+        this.meanLatencyMs = meanLatencyMs;
+    }
 }
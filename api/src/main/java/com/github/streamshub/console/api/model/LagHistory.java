@@ -0,0 +1,210 @@
+package com.github.streamshub.console.api.model;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.github.streamshub.console.api.support.ConsumerGroupLagHistory.Samples;
+
+/**
+ * Recent lag history of a consumer group, with the rates of consumption and
+ * production calculated over the retained history.
+ */
+@Schema(name = "ConsumerGroupLagHistoryAttributes")
+@JsonInclude(Include.NON_NULL)
+public class LagHistory {
+
+    public static final String MAX_SAMPLES_PARAM = "maxSamples";
+    public static final int MAX_SAMPLES_DEFAULT = 60;
+    public static final int MAX_SAMPLES_MAX = 1000;
+
+    @Schema(name = "ConsumerGroupLagHistoryDocument")
+    public static final class LagHistoryDocument extends DataSingleton<LagHistoryResource> {
+        public LagHistoryDocument(String groupId, LagHistory attributes) {
+            super(new LagHistoryResource(groupId, attributes));
+        }
+    }
+
+    @Schema(name = "ConsumerGroupLagHistory")
+    public static final class LagHistoryResource extends Resource<LagHistory> {
+        public LagHistoryResource(String groupId, LagHistory attributes) {
+            super(groupId, "consumerGroupLagHistory", attributes);
+        }
+    }
+
+    public record Sample(
+            Instant timestamp,
+            long committedOffset,
+            long endOffset,
+            long lag) {
+    }
+
+    @JsonInclude(Include.NON_NULL)
+    public record PartitionLagHistory(
+            String topicId,
+            String topicName,
+            int partition,
+
+            @Schema(description = "Lag of the partition's most recent sample")
+            long lag,
+
+            @Schema(description = "Average rate at which the group consumed records, in records per second")
+            Double consumptionRate,
+
+            @Schema(description = "Average rate at which records were written to the partition, in records per second")
+            Double productionRate,
+
+            @Schema(description = """
+                Estimated time, in milliseconds, for the group to consume the partition's lag at the
+                current rates. Not present when the group is not catching up.
+                """)
+            Long catchUpTime,
+
+            List<Sample> samples) {
+    }
+
+    @Schema(description = "Total lag of the group's most recent samples")
+    private final long lag;
+
+    @Schema(description = "Average rate at which the group consumed records from all partitions, in records per second")
+    private final Double consumptionRate;
+
+    @Schema(description = "Average rate at which records were written to the group's partitions, in records per second")
+    private final Double productionRate;
+
+    @Schema(description = """
+        Estimated time, in milliseconds, for the group to consume its total lag at the current rates.
+        Not present when the group is not catching up.
+        """)
+    private final Long catchUpTime;
+
+    private final List<PartitionLagHistory> partitions;
+
+    LagHistory(long lag, Double consumptionRate, Double productionRate, List<PartitionLagHistory> partitions) {
+        this.lag = lag;
+        this.consumptionRate = consumptionRate;
+        this.productionRate = productionRate;
+        this.catchUpTime = catchUpTime(lag, consumptionRate, productionRate);
+        this.partitions = partitions;
+    }
+
+    /**
+     * Build the lag history of a group from the samples of each of its
+     * partitions. The rates are calculated from the first and last samples of
+     * each partition, prior to downsampling.
+     *
+     * @param history    samples of each partition
+     * @param topicIds   map of topic names to Ids
+     * @param maxSamples maximum number of samples to include for each partition
+     * @return the group's lag history
+     */
+    public static LagHistory fromSamples(Map<TopicPartition, Samples> history, Map<String, String> topicIds, int maxSamples) {
+        List<PartitionLagHistory> partitions = new ArrayList<>(history.size());
+        long totalLag = 0;
+        Double totalConsumption = null;
+        Double totalProduction = null;
+
+        for (var entry : history.entrySet()) {
+            TopicPartition partition = entry.getKey();
+            Samples samples = entry.getValue();
+
+            if (samples.size() == 0) {
+                continue;
+            }
+
+            int last = samples.size() - 1;
+            long lag = Math.max(0, samples.endOffsets()[last] - samples.committedOffsets()[last]);
+            double seconds = (samples.timestamps()[last] - samples.timestamps()[0]) / 1000d;
+            Double consumptionRate = null;
+            Double productionRate = null;
+
+            if (seconds > 0) {
+                consumptionRate = (samples.committedOffsets()[last] - samples.committedOffsets()[0]) / seconds;
+                productionRate = (samples.endOffsets()[last] - samples.endOffsets()[0]) / seconds;
+                totalConsumption = totalConsumption != null ? totalConsumption + consumptionRate : consumptionRate;
+                totalProduction = totalProduction != null ? totalProduction + productionRate : productionRate;
+            }
+
+            totalLag += lag;
+
+            partitions.add(new PartitionLagHistory(
+                    topicIds.get(partition.topic()),
+                    partition.topic(),
+                    partition.partition(),
+                    lag,
+                    consumptionRate,
+                    productionRate,
+                    catchUpTime(lag, consumptionRate, productionRate),
+                    downsample(samples, maxSamples)));
+        }
+
+        partitions.sort(Comparator.comparing(PartitionLagHistory::topicName)
+                .thenComparingInt(PartitionLagHistory::partition));
+
+        return new LagHistory(totalLag, totalConsumption, totalProduction, partitions);
+    }
+
+    /**
+     * Select at most {@code maxSamples} samples at evenly spaced positions,
+     * always including the most recent sample. Since offsets only increase,
+     * the last sample of each interval represents the whole interval.
+     */
+    static List<Sample> downsample(Samples samples, int maxSamples) {
+        int size = samples.size();
+        int count = Math.min(size, maxSamples);
+        List<Sample> result = new ArrayList<>(count);
+
+        for (int i = 1; i <= count; i++) {
+            int index = (int) ((long) i * size / count) - 1;
+            long committed = samples.committedOffsets()[index];
+            long end = samples.endOffsets()[index];
+
+            result.add(new Sample(
+                    Instant.ofEpochMilli(samples.timestamps()[index]),
+                    committed,
+                    end,
+                    Math.max(0, end - committed)));
+        }
+
+        return result;
+    }
+
+    static Long catchUpTime(long lag, Double consumptionRate, Double productionRate) {
+        if (lag == 0) {
+            return 0L;
+        }
+
+        if (consumptionRate == null || productionRate == null || consumptionRate <= productionRate) {
+            return null;
+        }
+
+        return Math.round(lag / (consumptionRate - productionRate) * 1000);
+    }
+
+    public long getLag() {
+        return lag;
+    }
+
+    public Double getConsumptionRate() {
+        return consumptionRate;
+    }
+
+    public Double getProductionRate() {
+        return productionRate;
+    }
+
+    public Long getCatchUpTime() {
+        return catchUpTime;
+    }
+
+    public List<PartitionLagHistory> getPartitions() {
+        return partitions;
+    }
+}
@@ -17,7 +17,7 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.github.streamshub.console.api.support.ErrorCategory;
-import com.github.streamshub.console.api.support.KafkaOffsetSpec;
+import com.github.streamshub.console.api.support.KafkaResetOffsetSpec;
 import com.github.streamshub.console.api.support.KafkaUuid;
 
 @JsonInclude(value = Include.NON_NULL)
@@ -52,18 +52,23 @@ public record OffsetAndMetadata(
                 2. `latest` - reset to the latest/last offset available
                 3. `maxTimestamp` - reset to the offset having the greatest timestamp
                 4. literal timestamp - reset to the offset having a timestamp equal to or greater than the given timestamp
-
-                If no offset exists matching the `maxTimestamp` or a literal timestamp spec, no changes will
-                be made to the consumer group offset(s) for the partition.
+                5. `shift-by:<number of records>` - move the committed offset forward by the given number
+                   of records, or back when negative, limited to the earliest and latest offsets available.
+                   Partitions without a committed offset are not changed.
+                6. `duration:<ISO-8601 duration>` - reset to the offset having a timestamp equal to or greater
+                   than the current time less the given duration, e.g. `duration:PT1H`
+
+                If no offset exists matching the `maxTimestamp`, literal timestamp, or `duration` spec, no
+                changes will be made to the consumer group offset(s) for the partition.
                 """,
             implementation = Object.class,
-            oneOf = { Long.class, OffsetSpec.class })
+            oneOf = { Long.class, ResetOffsetSpec.class })
         @JsonDeserialize(using = OffsetAndMetadata.EitherLongOrStringDeserializer.class)
         @NotNull(payload = ErrorCategory.InvalidResource.class)
         Either<
             @Min(value = 0, payload = ErrorCategory.InvalidResource.class)
             Long,
-            @KafkaOffsetSpec(payload = ErrorCategory.InvalidResource.class)
+            @KafkaResetOffsetSpec(payload = ErrorCategory.InvalidResource.class)
             String
         > offset,
 
@@ -73,13 +78,23 @@ public record OffsetAndMetadata(
         @Schema(readOnly = true)
         Long lag,
 
+        @Schema(
+            readOnly = true,
+            description = """
+                Estimated time, in milliseconds, since the record at the committed offset was written
+                to the partition. Zero when the group has no lag for the partition. The estimate is
+                derived from the end offsets of the partition observed over time and is not available
+                until the partition's end offset has been observed more than once.
+                """)
+        Long timeLag,
+
         String metadata,
 
         Integer leaderEpoch
 ) {
 
-    @Schema(ref = "OffsetSpec")
-    private static class OffsetSpec { }
+    @Schema(ref = "ResetOffsetSpec")
+    static class ResetOffsetSpec { }
 
     static class EitherLongOrStringDeserializer extends StdDeserializer<Either<Long, String>> {
         private static final long serialVersionUID = 1L;
@@ -0,0 +1,153 @@
+package com.github.streamshub.console.api.model;
+
+import java.util.List;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.github.streamshub.console.api.support.ErrorCategory;
+import com.github.streamshub.console.api.support.KafkaResetOffsetSpec;
+import com.github.streamshub.console.api.support.KafkaUuid;
+
+import io.xlate.validation.constraints.Expression;
+
+/**
+ * Reset of the committed offsets of many consumer groups in a single
+ * operation. The response carries the offsets of each group partition before
+ * and after the reset, whether or not the reset was only a dry run.
+ */
+@Schema(name = "ConsumerGroupOffsetResetAttributes")
+@JsonInclude(Include.NON_NULL)
+@Expression(
+    value = "self.offset != null || self.delta != null",
+    message = "one of offset or delta is required",
+    node = "offset",
+    payload = ErrorCategory.InvalidResource.class
+)
+@Expression(
+    when = "self.offset != null",
+    value = "self.delta == null",
+    message = "delta may not be used when offset is present",
+    node = "delta",
+    payload = ErrorCategory.InvalidResource.class
+)
+public record OffsetReset(
+        @Schema(description = "Identifiers of the consumer groups to reset")
+        @NotEmpty(payload = ErrorCategory.InvalidResource.class)
+        List<@NotBlank(payload = ErrorCategory.InvalidResource.class) String> groupIds,
+
+        @Schema(
+            nullable = true,
+            description = """
+                Identifiers of the topics to reset. Every partition of each topic is reset for each group.
+                When not present, the partitions with a committed offset in each group are reset.
+                """)
+        List<@KafkaUuid(payload = ErrorCategory.InvalidResource.class, message = "Invalid topic identifier") String> topicIds,
+
+        @Schema(
+            nullable = true,
+            description = """
+                Target offset of each partition, either a literal offset or any valid offset
+                specification, as used when patching a single consumer group. Literal offsets are
+                limited to the range of offsets available in each partition. A partition without a record
+                at or after a timestamp target is reset to its end offset. May not be used with `delta`.
+                """,
+            implementation = Object.class,
+            oneOf = { Long.class, OffsetAndMetadata.ResetOffsetSpec.class })
+        @JsonDeserialize(using = OffsetAndMetadata.EitherLongOrStringDeserializer.class)
+        Either<
+            @Min(value = 0, payload = ErrorCategory.InvalidResource.class)
+            Long,
+            @KafkaResetOffsetSpec(payload = ErrorCategory.InvalidResource.class)
+            String
+        > offset,
+
+        @Schema(
+            nullable = true,
+            description = """
+                Number of records by which to move each committed offset, negative to rewind.
+                The result is limited to the range of offsets available in the partition. Partitions
+                without a committed offset are not reset. May not be used with `offset`.
+                """)
+        Long delta,
+
+        @Schema(readOnly = true, description = "Offsets of each group partition before and after the reset")
+        List<GroupOffsetReset> groups
+) {
+
+    @Schema(name = "ConsumerGroupOffsetResetDocument")
+    public static final class OffsetResetDocument extends DataSingleton<OffsetResetResource> {
+        @JsonCreator
+        public OffsetResetDocument(@JsonProperty("data") OffsetResetResource data) {
+            super(data);
+        }
+
+        public OffsetResetDocument(OffsetReset data) {
+            this(new OffsetResetResource(data));
+        }
+    }
+
+    @Schema(name = "ConsumerGroupOffsetReset")
+    @Expression(
+        when = "self.type != null",
+        value = "self.type == 'consumerGroupOffsetResets'",
+        message = "resource type conflicts with operation",
+        node = "type",
+        payload = ErrorCategory.ResourceConflict.class
+    )
+    public static final class OffsetResetResource extends Resource<OffsetReset> {
+        @JsonCreator
+        public OffsetResetResource(String type, OffsetReset attributes) {
+            super(null, type, attributes);
+        }
+
+        public OffsetResetResource(OffsetReset attributes) {
+            super(null, "consumerGroupOffsetResets", attributes);
+        }
+    }
+
+    @JsonInclude(Include.NON_NULL)
+    public record GroupOffsetReset(
+            String groupId,
+            List<PartitionOffsetReset> partitions,
+
+            @Schema(nullable = true, description = "Reason the group's offsets were not reset")
+            Error error) {
+    }
+
+    @JsonInclude(Include.NON_NULL)
+    public record PartitionOffsetReset(
+            String topicId,
+            String topicName,
+            int partition,
+
+            @Schema(nullable = true, description = "Committed offset prior to the reset, if any")
+            Long currentOffset,
+
+            long targetOffset,
+
+            @Schema(nullable = true, description = "Difference between the target and current offsets")
+            Long delta) {
+    }
+
+    public OffsetReset withGroups(List<GroupOffsetReset> groups) {
+        return new OffsetReset(groupIds, topicIds, offset, delta, groups);
+    }
+
+    // EL does not (yet) support record properties
+    public Either<Long, String> getOffset() {
+        return offset;
+    }
+
+    public Long getDelta() {
+        return delta;
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.streamshub.console.api.model;
 
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +21,7 @@ public class PartitionInfo {
 
     final int partition;
     final List<PartitionReplica> replicas;
+    final Map<Integer, PartitionReplica> replicasByNode;
     final Integer leaderId;
 
     @Schema(implementation = Object.class, oneOf = { OffsetInfo.class, Error.class })
@@ -34,6 +36,8 @@ public class PartitionInfo {
         this.partition = partition;
         this.leaderId = leaderId;
         this.replicas = replicas;
+        this.replicasByNode = new HashMap<>(replicas.size());
+        replicas.forEach(replica -> replicasByNode.put(replica.nodeId(), replica));
     }
 
     public static PartitionInfo fromKafkaModel(TopicPartitionInfo info) {
@@ -125,8 +129,6 @@ public class PartitionInfo {
             return Optional.empty();
         }
 
-        return replicas.stream()
-            .filter(replica -> replica.nodeId() == nodeId)
-            .findFirst();
+        return Optional.ofNullable(replicasByNode.get(nodeId));
     }
 }
@@ -28,6 +28,7 @@ import com.github.streamshub.console.api.support.ComparatorBuilder;
 import com.github.streamshub.console.api.support.ListRequestContext;
 
 import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
 import static java.util.Comparator.nullsLast;
 
 @Schema(name = "Topic")
@@ -57,7 +58,9 @@ public class Topic extends RelatableResource<Topic.Attributes, Topic.Relationshi
         static final Map<String, Map<Boolean, Comparator<Topic>>> COMPARATORS = ComparatorBuilder.bidirectional(
                 Map.of("id", ID_COMPARATOR,
                         NAME, comparing(topic -> topic.attributes.name),
-                        TOTAL_LEADER_LOG_BYTES, nullsLast(comparing(topic -> topic.attributes.getTotalLeaderLogBytes()))));
+                        TOTAL_LEADER_LOG_BYTES, comparing(
+                                (Topic topic) -> topic.attributes.getTotalLeaderLogBytes(),
+                                nullsLast(naturalOrder()))));
 
         public static final ComparatorBuilder<Topic> COMPARATOR_BUILDER =
                 new ComparatorBuilder<>(Topic.Fields::comparator, Topic.Fields.defaultComparator());
@@ -138,6 +141,27 @@ public class Topic extends RelatableResource<Topic.Attributes, Topic.Relationshi
         @Schema(implementation = Object.class, oneOf = { PartitionInfo[].class, Error.class })
         Either<List<PartitionInfo>, Error> partitions;
 
+        /**
+         * Partitions indexed by partition number. Maintained alongside
+         * {@link #partitions} to avoid a linear scan of the partition list for
+         * each result when augmenting topics having many partitions.
+         */
+        @JsonIgnore
+        PartitionInfo[] partitionIndex;
+
+        /**
+         * Values of {@link #status()} and {@link #getTotalLeaderLogBytes()}
+         * captured once augmentation of the topic is complete. Both are derived
+         * from every partition and are otherwise re-computed on each access,
+         * e.g. by each comparison when sorting.
+         */
+        @JsonIgnore
+        boolean derivedMemoized;
+        @JsonIgnore
+        String memoizedStatus;
+        @JsonIgnore
+        BigInteger memoizedTotalLeaderLogBytes;
+
         @JsonProperty
         @Schema(implementation = Object.class, oneOf = { String[].class, Error.class })
         Either<List<String>, Error> authorizedOperations;
@@ -151,8 +175,42 @@ public class Topic extends RelatableResource<Topic.Attributes, Topic.Relationshi
             this.internal = internal;
         }
 
+        void setPartitions(Either<List<PartitionInfo>, Error> partitions) {
+            this.partitions = partitions;
+            this.derivedMemoized = false;
+            this.partitionIndex = partitions.getOptionalPrimary()
+                    .map(Attributes::indexPartitions)
+                    .orElse(null);
+        }
+
+        static PartitionInfo[] indexPartitions(List<PartitionInfo> partitions) {
+            int size = partitions.stream()
+                    .mapToInt(PartitionInfo::getPartition)
+                    .max()
+                    .orElse(-1) + 1;
+
+            PartitionInfo[] index = new PartitionInfo[size];
+
+            for (PartitionInfo partition : partitions) {
+                index[partition.getPartition()] = partition;
+            }
+
+            return index;
+        }
+
+        void memoizeDerivedAttributes() {
+            derivedMemoized = false;
+            memoizedStatus = status();
+            memoizedTotalLeaderLogBytes = getTotalLeaderLogBytes();
+            derivedMemoized = true;
+        }
+
         @JsonProperty
         public String status() {
+            if (derivedMemoized) {
+                return memoizedStatus;
+            }
+
             if (partitions == null) {
                 return "Unknown";
             }
@@ -205,6 +263,14 @@ public class Topic extends RelatableResource<Topic.Attributes, Topic.Relationshi
                 may also include the size of remote replica storage.
                 """)
         public BigInteger getTotalLeaderLogBytes() {
+            if (derivedMemoized) {
+                return memoizedTotalLeaderLogBytes;
+            }
+
+            if (partitions == null) {
+                return null;
+            }
+
             return partitions.getOptionalPrimary()
                 .map(Collection::stream)
                 .map(p -> p.map(PartitionInfo::leaderLocalStorage)
@@ -233,10 +299,10 @@ public class Topic extends RelatableResource<Topic.Attributes, Topic.Relationshi
     public static Topic fromTopicDescription(org.apache.kafka.clients.admin.TopicDescription description) {
         Topic topic = new Topic(description.name(), description.isInternal(), description.topicId().toString());
 
-        topic.attributes.partitions = Either.of(description.partitions()
+        topic.attributes.setPartitions(Either.of(description.partitions()
                 .stream()
                 .map(PartitionInfo::fromKafkaModel)
-                .toList());
+                .toList()));
 
         topic.attributes.authorizedOperations = Either.of(Optional.ofNullable(description.authorizedOperations())
                 .map(Collection::stream)
@@ -309,9 +375,9 @@ public class Topic extends RelatableResource<Topic.Attributes, Topic.Relationshi
     }
 
     public void addPartitions(Either<Topic, Throwable> description) {
-        attributes.partitions = description.ifPrimaryOrElse(
+        attributes.setPartitions(description.ifPrimaryOrElse(
                 Topic::partitions,
-                thrown -> Error.forThrowable(thrown, "Unable to describe topic"));
+                thrown -> Error.forThrowable(thrown, "Unable to describe topic")));
     }
 
     public void addAuthorizedOperations(Either<Topic, Throwable> description) {
@@ -326,6 +392,16 @@ public class Topic extends RelatableResource<Topic.Attributes, Topic.Relationshi
                 thrown -> Error.forThrowable(thrown, "Unable to describe topic configs"));
     }
 
+    /**
+     * Capture the current values of attributes derived from the topic's
+     * partitions. Called once the partitions, offsets, and log sizes have been
+     * attached to the topic. Subsequently setting the partitions discards the
+     * captured values.
+     */
+    public void memoizeDerivedAttributes() {
+        attributes.memoizeDerivedAttributes();
+    }
+
     public String name() {
         return attributes.name;
     }
@@ -342,6 +418,24 @@ public class Topic extends RelatableResource<Topic.Attributes, Topic.Relationshi
         return attributes.partitions;
     }
 
+    /**
+     * Find the partition with the given partition number using the topic's
+     * partition index.
+     *
+     * @param partitionNo the partition number
+     * @return the partition, or empty if the partitions of this topic are not
+     *         available or the partition does not exist
+     */
+    public Optional<PartitionInfo> partition(int partitionNo) {
+        PartitionInfo[] index = attributes.partitionIndex;
+
+        if (index == null || partitionNo < 0 || partitionNo >= index.length) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(index[partitionNo]);
+    }
+
     public Either<List<String>, Error> authorizedOperations() {
         return attributes.authorizedOperations;
     }
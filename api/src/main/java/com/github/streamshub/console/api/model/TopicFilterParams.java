@@ -18,6 +18,9 @@ import io.xlate.validation.constraints.Expression;
 
 public class TopicFilterParams {
 
+    public static final String NAME_FILTER = "filter[name]";
+    public static final String STATUS_FILTER = "filter[status]";
+
     @QueryParam("filter[id]")
     @Parameter(
         description = "Retrieve only topics with an ID matching this parameter",
@@ -25,8 +28,8 @@ public class TopicFilterParams {
         explode = Explode.FALSE)
     @Expression(
         when = "self != null",
-        value = "self.operator == 'eq' || self.operator == 'in'",
-        message = "unsupported filter operator, supported values: [ 'eq', 'in' ]",
+        value = "self.operator == 'eq' || self.operator == 'neq' || self.operator == 'in'",
+        message = "unsupported filter operator, supported values: [ 'eq', 'neq', 'in' ]",
         payload = ErrorCategory.InvalidQueryParameter.class,
         node = "filter[id]")
     @Expression(
@@ -44,8 +47,8 @@ public class TopicFilterParams {
         explode = Explode.FALSE)
     @Expression(
         when = "self != null",
-        value = "self.operator == 'eq' || self.operator == 'in' || self.operator == 'like'",
-        message = "unsupported filter operator, supported values: [ 'eq', 'in', 'like' ]",
+        value = "self.operator == 'eq' || self.operator == 'neq' || self.operator == 'in' || self.operator == 'like' || self.operator == 're'",
+        message = "unsupported filter operator, supported values: [ 'eq', 'neq', 'in', 'like', 're' ]",
         payload = ErrorCategory.InvalidQueryParameter.class,
         node = "filter[name]")
     @Expression(
@@ -54,6 +57,12 @@ public class TopicFilterParams {
         message = "at least 1 operand is required",
         payload = ErrorCategory.InvalidQueryParameter.class,
         node = "filter[name]")
+    @Expression(
+        when = "self != null && self.operator == 're' && self.operands.size() >= 1",
+        value = "self.validPattern",
+        message = "operand must be a valid regular expression of at most 256 characters",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = "filter[name]")
     FetchFilter nameFilter;
 
     @QueryParam("filter[visibility]")
@@ -64,8 +73,8 @@ public class TopicFilterParams {
         explode = Explode.FALSE)
     @Expression(
         when = "self != null",
-        value = "self.operator == 'eq' || self.operator == 'in'",
-        message = "unsupported filter operator, supported values: [ 'eq', 'in' ]",
+        value = "self.operator == 'eq' || self.operator == 'neq' || self.operator == 'in'",
+        message = "unsupported filter operator, supported values: [ 'eq', 'neq', 'in' ]",
         payload = ErrorCategory.InvalidQueryParameter.class,
         node = "filter[visibility]")
     @Expression(
@@ -83,8 +92,8 @@ public class TopicFilterParams {
         explode = Explode.FALSE)
     @Expression(
         when = "self != null",
-        value = "self.operator == 'eq' || self.operator == 'in'",
-        message = "unsupported filter operator, supported values: [ 'eq', 'in' ]",
+        value = "self.operator == 'eq' || self.operator == 'neq' || self.operator == 'in'",
+        message = "unsupported filter operator, supported values: [ 'eq', 'neq', 'in' ]",
         payload = ErrorCategory.InvalidQueryParameter.class,
         node = "filter[status]")
     @Expression(
@@ -101,7 +110,7 @@ public class TopicFilterParams {
         predicates.add(new FetchFilterPredicate<>(visibilityFilter, Topic::visibility));
 
         if (nameFilter != null) {
-            predicates.add(new FetchFilterPredicate<>(nameFilter, Topic::name));
+            predicates.add(new FetchFilterPredicate<>(NAME_FILTER, nameFilter, Topic::name));
         }
 
         if (idFilter != null) {
@@ -109,7 +118,7 @@ public class TopicFilterParams {
         }
 
         if (statusFilter != null) {
-            predicates.add(new FetchFilterPredicate<>(statusFilter, Topic::status));
+            predicates.add(new FetchFilterPredicate<>(STATUS_FILTER, statusFilter, Topic::status));
         }
 
         return predicates;
@@ -83,6 +83,25 @@
                                               ]
                                             }
                                             """))),
+                    @APIResponse(name = "ServiceUnavailable",
+                            description = "Service temporarily unable to handle the request",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON,
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = @ExampleObject(name = "Service Unavailable", value = """
+                                            {
+                                              "errors": [
+                                                {
+                                                  "type": "error",
+                                                  "id": "2fa1c4c0-abb1-43b9-a4d6-627e05d19ddb",
+                                                  "status": "503",
+                                                  "code": "5031",
+                                                  "title": "Service unavailable",
+                                                  "detail": "Too many concurrent requests, retry later"
+                                                }
+                                              ]
+                                            }
+                                            """))),
                     @APIResponse(name = "ServerTimeout",
                             description = "Backend service timeout",
                             content = @Content(
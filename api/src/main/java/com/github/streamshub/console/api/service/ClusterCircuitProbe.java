@@ -0,0 +1,95 @@
+package com.github.streamshub.console.api.service;
+
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Startup;
+import jakarta.inject.Inject;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeClusterOptions;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.github.streamshub.console.api.support.ClusterCircuitBreaker;
+import com.github.streamshub.console.api.support.KafkaContext;
+
+/**
+ * Periodically probes each Kafka cluster with an open circuit using a
+ * {@code describeCluster} request, closing the circuit as soon as the cluster
+ * responds rather than waiting for the next trial request. Only clusters
+ * having an Admin client shared by all requests are probed. The circuits of
+ * other clusters are closed by a successful trial request.
+ */
+@ApplicationScoped
+public class ClusterCircuitProbe {
+
+    @Inject
+    Logger logger;
+
+    @Inject
+    ScheduledExecutorService scheduler;
+
+    /**
+     * All Kafka contexts known to the application
+     */
+    @Inject
+    Map<String, KafkaContext> kafkaContexts;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.circuit-breaker.failure-threshold", defaultValue = "3")
+    int failureThreshold;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.circuit-breaker.probe-interval-ms", defaultValue = "5000")
+    long probeIntervalMs;
+
+    ScheduledFuture<?> probeTask;
+
+    void onStartup(@Observes Startup event) {
+        if (failureThreshold > 0) {
+            probeTask = scheduler.scheduleWithFixedDelay(this::probe, probeIntervalMs, probeIntervalMs,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (probeTask != null) {
+            probeTask.cancel(true);
+        }
+    }
+
+    void probe() {
+        kafkaContexts.forEach((clusterId, kafkaContext) -> {
+            ClusterCircuitBreaker breaker = kafkaContext.circuitBreaker();
+
+            if (!kafkaContext.adminInitialized() || breaker.state() == ClusterCircuitBreaker.State.CLOSED) {
+                // No shared Admin client in use or nothing to probe
+                return;
+            }
+
+            Admin adminClient = kafkaContext.admin();
+
+            adminClient.describeCluster(new DescribeClusterOptions().timeoutMs((int) probeIntervalMs))
+                .clusterId()
+                .toCompletionStage()
+                .whenComplete((id, error) -> {
+                    if (error == null) {
+                        logger.infof("Kafka cluster %s is reachable, closing circuit", clusterId);
+                        breaker.recordSuccess();
+                    } else if (error instanceof TimeoutException || error.getCause() instanceof TimeoutException) {
+                        breaker.recordTimeout(System.currentTimeMillis(), failureThreshold);
+                    } else {
+                        logger.debugf("Probe of Kafka cluster %s failed: %s", clusterId, error.getMessage());
+                    }
+                });
+        });
+    }
+}
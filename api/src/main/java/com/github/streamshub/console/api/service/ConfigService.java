@@ -1,14 +1,17 @@
 package com.github.streamshub.console.api.service;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -19,17 +22,39 @@ import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.AlterConfigOp.OpType;
 import org.apache.kafka.clients.admin.AlterConfigsOptions;
 import org.apache.kafka.common.config.ConfigResource;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
 
 import com.github.streamshub.console.api.model.ConfigEntry;
 import com.github.streamshub.console.api.model.Either;
 import com.github.streamshub.console.api.support.KafkaContext;
+import com.github.streamshub.console.api.support.TopicConfigCache;
 
 @ApplicationScoped
 public class ConfigService {
 
+    @Inject
+    Logger logger;
+
     @Inject
     KafkaContext kafkaContext;
 
+    /**
+     * Maximum age of a cached topic configuration that may be given in a
+     * response.
+     */
+    @Inject
+    @ConfigProperty(name = "console.kafka.topic-config-cache.max-age-ms", defaultValue = "300000")
+    long topicConfigMaxAgeMs;
+
+    /**
+     * Age after which a cached topic configuration is refreshed in the
+     * background when it is used.
+     */
+    @Inject
+    @ConfigProperty(name = "console.kafka.topic-config-cache.refresh-after-ms", defaultValue = "30000")
+    long topicConfigRefreshAfterMs;
+
     public CompletionStage<Map<String, ConfigEntry>> describeConfigs(ConfigResource.Type type, String name) {
         ConfigResource nodeKey = new ConfigResource(type, name);
 
@@ -59,7 +84,98 @@ public class ConfigService {
                 .validateOnly(validateOnly))
             .values()
             .get(resourceKey)
-            .toCompletionStage();
+            .toCompletionStage()
+            .thenRun(() -> {
+                if (type == ConfigResource.Type.TOPIC && !validateOnly) {
+                    kafkaContext.topicConfigs().invalidate(name);
+                }
+            });
+    }
+
+    /**
+     * Describe the configurations of the given topics, using the cluster's
+     * {@linkplain TopicConfigCache cache} where possible. Only topics without a
+     * sufficiently recent cached configuration are described by the brokers,
+     * using a single request. Cached configurations that are usable but due to
+     * be refreshed are described in the background.
+     *
+     * <p>The cache is used only when the cluster's Admin client is shared by
+     * all requests. Otherwise the configurations visible to the current
+     * request's credentials are described directly, so that they are not
+     * served to requests made with other credentials.
+     *
+     * @param adminClient Admin client for the current request
+     * @param topicNames  names of the topics to describe
+     * @return CompletionStage "promise" that completes with the configurations (or
+     *         errors) of each topic, by topic name
+     */
+    public CompletionStage<Map<String, Either<Map<String, ConfigEntry>, Throwable>>> describeTopicConfigs(Admin adminClient, Collection<String> topicNames) {
+        if (!kafkaContext.sharedAdmin()) {
+            return describeConfigs(adminClient, topicNames.stream()
+                    .map(name -> new ConfigResource(ConfigResource.Type.TOPIC, name))
+                    .toList());
+        }
+
+        TopicConfigCache cache = kafkaContext.topicConfigs();
+        long now = System.nanoTime();
+        long notOlderThan = now - TimeUnit.MILLISECONDS.toNanos(topicConfigMaxAgeMs);
+        long refreshBefore = now - TimeUnit.MILLISECONDS.toNanos(topicConfigRefreshAfterMs);
+
+        Map<String, Either<Map<String, ConfigEntry>, Throwable>> result = new LinkedHashMap<>(topicNames.size());
+        List<String> misses = new ArrayList<>();
+        List<String> refreshes = new ArrayList<>();
+
+        for (String topicName : topicNames) {
+            Map<String, ConfigEntry> configs = cache.get(topicName, notOlderThan);
+
+            if (configs == null) {
+                misses.add(topicName);
+            } else {
+                result.put(topicName, Either.of(configs));
+
+                if (cache.isOlderThan(topicName, refreshBefore)) {
+                    refreshes.add(topicName);
+                }
+            }
+        }
+
+        if (!refreshes.isEmpty()) {
+            Set<String> claimed = cache.beginRefresh(refreshes);
+
+            if (!claimed.isEmpty()) {
+                logger.debugf("Refreshing %d cached topic configurations", claimed.size());
+                describeAndCacheTopicConfigs(adminClient, claimed)
+                    .whenComplete((configs, error) -> cache.endRefresh(claimed));
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return CompletableFuture.completedStage(result);
+        }
+
+        return describeAndCacheTopicConfigs(adminClient, misses)
+            .thenApply(described -> {
+                result.putAll(described);
+                return result;
+            });
+    }
+
+    CompletionStage<Map<String, Either<Map<String, ConfigEntry>, Throwable>>> describeAndCacheTopicConfigs(Admin adminClient, Collection<String> topicNames) {
+        TopicConfigCache cache = kafkaContext.topicConfigs();
+        long timestamp = System.nanoTime();
+        List<ConfigResource> keys = topicNames.stream()
+                .map(name -> new ConfigResource(ConfigResource.Type.TOPIC, name))
+                .toList();
+
+        return describeConfigs(adminClient, keys)
+            .thenApply(configs -> {
+                configs.forEach((name, either) -> {
+                    if (either.isPrimaryPresent()) {
+                        cache.put(name, either.getPrimary(), timestamp);
+                    }
+                });
+                return configs;
+            });
     }
 
     CompletionStage<Map<String, Either<Map<String, ConfigEntry>, Throwable>>> describeConfigs(Admin adminClient, List<ConfigResource> keys) {
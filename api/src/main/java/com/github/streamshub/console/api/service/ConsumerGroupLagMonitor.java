@@ -0,0 +1,374 @@
+package com.github.streamshub.console.api.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Startup;
+import jakarta.inject.Inject;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.github.streamshub.console.api.support.AdminScheduler;
+import com.github.streamshub.console.api.support.AdminWorkQueue.Priority;
+import com.github.streamshub.console.api.support.ConsumerGroupLag;
+import com.github.streamshub.console.api.support.ConsumerGroupLagHistory;
+import com.github.streamshub.console.api.support.ConsumerGroupLag.PartitionLag;
+import com.github.streamshub.console.api.support.KafkaContext;
+import com.github.streamshub.console.api.support.OffsetTimestampIndex;
+import com.github.streamshub.console.api.support.PartitionRequestBatcher;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Periodically calculates the lag of every consumer group in each Kafka cluster
+ * that has an Admin client shared by all requests (i.e. the cluster's
+ * credentials are present in the console configuration). The results are kept
+ * in each cluster's {@linkplain ConsumerGroupLag}, exported as gauges to the
+ * application's meter registry, and used in place of end offset requests when
+ * responding to consumer group requests.
+ *
+ * <p>Each calculation fetches the committed offsets of all groups and the end
+ * offsets of the partitions with committed offsets. End offsets are requested
+ * from the partition leaders in batches using the
+ * {@linkplain PartitionRequestBatcher}. Each end offset received is also
+ * recorded in the cluster's {@linkplain OffsetTimestampIndex} so that the time
+ * lag of committed offsets may be estimated, and each snapshot is added to
+ * the cluster's {@linkplain ConsumerGroupLagHistory}.
+ *
+ * <p>Periodic calculations are bulk work submitted to the
+ * {@linkplain AdminScheduler}, giving way to the cluster's interactive requests.
+ */
+@ApplicationScoped
+public class ConsumerGroupLagMonitor {
+
+    static final String GROUP_LAG_METRIC = "console.consumer.group.lag";
+    static final String GROUP_TOPIC_LAG_METRIC = "console.consumer.group.topic.lag";
+    static final String CLUSTER_ID_TAG = "cluster.id";
+    static final String GROUP_TAG = "group";
+    static final String TOPIC_TAG = "topic";
+
+    @Inject
+    Logger logger;
+
+    @Inject
+    ScheduledExecutorService scheduler;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    /**
+     * All Kafka contexts known to the application
+     */
+    @Inject
+    Map<String, KafkaContext> kafkaContexts;
+
+    @Inject
+    ConsumerGroupService consumerGroupService;
+
+    @Inject
+    PartitionRequestBatcher requestBatcher;
+
+    @Inject
+    AdminScheduler adminScheduler;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.consumer-lag.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.consumer-lag.interval-ms", defaultValue = "30000")
+    long intervalMs;
+
+    /**
+     * Number of samples retained in the lag history of each group partition
+     */
+    @Inject
+    @ConfigProperty(name = "console.kafka.consumer-lag.history-size", defaultValue = "120")
+    int historySize;
+
+    /**
+     * Maximum number of groups with a lag history in each cluster
+     */
+    @Inject
+    @ConfigProperty(name = "console.kafka.consumer-lag.history-max-groups", defaultValue = "1000")
+    int historyMaxGroups;
+
+    /**
+     * Meters registered for each cluster, by cluster Id
+     */
+    final Map<String, Map<Meter.Id, Meter>> clusterMeters = new ConcurrentHashMap<>();
+
+    ScheduledFuture<?> pollTask;
+
+    void onStartup(@Observes Startup event) {
+        if (enabled) {
+            logger.infof("Calculating consumer group lag every %d ms", intervalMs);
+            pollTask = scheduler.scheduleWithFixedDelay(this::poll, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (pollTask != null) {
+            pollTask.cancel(true);
+        }
+    }
+
+    /**
+     * The cluster's lag snapshot, provided the monitor is enabled and the
+     * snapshot was taken within the last two polling intervals.
+     */
+    public Optional<ConsumerGroupLag.Snapshot> recentSnapshot(KafkaContext kafkaContext) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        return kafkaContext.consumerGroupLag().current(System.currentTimeMillis() - 2 * intervalMs);
+    }
+
+    /**
+     * Calculate the lag of the given groups using the context's Admin client,
+     * for example the groups on a page of a listing when the cluster's snapshot
+     * is out of date. The result is not published as the cluster's snapshot.
+     */
+    public CompletionStage<ConsumerGroupLag.Snapshot> calculateLag(KafkaContext kafkaContext, Collection<String> groupIds) {
+        return calculateLag(kafkaContext.admin(), groupIds, kafkaContext.offsetTimestamps());
+    }
+
+    /**
+     * Calculate the lag of every group in the cluster and publish the result
+     * as the cluster's snapshot, sharing a calculation already in progress
+     * (including one started by the monitor). Only valid for a cluster with a
+     * shared Admin client, since the snapshot is visible to all requests.
+     */
+    public CompletionStage<ConsumerGroupLag.Snapshot> refreshLag(KafkaContext kafkaContext) {
+        Admin adminClient = kafkaContext.admin();
+        OffsetTimestampIndex timestamps = kafkaContext.offsetTimestamps();
+
+        return kafkaContext.consumerGroupLag().refresh(() -> calculateLag(adminClient, timestamps));
+    }
+
+    void poll() {
+        kafkaContexts.forEach((clusterId, kafkaContext) -> {
+            if (!kafkaContext.sharedAdmin()) {
+                // No shared Admin client
+                return;
+            }
+
+            OffsetTimestampIndex timestamps = kafkaContext.offsetTimestamps();
+
+            // A calculation still in progress is shared rather than repeated
+            kafkaContext.consumerGroupLag()
+                .refresh(() -> adminScheduler.submit(clusterId, kafkaContext, Priority.BULK,
+                        adminClient -> calculateLag(adminClient, timestamps)))
+                .thenAccept(snapshot -> {
+                    kafkaContext.consumerGroupLagHistory().record(snapshot, historySize, historyMaxGroups);
+                    timestamps.retainAll(snapshot.endOffsetPartitions());
+                    registerMeters(clusterId, snapshot);
+                })
+                .exceptionally(error -> {
+                    logger.warnf("Failed to calculate consumer group lag for cluster %s: %s",
+                            clusterId, error.getMessage());
+                    return null;
+                });
+        });
+
+        // Remove the meters of clusters no longer present
+        clusterMeters.keySet()
+            .stream()
+            .filter(clusterId -> !kafkaContexts.containsKey(clusterId))
+            .toList()
+            .forEach(clusterId -> removeMeters(clusterMeters.remove(clusterId).keySet()));
+    }
+
+    CompletionStage<ConsumerGroupLag.Snapshot> calculateLag(Admin adminClient, OffsetTimestampIndex timestamps) {
+        return adminClient.listConsumerGroups()
+            .valid()
+            .toCompletionStage()
+            .thenCompose(listings -> calculateLag(adminClient, listings.stream()
+                    .map(ConsumerGroupListing::groupId)
+                    .toList(), timestamps));
+    }
+
+    CompletionStage<ConsumerGroupLag.Snapshot> calculateLag(Admin adminClient, Collection<String> groupIds,
+            OffsetTimestampIndex timestamps) {
+        long timestamp = System.currentTimeMillis();
+
+        return consumerGroupService.fetchCommittedOffsets(adminClient, groupIds)
+            .thenCompose(groupOffsets -> {
+                Map<String, Map<TopicPartition, Long>> committed = new HashMap<>(groupOffsets.size());
+
+                groupOffsets.forEach((groupId, offsets) -> offsets.getOptionalPrimary().ifPresent(partitionOffsets ->
+                    committed.put(groupId, partitionOffsets.entrySet()
+                            .stream()
+                            // Partitions may be present without an offset
+                            .filter(e -> e.getValue() != null)
+                            .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().offset())))));
+
+                Set<TopicPartition> partitions = committed.values()
+                        .stream()
+                        .map(Map::keySet)
+                        .flatMap(Collection::stream)
+                        .collect(Collectors.toSet());
+
+                return fetchEndOffsets(adminClient, partitions, timestamps)
+                    .thenApply(endOffsets -> buildSnapshot(timestamp, committed, endOffsets));
+            });
+    }
+
+    CompletionStage<Map<TopicPartition, Long>> fetchEndOffsets(Admin adminClient, Set<TopicPartition> partitions,
+            OffsetTimestampIndex timestamps) {
+        Map<TopicPartition, Long> endOffsets = new ConcurrentHashMap<>();
+
+        if (partitions.isEmpty()) {
+            return CompletableFuture.completedFuture(endOffsets);
+        }
+
+        Set<String> topicNames = partitions.stream().map(TopicPartition::topic).collect(Collectors.toSet());
+
+        List<CompletableFuture<TopicDescription>> descriptions = adminClient.describeTopics(topicNames)
+            .topicNameValues()
+            .values()
+            .stream()
+            .map(description -> description.toCompletionStage()
+                    // Topics may have been deleted since the offsets were listed
+                    .exceptionally(error -> null)
+                    .toCompletableFuture())
+            .toList();
+
+        return CompletableFuture.allOf(descriptions.toArray(CompletableFuture[]::new))
+            .thenApply(nothing -> partitionLeaders(descriptions, partitions))
+            .thenCompose(leaders -> requestBatcher.listOffsets(adminClient, leaders, List.of(OffsetSpec.latest()),
+                    (partition, spec, result, error) -> {
+                        if (result != null) {
+                            endOffsets.put(partition, result.offset());
+                            timestamps.record(partition, result.offset(), System.currentTimeMillis());
+                        }
+                    }))
+            .thenApply(nothing -> endOffsets);
+    }
+
+    static Map<TopicPartition, Integer> partitionLeaders(List<CompletableFuture<TopicDescription>> descriptions,
+            Set<TopicPartition> partitions) {
+
+        Map<TopicPartition, Integer> leaders = new HashMap<>();
+
+        descriptions.stream()
+            .map(CompletableFuture::join)
+            .filter(Objects::nonNull)
+            .forEach(description -> {
+                for (TopicPartitionInfo partition : description.partitions()) {
+                    TopicPartition topicPartition = new TopicPartition(description.name(), partition.partition());
+
+                    if (partition.leader() != null && partitions.contains(topicPartition)) {
+                        leaders.put(topicPartition, partition.leader().id());
+                    }
+                }
+            });
+
+        return leaders;
+    }
+
+    static ConsumerGroupLag.Snapshot buildSnapshot(long timestamp,
+            Map<String, Map<TopicPartition, Long>> committed,
+            Map<TopicPartition, Long> endOffsets) {
+
+        Map<String, Map<TopicPartition, PartitionLag>> groups = new HashMap<>(committed.size());
+
+        committed.forEach((groupId, offsets) -> {
+            Map<TopicPartition, PartitionLag> partitions = new HashMap<>(offsets.size());
+
+            offsets.forEach((partition, offset) -> {
+                Long endOffset = endOffsets.get(partition);
+
+                if (endOffset != null) {
+                    partitions.put(partition, new PartitionLag(offset, endOffset));
+                }
+            });
+
+            groups.put(groupId, partitions);
+        });
+
+        return new ConsumerGroupLag.Snapshot(timestamp, groups, endOffsets);
+    }
+
+    void registerMeters(String clusterId, ConsumerGroupLag.Snapshot snapshot) {
+        Map<Meter.Id, Meter> meters = clusterMeters.computeIfAbsent(clusterId, k -> new ConcurrentHashMap<>());
+        Set<Meter.Id> current = new HashSet<>();
+
+        for (String groupId : snapshot.groupIds()) {
+            Tags groupTags = Tags.of(CLUSTER_ID_TAG, clusterId, GROUP_TAG, groupId);
+
+            current.add(registerGauge(meters, GROUP_LAG_METRIC, groupTags,
+                    () -> currentSnapshot(clusterId).map(s -> s.groupLag(groupId)).orElse(OptionalLong.empty())));
+
+            for (String topic : snapshot.topicLag(groupId).keySet()) {
+                current.add(registerGauge(meters, GROUP_TOPIC_LAG_METRIC, groupTags.and(TOPIC_TAG, topic),
+                        () -> currentSnapshot(clusterId)
+                            .map(s -> s.topicLag(groupId).get(topic))
+                            .map(OptionalLong::of)
+                            .orElse(OptionalLong.empty())));
+            }
+        }
+
+        removeMeters(meters.keySet()
+                .stream()
+                .filter(id -> !current.contains(id))
+                .toList());
+    }
+
+    Meter.Id registerGauge(Map<Meter.Id, Meter> meters, String name, Tags tags, Supplier<OptionalLong> value) {
+        Gauge gauge = Gauge.builder(name, () -> {
+            OptionalLong lag = value.get();
+            return lag.isPresent() ? lag.getAsLong() : Double.NaN;
+        })
+            .tags(tags)
+            .baseUnit("messages")
+            .strongReference(true)
+            .register(meterRegistry);
+
+        meters.put(gauge.getId(), gauge);
+        return gauge.getId();
+    }
+
+    void removeMeters(Collection<Meter.Id> ids) {
+        ids.forEach(id -> {
+            meterRegistry.remove(id);
+            clusterMeters.values().forEach(meters -> meters.remove(id));
+        });
+    }
+
+    Optional<ConsumerGroupLag.Snapshot> currentSnapshot(String clusterId) {
+        return Optional.ofNullable(kafkaContexts.get(clusterId))
+                .map(KafkaContext::consumerGroupLag)
+                .flatMap(ConsumerGroupLag::current);
+    }
+}
@@ -0,0 +1,290 @@
+package com.github.streamshub.console.api.service;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Startup;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.NotFoundException;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.github.streamshub.console.api.model.ConsumerGroupEvent;
+import com.github.streamshub.console.api.model.MemberDescription;
+import com.github.streamshub.console.api.support.AdminScheduler;
+import com.github.streamshub.console.api.support.AdminWorkQueue.Priority;
+import com.github.streamshub.console.api.support.ConsumerGroupRebalanceTracker;
+import com.github.streamshub.console.api.support.ConsumerGroupRebalanceTracker.Change;
+import com.github.streamshub.console.api.support.ConsumerGroupRebalanceTracker.GroupFingerprint;
+import com.github.streamshub.console.api.support.KafkaContext;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.BackPressureStrategy;
+
+/**
+ * Periodically compares the consumer groups in each Kafka cluster that has an
+ * Admin client shared by all requests with the previous comparison and
+ * publishes the changes detected to the subscribers of the cluster's
+ * {@linkplain ConsumerGroupRebalanceTracker}. Clusters without subscribers are
+ * not polled.
+ *
+ * <p>Each poll lists the groups with their states and describes only the
+ * groups in an active state, i.e. those that may have members. Topic Ids are
+ * listed only when a poll detects members joining or being reassigned, to
+ * include the members' assignments in the events. Polls are background work
+ * submitted to the {@linkplain AdminScheduler}.
+ */
+@ApplicationScoped
+public class ConsumerGroupRebalanceMonitor {
+
+    private static final Set<ConsumerGroupState> ACTIVE_STATES = Set.of(
+            ConsumerGroupState.STABLE,
+            ConsumerGroupState.PREPARING_REBALANCE,
+            ConsumerGroupState.COMPLETING_REBALANCE);
+
+    @Inject
+    Logger logger;
+
+    @Inject
+    ScheduledExecutorService scheduler;
+
+    @Inject
+    AdminScheduler adminScheduler;
+
+    /**
+     * All Kafka contexts known to the application
+     */
+    @Inject
+    Map<String, KafkaContext> kafkaContexts;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.consumer-group-events.interval-ms", defaultValue = "5000")
+    long intervalMs;
+
+    /**
+     * Clusters with a poll in progress, not polled again until it completes
+     */
+    final Set<String> polling = ConcurrentHashMap.newKeySet();
+
+    ScheduledFuture<?> pollTask;
+
+    void onStartup(@Observes Startup event) {
+        pollTask = scheduler.scheduleWithFixedDelay(this::poll, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (pollTask != null) {
+            pollTask.cancel(true);
+        }
+    }
+
+    /**
+     * Stream of the consumer group events of the context's cluster. The
+     * subscription is removed when the stream is cancelled or completes.
+     * Events published while the subscriber has no outstanding demand are
+     * dropped, so a slow subscriber does not accumulate an unbounded backlog.
+     *
+     * @throws NotFoundException when the cluster has no shared Admin client,
+     *         i.e. the events of the cluster are not monitored
+     */
+    public Multi<ConsumerGroupEvent> events(KafkaContext kafkaContext) {
+        if (!kafkaContext.sharedAdmin()) {
+            throw new NotFoundException("Consumer group events are not available for the Kafka cluster");
+        }
+
+        ConsumerGroupRebalanceTracker tracker = kafkaContext.consumerGroupRebalances();
+
+        // Events are dropped rather than buffered for subscribers not keeping up with the stream
+        return Multi.createFrom().emitter(emitter -> {
+            Runnable unsubscribe = tracker.subscribe(emitter::emit);
+            emitter.onTermination(unsubscribe);
+        }, BackPressureStrategy.DROP);
+    }
+
+    void poll() {
+        kafkaContexts.forEach((clusterId, kafkaContext) -> {
+            ConsumerGroupRebalanceTracker tracker = kafkaContext.consumerGroupRebalances();
+
+            if (!kafkaContext.sharedAdmin() || !tracker.hasSubscribers() || !polling.add(clusterId)) {
+                // No shared Admin client, nobody listening, or still polling
+                return;
+            }
+
+            CompletionStage<Void> pendingPoll;
+
+            try {
+                pendingPoll = adminScheduler.submit(clusterId, kafkaContext, Priority.BACKGROUND,
+                        adminClient -> detectChanges(adminClient, tracker));
+            } catch (RuntimeException e) {
+                // E.g. the Admin client could not be created, try again with the next poll
+                pendingPoll = CompletableFuture.failedStage(e);
+            }
+
+            pendingPoll.whenComplete((nothing, error) -> {
+                polling.remove(clusterId);
+
+                if (error != null) {
+                    logger.warnf("Failed to detect consumer group changes for cluster %s: %s",
+                            clusterId, error.getMessage());
+                }
+            });
+        });
+    }
+
+    CompletionStage<Void> detectChanges(Admin adminClient, ConsumerGroupRebalanceTracker tracker) {
+        Instant timestamp = Instant.now();
+
+        return adminClient.listConsumerGroups()
+            .valid()
+            .toCompletionStage()
+            .thenCompose(listings -> {
+                List<String> activeGroupIds = listings.stream()
+                        .filter(listing -> listing.state().map(ACTIVE_STATES::contains).orElse(false))
+                        .map(ConsumerGroupListing::groupId)
+                        .toList();
+
+                return describeGroups(adminClient, activeGroupIds)
+                        .thenApply(described -> Map.entry(fingerprints(listings, described.groups()), described));
+            })
+            .thenCompose(snapshot -> {
+                var described = snapshot.getValue().groups();
+                List<Change> changes = tracker.update(snapshot.getKey(), snapshot.getValue().failed());
+
+                if (changes.isEmpty()) {
+                    return CompletableFuture.completedStage(null);
+                }
+
+                CompletionStage<Map<String, String>> pendingTopicIds;
+
+                if (changes.stream().anyMatch(ConsumerGroupRebalanceMonitor::describesMember)) {
+                    pendingTopicIds = adminClient.listTopics(new ListTopicsOptions().listInternal(true))
+                            .listings()
+                            .toCompletionStage()
+                            .thenApply(topics -> topics.stream()
+                                    .collect(Collectors.toMap(TopicListing::name, l -> l.topicId().toString())));
+                } else {
+                    pendingTopicIds = CompletableFuture.completedStage(Map.of());
+                }
+
+                return pendingTopicIds.thenAccept(topicIds -> toEvents(changes, described, topicIds, timestamp)
+                        .forEach(tracker::publish));
+            });
+    }
+
+    /**
+     * Describe each of the groups, separating the groups described from those
+     * that could not be described, e.g. because their coordinator is not
+     * available. A failure to describe one group does not prevent the
+     * changes to the other groups from being detected.
+     */
+    CompletionStage<DescribedGroups> describeGroups(Admin adminClient, List<String> groupIds) {
+        if (groupIds.isEmpty()) {
+            return CompletableFuture.completedStage(new DescribedGroups(Map.of(), Set.of()));
+        }
+
+        Map<String, ConsumerGroupDescription> described = new ConcurrentHashMap<>(groupIds.size());
+        Set<String> failed = ConcurrentHashMap.newKeySet();
+
+        CompletableFuture<?>[] pending = adminClient.describeConsumerGroups(groupIds)
+            .describedGroups()
+            .entrySet()
+            .stream()
+            .map(entry -> entry.getValue()
+                    .toCompletionStage()
+                    .toCompletableFuture()
+                    .handle((description, error) -> {
+                        if (error == null) {
+                            described.put(entry.getKey(), description);
+                        } else {
+                            logger.debugf("Failed to describe consumer group %s: %s", entry.getKey(), error.getMessage());
+                            failed.add(entry.getKey());
+                        }
+                        return null;
+                    }))
+            .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(pending)
+                .thenApply(nothing -> new DescribedGroups(described, failed));
+    }
+
+    record DescribedGroups(Map<String, ConsumerGroupDescription> groups, Set<String> failed) {
+    }
+
+    static Map<String, GroupFingerprint> fingerprints(Iterable<ConsumerGroupListing> listings,
+            Map<String, ConsumerGroupDescription> described) {
+
+        Map<String, GroupFingerprint> result = new HashMap<>();
+
+        for (ConsumerGroupListing listing : listings) {
+            String groupId = listing.groupId();
+            ConsumerGroupDescription description = described.get(groupId);
+
+            if (description != null) {
+                Map<String, Long> members = new HashMap<>(description.members().size());
+                description.members().forEach(member -> members.put(member.consumerId(),
+                        ConsumerGroupRebalanceTracker.assignmentFingerprint(member.assignment().topicPartitions())));
+                result.put(groupId, new GroupFingerprint(description.state().name(), members));
+            } else {
+                result.put(groupId, new GroupFingerprint(listing.state().map(Enum::name).orElse(null), Map.of()));
+            }
+        }
+
+        return result;
+    }
+
+    static boolean describesMember(Change change) {
+        return ConsumerGroupEvent.MEMBER_JOINED.equals(change.type())
+                || ConsumerGroupEvent.ASSIGNMENT_CHANGED.equals(change.type());
+    }
+
+    static List<ConsumerGroupEvent> toEvents(List<Change> changes,
+            Map<String, ConsumerGroupDescription> described,
+            Map<String, String> topicIds,
+            Instant timestamp) {
+
+        return changes.stream()
+            .map(change -> {
+                MemberDescription member = null;
+
+                if (describesMember(change)) {
+                    member = described.get(change.groupId())
+                        .members()
+                        .stream()
+                        .filter(m -> m.consumerId().equals(change.memberId()))
+                        .findFirst()
+                        .map(m -> MemberDescription.fromKafkaModel(m, topicIds))
+                        .orElse(null);
+                }
+
+                return new ConsumerGroupEvent(change.type(),
+                        timestamp,
+                        change.groupId(),
+                        change.previousState(),
+                        change.state(),
+                        change.memberId(),
+                        member);
+            })
+            .toList();
+    }
+}
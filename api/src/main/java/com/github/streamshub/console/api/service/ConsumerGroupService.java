@@ -4,21 +4,30 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -26,36 +35,54 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 import org.apache.kafka.clients.admin.Admin;
-import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
 import org.apache.kafka.clients.admin.DescribeConsumerGroupsOptions;
 import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsSpec;
 import org.apache.kafka.clients.admin.ListConsumerGroupsOptions;
 import org.apache.kafka.clients.admin.ListOffsetsResult;
 import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
 import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.clients.admin.TopicListing;
 import org.apache.kafka.common.ConsumerGroupState;
 import org.apache.kafka.common.TopicCollection;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.Uuid;
 import org.apache.kafka.common.errors.GroupIdNotFoundException;
 import org.apache.kafka.common.errors.GroupNotEmptyException;
+import org.apache.kafka.common.errors.LeaderNotAvailableException;
 import org.apache.kafka.common.errors.UnknownMemberIdException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.context.ThreadContext;
+import org.jboss.logging.Logger;
 
 import com.github.streamshub.console.api.model.ConsumerGroup;
+import com.github.streamshub.console.api.model.ConsumerGroupFilterParams;
 import com.github.streamshub.console.api.model.Either;
 import com.github.streamshub.console.api.model.Error;
+import com.github.streamshub.console.api.model.LagHistory;
 import com.github.streamshub.console.api.model.MemberDescription;
 import com.github.streamshub.console.api.model.OffsetAndMetadata;
+import com.github.streamshub.console.api.model.OffsetInfo;
+import com.github.streamshub.console.api.model.OffsetReset;
+import com.github.streamshub.console.api.model.OffsetReset.GroupOffsetReset;
+import com.github.streamshub.console.api.model.OffsetReset.PartitionOffsetReset;
 import com.github.streamshub.console.api.model.PartitionId;
 import com.github.streamshub.console.api.model.PartitionInfo;
 import com.github.streamshub.console.api.model.Topic;
+import com.github.streamshub.console.api.support.ConsumerGroupLag;
+import com.github.streamshub.console.api.support.ConsumerGroupMembershipIndex;
+import com.github.streamshub.console.api.support.ConcurrencyLimiter;
 import com.github.streamshub.console.api.support.ConsumerGroupValidation;
 import com.github.streamshub.console.api.support.FetchFilterPredicate;
 import com.github.streamshub.console.api.support.KafkaContext;
 import com.github.streamshub.console.api.support.KafkaOffsetSpec;
+import com.github.streamshub.console.api.support.KafkaResetOffsetSpec;
 import com.github.streamshub.console.api.support.ListRequestContext;
+import com.github.streamshub.console.api.support.OffsetTimestampIndex;
+import com.github.streamshub.console.api.support.PartitionRequestBatcher;
+import com.github.streamshub.console.api.support.TopicNameIndex;
 import com.github.streamshub.console.api.support.UnknownTopicIdPatch;
 import com.github.streamshub.console.api.support.ValidationProxy;
 
@@ -64,12 +91,65 @@ public class ConsumerGroupService {
 
     private static final ListConsumerGroupOffsetsSpec ALL_GROUP_PARTITIONS = new ListConsumerGroupOffsetsSpec();
     private static final OffsetSpec LATEST_TOPIC_OFFSETS = OffsetSpec.latest();
+    private static final Set<ConsumerGroupState> ACTIVE_STATES = Set.of(
+            ConsumerGroupState.STABLE,
+            ConsumerGroupState.PREPARING_REBALANCE,
+            ConsumerGroupState.COMPLETING_REBALANCE);
+    private static final Predicate<String> TIME_LAG_SORT =
+            Pattern.compile("^-?" + ConsumerGroup.Fields.TIME_LAG + "$").asPredicate();
     private static final Set<String> REQUIRE_DESCRIBE = Set.of(
             ConsumerGroup.Fields.AUTHORIZED_OPERATIONS,
             ConsumerGroup.Fields.COORDINATOR,
             ConsumerGroup.Fields.MEMBERS,
             ConsumerGroup.Fields.OFFSETS);
 
+    /**
+     * Stages of retrieving information about consumer groups. Each stage is
+     * performed only when requested, allowing callers to avoid the expense of
+     * stages providing information they do not use.
+     */
+    enum Stage {
+        /**
+         * Describe the groups, e.g. members and their assignments
+         */
+        DESCRIBE,
+        /**
+         * Fetch the committed offsets of each group
+         */
+        COMMITTED_OFFSETS,
+        /**
+         * Fetch the end offsets of each partition with a committed offset
+         */
+        END_OFFSETS,
+        /**
+         * Calculate the lag of each committed offset from the end offset
+         */
+        LAG;
+
+        /**
+         * Stages required to provide the given consumer group fields.
+         */
+        static Set<Stage> forIncludes(List<String> includes) {
+            Set<Stage> stages = EnumSet.noneOf(Stage.class);
+
+            if (REQUIRE_DESCRIBE.stream().anyMatch(includes::contains)) {
+                stages.add(DESCRIBE);
+            }
+
+            if (includes.contains(ConsumerGroup.Fields.OFFSETS)) {
+                stages.addAll(EnumSet.of(COMMITTED_OFFSETS, END_OFFSETS, LAG));
+            }
+
+            return stages;
+        }
+    }
+
+    /**
+     * Stages required to determine the topics consumed by a group, from member
+     * assignments and committed offsets.
+     */
+    private static final Set<Stage> MEMBERSHIP_STAGES = EnumSet.of(Stage.DESCRIBE, Stage.COMMITTED_OFFSETS);
+
     /**
      * Constant exception instance to avoid reporting the same error multiple times
      * (per partition being reset) for a single alterConsumerGroupOffsets call.
@@ -84,15 +164,65 @@ public class ConsumerGroupService {
     @Inject
     ThreadContext threadContext;
 
+    @Inject
+    Logger logger;
+
     @Inject
     KafkaContext kafkaContext;
 
     @Inject
     TopicService topicService;
 
+    @Inject
+    PartitionRequestBatcher requestBatcher;
+
     @Inject
     ValidationProxy validationService;
 
+    @Inject
+    ConsumerGroupLagMonitor lagMonitor;
+
+    /**
+     * Maximum age of the consumer group membership index that may be used to
+     * respond to a request without first refreshing the index.
+     */
+    @Inject
+    @ConfigProperty(name = "console.kafka.consumer-group-membership.max-age-ms", defaultValue = "60000")
+    long membershipMaxAgeMs;
+
+    /**
+     * Age after which the consumer group membership index is refreshed in the
+     * background when it is used.
+     */
+    @Inject
+    @ConfigProperty(name = "console.kafka.consumer-group-membership.refresh-after-ms", defaultValue = "15000")
+    long membershipRefreshAfterMs;
+
+    /**
+     * Age after which a group in the membership index is described again even if
+     * its state has not changed.
+     */
+    @Inject
+    @ConfigProperty(name = "console.kafka.consumer-group-membership.group-max-age-ms", defaultValue = "300000")
+    long membershipGroupMaxAgeMs;
+
+    /**
+     * Maximum age of the consumer group lag snapshot used to provide the lag
+     * summary of the groups on a page of a listing. When the snapshot is older,
+     * the lag of only the page's groups is calculated before responding.
+     */
+    @Inject
+    @ConfigProperty(name = "console.kafka.consumer-group-summary.max-age-ms", defaultValue = "30000")
+    long summaryMaxAgeMs;
+
+    /**
+     * Maximum number of groups whose offsets are altered concurrently by a
+     * bulk offset reset.
+     */
+    @Inject
+    @ConfigProperty(name = "console.kafka.consumer-group-offset-reset.max-in-flight", defaultValue = "4")
+    int offsetResetMaxInFlight;
+
     public CompletionStage<List<ConsumerGroup>> listConsumerGroups(List<String> includes, ListRequestContext<ConsumerGroup> listSupport) {
         return listConsumerGroups(Collections.emptyList(), includes, listSupport);
     }
@@ -122,12 +252,15 @@ public class ConsumerGroupService {
 
     CompletionStage<List<ConsumerGroup>> listConsumerGroups(List<String> groupIds, List<String> includes, ListRequestContext<ConsumerGroup> listSupport) {
         Admin adminClient = kafkaContext.admin();
+        Set<String> requestedGroupIds = Set.copyOf(groupIds);
 
         Set<ConsumerGroupState> states = listSupport.filters()
             .stream()
             .filter(FetchFilterPredicate.class::isInstance)
             .map(FetchFilterPredicate.class::cast)
             .filter(filter -> "filter[state]".equals(filter.name()))
+            // Only positive matches may be used to limit the states requested from Kafka
+            .filter(filter -> "eq".equals(filter.operator()) || "in".equals(filter.operator()))
             .map(filter -> {
                 @SuppressWarnings("unchecked")
                 List<String> operands = filter.operands();
@@ -143,70 +276,453 @@ public class ConsumerGroupService {
             .valid()
             .toCompletionStage()
             .thenApply(groups -> groups.stream()
-                    .filter(group -> groupIds.isEmpty() || groupIds.contains(group.groupId()))
+                    .filter(group -> requestedGroupIds.isEmpty() || requestedGroupIds.contains(group.groupId()))
                     .map(ConsumerGroup::fromKafkaModel)
                     .toList())
-            .thenApply(list -> list.stream()
-                    .filter(listSupport)
-                    .map(listSupport::tally)
-                    .filter(listSupport::betweenCursors)
-                    .sorted(listSupport.getSortComparator())
-                    .dropWhile(listSupport::beforePageBegin)
-                    .takeWhile(listSupport::pageCapacityAvailable)
-                    .toList())
+            .thenCompose(list -> {
+                boolean summarySorted = summarySortedOrFiltered(listSupport);
+                boolean timeLagSorted = listSupport.getSortEntries().stream().anyMatch(TIME_LAG_SORT);
+                boolean summaryIncluded = !summarySorted
+                        && ConsumerGroup.Fields.SUMMARY_FIELDS.stream().anyMatch(includes::contains);
+                boolean timeLagIncluded = !timeLagSorted && includes.contains(ConsumerGroup.Fields.TIME_LAG);
+
+                if (summarySorted || timeLagSorted) {
+                    // Every listed group is summarized, and the page from the same snapshot
+                    return listSnapshot(list).thenCompose(snapshot ->
+                        summarize(adminClient, list, snapshot, summarySorted, timeLagSorted)
+                            .thenApply(nothing -> listSupport.selectPage(list.stream().filter(listSupport)))
+                            .thenCompose(page -> summarize(adminClient, page, snapshot, summaryIncluded, timeLagIncluded)
+                                    .thenApply(nothing -> page)));
+                }
+
+                List<ConsumerGroup> page = listSupport.selectPage(list.stream().filter(listSupport));
+
+                if (summaryIncluded || timeLagIncluded) {
+                    return pageSnapshot(page).thenCompose(snapshot ->
+                        summarize(adminClient, page, snapshot, summaryIncluded, timeLagIncluded)
+                            .thenApply(nothing -> page));
+                }
+
+                return CompletableFuture.completedStage(page);
+            })
             .thenCompose(groups -> augmentList(adminClient, groups, includes));
     }
 
+    /**
+     * Set the summary fields and/or the time lag of each group from the given
+     * lag snapshot.
+     */
+    CompletionStage<Void> summarize(Admin adminClient, List<ConsumerGroup> groups,
+            ConsumerGroupLag.Snapshot snapshot, boolean summary, boolean timeLag) {
+
+        if (timeLag) {
+            setTimeLag(groups, snapshot);
+        }
+
+        if (summary) {
+            return setSummary(adminClient, groups, CompletableFuture.completedStage(snapshot));
+        }
+
+        return CompletableFuture.completedStage(null);
+    }
+
+    static boolean summarySortedOrFiltered(ListRequestContext<ConsumerGroup> listSupport) {
+        return listSupport.getSortEntries()
+                    .stream()
+                    .map(entry -> entry.startsWith("-") ? entry.substring(1) : entry)
+                    .anyMatch(ConsumerGroup.Fields.SUMMARY_FIELDS::contains)
+                || listSupport.filters()
+                    .stream()
+                    .filter(FetchFilterPredicate.class::isInstance)
+                    .map(filter -> ((FetchFilterPredicate<?, ?>) filter).name())
+                    .anyMatch(ConsumerGroupFilterParams.SUMMARY_FILTERS::contains);
+    }
+
+    /**
+     * The cluster's lag snapshot when it is no older than the configured
+     * maximum age, otherwise a new snapshot including every listed group. For
+     * a cluster with a shared Admin client the new snapshot is calculated for
+     * all groups and published, and a calculation already in progress is
+     * shared by concurrent requests. Otherwise the lag of only the listed
+     * groups is calculated using the request's Admin client and is not
+     * published, since the groups visible to each client may differ.
+     */
+    CompletionStage<ConsumerGroupLag.Snapshot> listSnapshot(List<ConsumerGroup> groups) {
+        return kafkaContext.consumerGroupLag()
+                .current(System.currentTimeMillis() - summaryMaxAgeMs)
+                .<CompletionStage<ConsumerGroupLag.Snapshot>>map(CompletableFuture::completedStage)
+                .orElseGet(() -> {
+                    if (kafkaContext.sharedAdmin()) {
+                        return lagMonitor.refreshLag(kafkaContext);
+                    }
+                    return lagMonitor.calculateLag(kafkaContext, groups.stream()
+                            .map(ConsumerGroup::getGroupId)
+                            .toList());
+                });
+    }
+
+    /**
+     * The cluster's lag snapshot when it is no older than the configured
+     * maximum age, otherwise the lag calculated for only the groups on the
+     * page.
+     */
+    CompletionStage<ConsumerGroupLag.Snapshot> pageSnapshot(List<ConsumerGroup> page) {
+        return kafkaContext.consumerGroupLag()
+                .current(System.currentTimeMillis() - summaryMaxAgeMs)
+                .<CompletionStage<ConsumerGroupLag.Snapshot>>map(CompletableFuture::completedStage)
+                .orElseGet(() -> lagMonitor.calculateLag(kafkaContext, page.stream()
+                        .map(ConsumerGroup::getGroupId)
+                        .toList()));
+    }
+
+    /**
+     * Set the summary fields of each group - lag, member count, and the names
+     * of the topics consumed - from a consumer group lag snapshot and the
+     * cluster's membership index. Only groups that are new or have changed
+     * since the membership index was last refreshed are described. When the
+     * cluster's Admin client is not shared, the active groups among those given
+     * are described for the request instead. Topic names are given by the
+     * cluster's topic name index.
+     *
+     * <p>When the groups are sorted or filtered by a summary field, every
+     * listed group is summarized using the snapshot given by
+     * {@linkplain #listSnapshot(List)}. Otherwise only the groups on the
+     * requested page are summarized.
+     */
+    CompletionStage<Void> setSummary(Admin adminClient, List<ConsumerGroup> groups,
+            CompletionStage<ConsumerGroupLag.Snapshot> pendingSnapshot) {
+        var pendingIndex = kafkaContext.sharedAdmin()
+                ? membershipIndex()
+                : describeMembership(adminClient, groups);
+        var pendingTopicNames = topicService.topicNames(adminClient);
+
+        return pendingSnapshot.thenCompose(snapshot -> pendingIndex.thenCombine(pendingTopicNames, (index, topicNames) -> {
+            groups.forEach(group -> setSummary(group, snapshot, index, topicId -> topicNames.topicName(topicId).orElse(null)));
+            return null;
+        }));
+    }
+
+    static void setSummary(ConsumerGroup group,
+            ConsumerGroupLag.Snapshot snapshot,
+            ConsumerGroupMembershipIndex index,
+            Function<String, String> topicNames) {
+
+        String groupId = group.getGroupId();
+        OptionalLong totalLag = snapshot.groupLag(groupId);
+        OptionalLong maxPartitionLag = snapshot.maxPartitionLag(groupId);
+
+        group.setTotalLag(totalLag.isPresent() ? totalLag.getAsLong() : null);
+        group.setMaxPartitionLag(maxPartitionLag.isPresent() ? maxPartitionLag.getAsLong() : null);
+        group.setMemberCount(memberCount(group, index));
+
+        Set<String> groupTopics = new HashSet<>(snapshot.topicLag(groupId).keySet());
+        index.topics(groupId)
+            .stream()
+            .map(topicNames)
+            .filter(Objects::nonNull)
+            .forEach(groupTopics::add);
+        group.setTopicNames(groupTopics);
+    }
+
+    static Integer memberCount(ConsumerGroup group, ConsumerGroupMembershipIndex index) {
+        if (group.getState() == null) {
+            return null;
+        }
+
+        ConsumerGroupState state = ConsumerGroupState.valueOf(group.getState());
+
+        if (ACTIVE_STATES.contains(state)) {
+            return index.memberCount(group.getGroupId());
+        }
+
+        if (state == ConsumerGroupState.EMPTY || state == ConsumerGroupState.DEAD) {
+            return 0;
+        }
+
+        return null;
+    }
+
     public CompletionStage<ConsumerGroup> describeConsumerGroup(String requestGroupId, List<String> includes) {
         Admin adminClient = kafkaContext.admin();
         String groupId = preprocessGroupId(requestGroupId);
 
-        return assertConsumerGroupExists(adminClient, groupId)
-            .thenCompose(nothing -> describeConsumerGroups(adminClient, List.of(groupId), includes))
+        // The description itself determines whether the group exists
+        return describeConsumerGroups(adminClient, List.of(groupId), includes)
             .thenApply(groups -> groups.get(groupId))
-            .thenApply(result -> result.getOrThrow(CompletionException::new));
+            .thenApply(result -> result.getOrThrow(CompletionException::new))
+            .thenApply(group -> {
+                if (ConsumerGroupState.DEAD.name().equals(group.getState())) {
+                    throw groupNotFound(groupId);
+                }
+                return group;
+            })
+            .thenCompose(group -> {
+                if (includes.contains(ConsumerGroup.Fields.TIME_LAG) && group.getTimeLag() == null) {
+                    List<ConsumerGroup> groups = List.of(group);
+                    return pageSnapshot(groups).thenApply(snapshot -> {
+                        setTimeLag(groups, snapshot);
+                        return group;
+                    });
+                }
+                return CompletableFuture.completedStage(group);
+            });
     }
 
+    /**
+     * Retrieve the recent lag history of a group recorded by the
+     * {@linkplain ConsumerGroupLagMonitor lag monitor}. The history is empty
+     * when the lag monitor is not enabled or has not yet sampled the group.
+     *
+     * @param requestGroupId the group Id
+     * @param maxSamples     maximum number of samples to include for each partition
+     * @return the group's lag history
+     */
+    public CompletionStage<LagHistory> getLagHistory(String requestGroupId, int maxSamples) {
+        Admin adminClient = kafkaContext.admin();
+        String groupId = preprocessGroupId(requestGroupId);
+
+        return assertConsumerGroupExists(adminClient, groupId)
+            .thenCompose(nothing -> {
+                var history = kafkaContext.consumerGroupLagHistory().history(groupId);
+                return topicIds(adminClient, history.keySet())
+                        .thenApply(topicIds -> LagHistory.fromSamples(history, topicIds, maxSamples));
+            });
+    }
+
+    /**
+     * Find the Ids of the partitions' topics using the cluster's topic name
+     * index. Topics not present in the index are described by name and added
+     * to the index. Topics that no longer exist are not present in the result.
+     *
+     * @return map of topic name to topic Id
+     */
+    CompletionStage<Map<String, String>> topicIds(Admin adminClient, Collection<TopicPartition> partitions) {
+        TopicNameIndex topicNames = kafkaContext.topicNames();
+        Map<String, String> topicIds = new ConcurrentHashMap<>();
+        List<String> unindexed = new ArrayList<>();
+
+        partitions.stream()
+            .map(TopicPartition::topic)
+            .distinct()
+            .forEach(topicName -> topicNames.topicId(topicName)
+                    .ifPresentOrElse(topicId -> topicIds.put(topicName, topicId), () -> unindexed.add(topicName)));
+
+        if (unindexed.isEmpty()) {
+            return CompletableFuture.completedStage(topicIds);
+        }
+
+        var pending = adminClient.describeTopics(TopicCollection.ofTopicNames(unindexed))
+            .topicNameValues()
+            .entrySet()
+            .stream()
+            .map(entry -> entry.getValue()
+                    .toCompletionStage()
+                    .toCompletableFuture()
+                    .<Void>handle((description, error) -> {
+                        if (description != null) {
+                            String topicId = description.topicId().toString();
+                            topicNames.add(entry.getKey(), topicId);
+                            topicIds.put(entry.getKey(), topicId);
+                        }
+                        return null;
+                    }))
+            .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(pending).thenApply(nothing -> topicIds);
+    }
+
+    /**
+     * Set the time lag of each group from a consumer group lag snapshot, given
+     * by {@linkplain #listSnapshot(List)} when the list is sorted by time lag,
+     * otherwise by {@linkplain #pageSnapshot(List)}. This allows groups to be
+     * sorted by time lag without describing every group in the cluster. A
+     * group is left without a time lag when none of its committed offsets can
+     * be estimated from the cluster's offset timestamps.
+     */
+    void setTimeLag(Collection<ConsumerGroup> groups, ConsumerGroupLag.Snapshot snapshot) {
+        OffsetTimestampIndex timestamps = kafkaContext.offsetTimestamps();
+
+        for (ConsumerGroup group : groups) {
+            group.setTimeLag(maxTimeLag(snapshot, group.getGroupId(), timestamps));
+        }
+    }
+
+    static Long maxTimeLag(ConsumerGroupLag.Snapshot snapshot, String groupId, OffsetTimestampIndex timestamps) {
+        Long maxTimeLag = null;
+
+        for (var entry : snapshot.partitions(groupId).entrySet()) {
+            var partitionLag = entry.getValue();
+            OptionalLong timeLag = timestamps.timeLag(entry.getKey(),
+                    partitionLag.committedOffset(),
+                    partitionLag.endOffset(),
+                    snapshot.timestamp());
+
+            if (timeLag.isPresent() && (maxTimeLag == null || timeLag.getAsLong() > maxTimeLag)) {
+                maxTimeLag = timeLag.getAsLong();
+            }
+        }
+
+        return maxTimeLag;
+    }
+
+    /**
+     * Find the active consumer groups consuming each of the given topics. The
+     * result is given by the {@linkplain #membershipIndex() membership index}.
+     *
+     * @param topicIds Ids of the topics
+     * @return map of topic Id to the Ids of groups consuming the topic
+     */
     public CompletionStage<Map<String, List<String>>> listConsumerGroupMembership(Collection<String> topicIds) {
+        return membershipIndex().thenApply(index -> index.groupsByTopic(topicIds));
+    }
+
+    /**
+     * The cluster's {@linkplain ConsumerGroupMembershipIndex membership index},
+     * refreshed first when it is older than the configured maximum age or in
+     * the background when older than the configured refresh age.
+     *
+     * <p>The cluster's index is used only when the cluster's Admin client is
+     * shared by all requests. Otherwise a new index of the groups visible to
+     * the current request's credentials is built for the request and discarded.
+     */
+    CompletionStage<ConsumerGroupMembershipIndex> membershipIndex() {
         Admin adminClient = kafkaContext.admin();
 
+        if (!kafkaContext.sharedAdmin()) {
+            ConsumerGroupMembershipIndex requestIndex = new ConsumerGroupMembershipIndex();
+            return refreshMembership(adminClient, requestIndex).thenApply(nothing -> requestIndex);
+        }
+
+        ConsumerGroupMembershipIndex index = kafkaContext.consumerGroupMembership();
+        long now = System.nanoTime();
+        CompletionStage<Void> indexReady;
+
+        if (index.isRefreshedSince(now - TimeUnit.MILLISECONDS.toNanos(membershipMaxAgeMs))) {
+            if (!index.isRefreshedSince(now - TimeUnit.MILLISECONDS.toNanos(membershipRefreshAfterMs))) {
+                index.refresh(() -> refreshMembership(adminClient, index))
+                    .exceptionally(error -> {
+                        logger.debugf(error, "Background refresh of consumer group membership failed");
+                        return null;
+                    });
+            }
+
+            indexReady = CompletableFuture.completedStage(null);
+        } else {
+            indexReady = index.refresh(() -> refreshMembership(adminClient, index));
+        }
+
+        return indexReady.thenApply(nothing -> index);
+    }
+
+    /**
+     * Bring the membership index up to date with the active consumer groups in
+     * the cluster. Only the groups that the index determines to be new, changed,
+     * or not recently described are described.
+     */
+    CompletionStage<Void> refreshMembership(Admin adminClient, ConsumerGroupMembershipIndex index) {
+        long timestamp = System.nanoTime();
+        long staleBefore = timestamp - TimeUnit.MILLISECONDS.toNanos(membershipGroupMaxAgeMs);
+        long generation = index.generation();
+
         return adminClient.listConsumerGroups(new ListConsumerGroupsOptions()
-                .inStates(Set.of(
-                        ConsumerGroupState.STABLE,
-                        ConsumerGroupState.PREPARING_REBALANCE,
-                        ConsumerGroupState.COMPLETING_REBALANCE)))
+                .inStates(ACTIVE_STATES))
             .valid()
             .toCompletionStage()
-            .thenApply(groups -> groups.stream().map(ConsumerGroup::fromKafkaModel).toList())
-            .thenCompose(groups -> augmentList(adminClient, groups, List.of(
-                    ConsumerGroup.Fields.MEMBERS,
-                    ConsumerGroup.Fields.OFFSETS)))
-            .thenApply(list -> list.stream()
-                    .map(group -> Map.entry(
-                            group.getGroupId(),
-                            Stream.concat(
-                                Optional.ofNullable(group.getOffsets())
-                                    .map(Collection::stream)
-                                    .orElseGet(Stream::empty)
-                                    .map(OffsetAndMetadata::topicId),
-                                Optional.ofNullable(group.getMembers())
-                                    .map(Collection::stream)
-                                    .orElseGet(Stream::empty)
-                                    .map(MemberDescription::getAssignments)
-                                    .filter(Objects::nonNull)
-                                    .flatMap(Collection::stream)
-                                    .map(PartitionId::topicId))
-                                .distinct()
-                                .toList()))
-                    .filter(groupTopics -> groupTopics.getValue().stream().anyMatch(topicIds::contains))
-                    .collect(
-                            () -> new HashMap<String, List<String>>(),
-                            (map, entry) -> topicIds.stream()
-                                    .filter(entry.getValue()::contains)
-                                    .forEach(topicId -> map
-                                            .computeIfAbsent(topicId, key -> new ArrayList<>())
-                                            .add(entry.getKey())),
-                            (e1, e2) -> { }));
+            .thenCompose(listings -> {
+                Map<String, ConsumerGroup> listedGroups = listings.stream()
+                        .map(ConsumerGroup::fromKafkaModel)
+                        .collect(Collectors.toMap(ConsumerGroup::getGroupId, Function.identity()));
+                Map<String, String> listedStates = new HashMap<>(listedGroups.size());
+                listedGroups.forEach((groupId, group) -> listedStates.put(groupId, group.getState()));
+
+                List<ConsumerGroup> changed = index.reconcile(listedStates, staleBefore)
+                        .stream()
+                        .map(listedGroups::get)
+                        .toList();
+
+                if (changed.isEmpty()) {
+                    return CompletableFuture.completedStage(changed);
+                }
+
+                return augmentList(adminClient, changed, Collections.emptyList(), MEMBERSHIP_STAGES);
+            })
+            .thenAccept(described -> {
+                if (updateMembership(index, described, timestamp, generation)) {
+                    index.markRefreshed(timestamp, generation);
+                }
+            });
+    }
+
+    /**
+     * Build an index of the membership of only the given groups, using the
+     * current request's Admin client. Used in place of the cluster's index to
+     * summarize groups when the cluster's Admin client is not shared by all
+     * requests.
+     */
+    CompletionStage<ConsumerGroupMembershipIndex> describeMembership(Admin adminClient, Collection<ConsumerGroup> groups) {
+        ConsumerGroupMembershipIndex index = new ConsumerGroupMembershipIndex();
+        long timestamp = System.nanoTime();
+        long generation = index.generation();
+
+        // Described as copies, leaving the listed groups unchanged
+        List<ConsumerGroup> active = groups.stream()
+                .filter(group -> group.getState() != null)
+                .filter(group -> ACTIVE_STATES.contains(ConsumerGroupState.valueOf(group.getState())))
+                .map(group -> new ConsumerGroup(group.getGroupId(), group.isSimpleConsumerGroup(), group.getState()))
+                .toList();
+
+        if (active.isEmpty()) {
+            return CompletableFuture.completedStage(index);
+        }
+
+        return augmentList(adminClient, active, Collections.emptyList(), MEMBERSHIP_STAGES)
+            .thenApply(described -> {
+                updateMembership(index, described, timestamp, generation);
+                return index;
+            });
+    }
+
+    /**
+     * Update the index with the membership of each described group.
+     *
+     * @return true if every group was described
+     */
+    static boolean updateMembership(ConsumerGroupMembershipIndex index, List<ConsumerGroup> described,
+            long timestamp, long generation) {
+        boolean complete = true;
+
+        for (ConsumerGroup group : described) {
+            if (group.getMembers() == null && group.getOffsets() == null) {
+                // Not described, retried by the next refresh
+                complete = false;
+            } else {
+                index.update(group.getGroupId(),
+                        group.getState(),
+                        topicIds(group),
+                        group.getMembers() != null ? group.getMembers().size() : 0,
+                        timestamp,
+                        generation);
+            }
+        }
+
+        return complete;
+    }
+
+    static Set<String> topicIds(ConsumerGroup group) {
+        return Stream.concat(
+                Optional.ofNullable(group.getOffsets())
+                    .map(Collection::stream)
+                    .orElseGet(Stream::empty)
+                    .map(OffsetAndMetadata::topicId),
+                Optional.ofNullable(group.getMembers())
+                    .map(Collection::stream)
+                    .orElseGet(Stream::empty)
+                    .map(MemberDescription::getAssignments)
+                    .filter(Objects::nonNull)
+                    .flatMap(Collection::stream)
+                    .map(PartitionId::topicId))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
     }
 
     public CompletionStage<Void> patchConsumerGroup(ConsumerGroup patch) {
@@ -216,22 +732,35 @@ public class ConsumerGroupService {
         return assertConsumerGroupExists(adminClient, groupId)
             .thenComposeAsync(nothing -> Optional.ofNullable(patch.getOffsets())
                     .filter(Predicate.not(Collection::isEmpty))
-                    .map(patchedOffsets -> alterConsumerGroupOffsets(adminClient, groupId, patch))
+                    .map(patchedOffsets -> alterConsumerGroupOffsets(adminClient, groupId, patch)
+                            .thenRun(() -> kafkaContext.consumerGroupMembership().invalidate(groupId)))
                     .orElseGet(() -> CompletableFuture.completedStage(null)),
                 threadContext.currentContextExecutor());
     }
 
+    /**
+     * Verify that the group exists by describing only that group, rather than
+     * listing every group in the cluster. A group that does not exist is
+     * reported by the broker either with a {@code GROUP_ID_NOT_FOUND} error or,
+     * by brokers prior to Kafka 4.0, as a group in the
+     * {@linkplain ConsumerGroupState#DEAD dead} state.
+     */
     CompletionStage<Void> assertConsumerGroupExists(Admin adminClient, String groupId) {
-        return adminClient.listConsumerGroups()
-            .all()
+        return adminClient.describeConsumerGroups(List.of(groupId))
+            .describedGroups()
+            .get(groupId)
             .toCompletionStage()
-            .thenAccept(listing -> {
-                if (listing.stream().map(ConsumerGroupListing::groupId).noneMatch(groupId::equals)) {
-                    throw new GroupIdNotFoundException("No such consumer group: " + groupId);
+            .thenAccept(description -> {
+                if (description.state() == ConsumerGroupState.DEAD) {
+                    throw groupNotFound(groupId);
                 }
             });
     }
 
+    static GroupIdNotFoundException groupNotFound(String groupId) {
+        return new GroupIdNotFoundException("No such consumer group: " + groupId);
+    }
+
     CompletionStage<Void> alterConsumerGroupOffsets(Admin adminClient, String groupId, ConsumerGroup patch) {
         var topicsToDescribe = patch.getOffsets()
                 .stream()
@@ -273,19 +802,32 @@ public class ConsumerGroupService {
                     })
                     .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
 
+                long now = System.currentTimeMillis();
+
                 var topicOffsetsRequest = offsetModifications.entrySet()
                     .stream()
                     .filter(e -> e.getValue().offset().isPrimaryEmpty())
+                    .filter(e -> shiftBy(e.getValue()).isEmpty())
                     .map(e -> Map.entry(
                         e.getKey().toKafkaModel(),
-                        switch (e.getValue().offset().getAlternate()) {
-                            case KafkaOffsetSpec.EARLIEST -> OffsetSpec.earliest();
-                            case KafkaOffsetSpec.LATEST -> OffsetSpec.latest();
-                            case KafkaOffsetSpec.MAX_TIMESTAMP -> OffsetSpec.maxTimestamp();
-                            default -> OffsetSpec.forTimestamp(Instant.parse(e.getValue().offset().getAlternate()).toEpochMilli());
-                        }))
+                        toOffsetSpec(e.getValue().offset().getAlternate(), now)))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+                var shifts = offsetModifications.entrySet()
+                    .stream()
+                    .filter(e -> shiftBy(e.getValue()).isPresent())
                     .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
 
+                // Committed offsets are only needed to shift, fetched while the topic offsets are listed
+                CompletableFuture<Map<TopicPartition, org.apache.kafka.clients.consumer.OffsetAndMetadata>> pendingCommitted;
+
+                if (shifts.isEmpty()) {
+                    pendingCommitted = CompletableFuture.completedFuture(Collections.emptyMap());
+                } else {
+                    pendingCommitted = fetchCommittedOffsets(adminClient, List.of(groupId))
+                        .thenApply(committed -> committed.get(groupId).getOrThrow(CompletionException::new));
+                }
+
                 var topicOffsetsResult = adminClient.listOffsets(topicOffsetsRequest);
 
                 Map<TopicPartition, org.apache.kafka.clients.consumer.OffsetAndMetadata> targetOffsets = new HashMap<>();
@@ -326,7 +868,26 @@ public class ConsumerGroupService {
                                 );
                             })
                     )
-                    .thenApply(nothing1 -> targetOffsets);
+                    .thenCombine(pendingCommitted, (nothing1, committed) -> {
+                        shifts.forEach((id, offset) -> {
+                            Long committedOffset = Optional.ofNullable(committed.get(id.toKafkaModel()))
+                                    .map(org.apache.kafka.clients.consumer.OffsetAndMetadata::offset)
+                                    .orElse(null);
+
+                            shiftedOffset(topics.get(Uuid.fromString(id.topicId())).getPrimary(),
+                                    id.partition(),
+                                    committedOffset,
+                                    shiftBy(offset).getAsLong())
+                                .ifPresent(target -> targetOffsets.put(
+                                        id.toKafkaModel(),
+                                        new org.apache.kafka.clients.consumer.OffsetAndMetadata(
+                                            target,
+                                            Optional.ofNullable(offset.leaderEpoch()),
+                                            offset.metadata())));
+                        });
+
+                        return targetOffsets;
+                    });
             })
             .thenCompose(alterRequest -> {
                 var alterResults = adminClient.alterConsumerGroupOffsets(groupId, alterRequest);
@@ -352,6 +913,443 @@ public class ConsumerGroupService {
             });
     }
 
+    /**
+     * Reset the committed offsets of many groups in a single operation. The
+     * committed offsets of all groups are fetched together, and the offsets
+     * needed to calculate the targets are listed once for the partitions of
+     * all groups, grouped by leader. Unless the reset is a dry run, the offsets
+     * of each group are then altered, with no more than
+     * {@code console.kafka.consumer-group-offset-reset.max-in-flight} groups
+     * altered concurrently.
+     *
+     * <p>A group is not altered when it does not exist, has active members, or
+     * when any of its target offsets could not be determined. The reason is
+     * given by the error of the group's entry in the result.
+     *
+     * @param request the groups and topics to reset and the target offsets
+     * @param dryRun  when true, calculate the target offsets without altering them
+     * @return the request with the current and target offsets of each group partition
+     */
+    public CompletionStage<OffsetReset> resetOffsets(OffsetReset request, boolean dryRun) {
+        Admin adminClient = kafkaContext.admin();
+        List<String> groupIds = request.groupIds()
+                .stream()
+                .map(ConsumerGroupService::preprocessGroupId)
+                .distinct()
+                .toList();
+        boolean allPartitions = request.topicIds() != null;
+        ResetTarget target = ResetTarget.of(request);
+        ListedOffsets listed = new ListedOffsets(target.specs());
+
+        var pendingStates = describeGroupStates(adminClient, groupIds);
+
+        return fetchCommittedOffsets(adminClient, groupIds)
+            .thenCompose(committed -> describeResetTopics(adminClient, request.topicIds(), committed)
+                .thenCompose(topics -> {
+                    Set<TopicPartition> partitions = new HashSet<>();
+
+                    committed.values()
+                        .stream()
+                        .map(offsets -> offsets.getOptionalPrimary().orElseGet(Collections::emptyMap))
+                        .map(offsets -> resetPartitions(allPartitions, topics, offsets))
+                        .forEach(partitions::addAll);
+
+                    return requestBatcher.listOffsets(adminClient,
+                            partitionLeaders(topics, partitions, listed),
+                            target.specs(),
+                            listed::accept)
+                        .thenCombine(pendingStates, (nothing, states) ->
+                            planOffsetResets(groupIds, allPartitions, states, committed, topics, target, listed));
+                }))
+            .thenCompose(plan -> dryRun
+                    ? CompletableFuture.completedStage(plan)
+                    : applyOffsetResets(adminClient, plan))
+            .thenApply(request::withGroups);
+    }
+
+    /**
+     * Offsets listed for the partitions being reset, for each offset spec
+     * required by the reset's {@linkplain ResetTarget target}.
+     */
+    static final class ListedOffsets {
+        private final Map<OffsetSpec, Map<TopicPartition, Long>> offsets = new IdentityHashMap<>();
+        private final Map<TopicPartition, Throwable> errors = new ConcurrentHashMap<>();
+
+        ListedOffsets(List<OffsetSpec> specs) {
+            specs.forEach(spec -> offsets.put(spec, new ConcurrentHashMap<>()));
+        }
+
+        void accept(TopicPartition partition, OffsetSpec spec, ListOffsetsResultInfo result, Throwable error) {
+            if (error != null) {
+                errors.put(partition, error);
+            } else {
+                offsets.get(spec).put(partition, result.offset());
+            }
+        }
+
+        Long get(OffsetSpec spec, TopicPartition partition) {
+            return offsets.get(spec).get(partition);
+        }
+
+        Throwable error(TopicPartition partition) {
+            return errors.get(partition);
+        }
+    }
+
+    /**
+     * Calculation of the target offset of each partition from the partition's
+     * committed offset, if any, and the offsets listed for the partition.
+     */
+    record ResetTarget(List<OffsetSpec> specs, TargetFunction function) {
+
+        @FunctionalInterface
+        interface TargetFunction {
+            /**
+             * @return the target offset, or null to leave the partition unchanged
+             */
+            Long apply(TopicPartition partition, Long committedOffset, ListedOffsets listed);
+        }
+
+        static ResetTarget of(OffsetReset request) {
+            if (request.delta() != null) {
+                long delta = request.delta();
+                return bounded(committed -> committed != null ? KafkaResetOffsetSpec.Relative.shift(committed, delta) : null);
+            }
+
+            Either<Long, String> offset = request.offset();
+
+            if (offset.isPrimaryPresent()) {
+                long literal = offset.getPrimary();
+                return bounded(committed -> literal);
+            }
+
+            OptionalLong shift = KafkaResetOffsetSpec.Relative.shiftBy(offset.getAlternate());
+
+            if (shift.isPresent()) {
+                long delta = shift.getAsLong();
+                return bounded(committed -> committed != null ? KafkaResetOffsetSpec.Relative.shift(committed, delta) : null);
+            }
+
+            String specName = offset.getAlternate();
+            OffsetSpec spec = toOffsetSpec(specName, System.currentTimeMillis());
+
+            if (KafkaOffsetSpec.EARLIEST.equals(specName) || KafkaOffsetSpec.LATEST.equals(specName)) {
+                return new ResetTarget(List.of(spec), (partition, committed, listed) -> listed.get(spec, partition));
+            }
+
+            OffsetSpec latest = OffsetSpec.latest();
+
+            return new ResetTarget(List.of(spec, latest), (partition, committed, listed) -> {
+                Long listedOffset = listed.get(spec, partition);
+
+                if (listedOffset != null && listedOffset >= 0) {
+                    return listedOffset;
+                }
+
+                // No record at or after the timestamp: reset to the end offset, as kafka-consumer-groups.sh does
+                return listedOffset != null ? listed.get(latest, partition) : null;
+            });
+        }
+
+        /**
+         * Target limited to the range of offsets available in the partition.
+         */
+        static ResetTarget bounded(UnaryOperator<Long> target) {
+            OffsetSpec earliest = OffsetSpec.earliest();
+            OffsetSpec latest = OffsetSpec.latest();
+
+            return new ResetTarget(List.of(earliest, latest), (partition, committed, listed) -> {
+                Long offset = target.apply(committed);
+                Long earliestOffset = listed.get(earliest, partition);
+                Long latestOffset = listed.get(latest, partition);
+
+                if (offset == null || earliestOffset == null || latestOffset == null) {
+                    return null;
+                }
+
+                return Math.min(Math.max(offset, earliestOffset), latestOffset);
+            });
+        }
+    }
+
+    CompletableFuture<Map<String, Either<ConsumerGroupState, Throwable>>> describeGroupStates(Admin adminClient,
+            Collection<String> groupIds) {
+
+        Map<String, Either<ConsumerGroupState, Throwable>> states = new ConcurrentHashMap<>();
+
+        var pending = adminClient.describeConsumerGroups(groupIds)
+            .describedGroups()
+            .entrySet()
+            .stream()
+            .map(entry -> entry.getValue()
+                    .toCompletionStage()
+                    .toCompletableFuture()
+                    .<Void>handle((description, error) -> {
+                        states.put(entry.getKey(), Either.of(
+                                Optional.ofNullable(description).map(ConsumerGroupDescription::state),
+                                error));
+                        return null;
+                    }))
+            .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(pending).thenApply(nothing -> states);
+    }
+
+    /**
+     * Describe the topics being reset: the requested topics, or otherwise the
+     * topics with committed offsets in any of the groups.
+     */
+    CompletionStage<Map<String, TopicDescription>> describeResetTopics(Admin adminClient,
+            List<String> topicIds,
+            Map<String, Either<Map<TopicPartition, org.apache.kafka.clients.consumer.OffsetAndMetadata>, Throwable>> committed) {
+
+        if (topicIds != null) {
+            var ids = topicIds.stream().distinct().map(Uuid::fromString).toList();
+
+            return adminClient.describeTopics(TopicCollection.ofTopicIds(ids))
+                .allTopicIds()
+                .toCompletionStage()
+                .thenApply(descriptions -> descriptions.values()
+                        .stream()
+                        .collect(Collectors.toMap(TopicDescription::name, Function.identity())));
+        }
+
+        Set<String> topicNames = committed.values()
+                .stream()
+                .map(offsets -> offsets.getOptionalPrimary().orElseGet(Collections::emptyMap))
+                .map(Map::keySet)
+                .flatMap(Collection::stream)
+                .map(TopicPartition::topic)
+                .collect(Collectors.toSet());
+
+        Map<String, TopicDescription> descriptions = new ConcurrentHashMap<>();
+
+        if (topicNames.isEmpty()) {
+            return CompletableFuture.completedStage(descriptions);
+        }
+
+        var pending = adminClient.describeTopics(topicNames)
+            .topicNameValues()
+            .values()
+            .stream()
+            .map(description -> description.toCompletionStage()
+                    .thenAccept(d -> descriptions.put(d.name(), d))
+                    // Topics may have been deleted since the offsets were committed
+                    .exceptionally(error -> null)
+                    .toCompletableFuture())
+            .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(pending).thenApply(nothing -> descriptions);
+    }
+
+    static List<TopicPartition> resetPartitions(boolean allPartitions,
+            Map<String, TopicDescription> topics,
+            Map<TopicPartition, org.apache.kafka.clients.consumer.OffsetAndMetadata> committed) {
+
+        if (allPartitions) {
+            return topics.values()
+                    .stream()
+                    .flatMap(topic -> topic.partitions()
+                            .stream()
+                            .map(partition -> new TopicPartition(topic.name(), partition.partition())))
+                    .toList();
+        }
+
+        return committed.keySet()
+                .stream()
+                .filter(partition -> topics.containsKey(partition.topic()))
+                .toList();
+    }
+
+    static Map<TopicPartition, Integer> partitionLeaders(Map<String, TopicDescription> topics,
+            Set<TopicPartition> partitions,
+            ListedOffsets listed) {
+
+        Map<TopicPartition, Integer> leaders = new HashMap<>(partitions.size());
+
+        for (TopicDescription topic : topics.values()) {
+            for (TopicPartitionInfo info : topic.partitions()) {
+                TopicPartition partition = new TopicPartition(topic.name(), info.partition());
+
+                if (!partitions.contains(partition)) {
+                    continue;
+                }
+
+                if (info.leader() != null) {
+                    leaders.put(partition, info.leader().id());
+                } else {
+                    listed.accept(partition, null, null, new LeaderNotAvailableException("No leader available"));
+                }
+            }
+        }
+
+        return leaders;
+    }
+
+    static List<GroupOffsetReset> planOffsetResets(List<String> groupIds,
+            boolean allPartitions,
+            Map<String, Either<ConsumerGroupState, Throwable>> states,
+            Map<String, Either<Map<TopicPartition, org.apache.kafka.clients.consumer.OffsetAndMetadata>, Throwable>> committed,
+            Map<String, TopicDescription> topics,
+            ResetTarget target,
+            ListedOffsets listed) {
+
+        List<GroupOffsetReset> plan = new ArrayList<>(groupIds.size());
+
+        for (String groupId : groupIds) {
+            Either<ConsumerGroupState, Throwable> state = states.get(groupId);
+            Either<Map<TopicPartition, org.apache.kafka.clients.consumer.OffsetAndMetadata>, Throwable> groupOffsets =
+                    committed.get(groupId);
+
+            if (state.isPrimaryEmpty() || state.getPrimary() == ConsumerGroupState.DEAD) {
+                Throwable thrown = state.isPrimaryEmpty() ? state.getAlternate() : groupNotFound(groupId);
+                plan.add(new GroupOffsetReset(groupId, null, new Error("Unable to describe consumer group", thrown.getMessage(), thrown)));
+                continue;
+            }
+
+            if (groupOffsets.isPrimaryEmpty()) {
+                Throwable thrown = groupOffsets.getAlternate();
+                plan.add(new GroupOffsetReset(groupId, null, new Error("Unable to list consumer group offsets", thrown.getMessage(), thrown)));
+                continue;
+            }
+
+            Map<TopicPartition, org.apache.kafka.clients.consumer.OffsetAndMetadata> offsets = groupOffsets.getPrimary();
+            List<PartitionOffsetReset> partitions = new ArrayList<>();
+            Error error = null;
+
+            for (TopicPartition partition : resetPartitions(allPartitions, topics, offsets)) {
+                Throwable listError = listed.error(partition);
+
+                if (listError != null) {
+                    String msg = "Unable to list offsets for topic/partition %s-%d"
+                            .formatted(partition.topic(), partition.partition());
+                    error = new Error(msg, listError.getMessage(), listError);
+                    break;
+                }
+
+                Long current = Optional.ofNullable(offsets.get(partition))
+                        .map(org.apache.kafka.clients.consumer.OffsetAndMetadata::offset)
+                        .orElse(null);
+                Long targetOffset = target.function().apply(partition, current, listed);
+
+                if (targetOffset != null) {
+                    partitions.add(new PartitionOffsetReset(
+                            topics.get(partition.topic()).topicId().toString(),
+                            partition.topic(),
+                            partition.partition(),
+                            current,
+                            targetOffset,
+                            current != null ? targetOffset - current : null));
+                }
+            }
+
+            if (error == null && state.getPrimary() != ConsumerGroupState.EMPTY) {
+                error = new Error("Unable to reset consumer group offsets", GROUP_NOT_EMPTY.getMessage(), GROUP_NOT_EMPTY);
+            }
+
+            partitions.sort(Comparator.comparing(PartitionOffsetReset::topicName)
+                    .thenComparingInt(PartitionOffsetReset::partition));
+
+            plan.add(new GroupOffsetReset(groupId, partitions, error));
+        }
+
+        return plan;
+    }
+
+    CompletionStage<List<GroupOffsetReset>> applyOffsetResets(Admin adminClient, List<GroupOffsetReset> plan) {
+        Map<String, Error> errors = new ConcurrentHashMap<>();
+
+        List<Supplier<CompletionStage<Void>>> alterations = plan.stream()
+                .filter(group -> group.error() == null && !group.partitions().isEmpty())
+                .<Supplier<CompletionStage<Void>>>map(group -> () -> alterOffsets(adminClient, group, errors))
+                .toList();
+
+        return ConcurrencyLimiter.limitConcurrency(alterations, offsetResetMaxInFlight)
+            .thenApply(nothing -> plan.stream()
+                    .map(group -> Optional.ofNullable(errors.get(group.groupId()))
+                            .map(error -> new GroupOffsetReset(group.groupId(), group.partitions(), error))
+                            .orElse(group))
+                    .toList());
+    }
+
+    CompletionStage<Void> alterOffsets(Admin adminClient, GroupOffsetReset group, Map<String, Error> errors) {
+        String groupId = group.groupId();
+        var alterRequest = group.partitions()
+                .stream()
+                .collect(Collectors.toMap(
+                        partition -> new TopicPartition(partition.topicName(), partition.partition()),
+                        partition -> new org.apache.kafka.clients.consumer.OffsetAndMetadata(partition.targetOffset())));
+
+        return adminClient.alterConsumerGroupOffsets(groupId, alterRequest)
+            .all()
+            .toCompletionStage()
+            .handle((nothing, error) -> {
+                if (error != null) {
+                    Throwable thrown = error instanceof CompletionException ? error.getCause() : error;
+
+                    if (thrown instanceof UnknownMemberIdException) {
+                        thrown = GROUP_NOT_EMPTY;
+                    }
+
+                    errors.put(groupId, new Error("Unable to reset consumer group offsets", thrown.getMessage(), thrown));
+                } else {
+                    kafkaContext.consumerGroupMembership().invalidate(groupId);
+                }
+
+                return null;
+            });
+    }
+
+    /**
+     * Offset spec to list the target offsets of the given (non-literal, not
+     * {@code shift-by}) offset specification. A {@code duration} resolves to
+     * the timestamp preceding {@code now} by the duration.
+     */
+    static OffsetSpec toOffsetSpec(String offsetSpec, long now) {
+        return switch (offsetSpec) {
+            case KafkaOffsetSpec.EARLIEST -> OffsetSpec.earliest();
+            case KafkaOffsetSpec.LATEST -> OffsetSpec.latest();
+            case KafkaOffsetSpec.MAX_TIMESTAMP -> OffsetSpec.maxTimestamp();
+            default -> OffsetSpec.forTimestamp(KafkaResetOffsetSpec.Relative.duration(offsetSpec)
+                    .map(duration -> now - duration.toMillis())
+                    .orElseGet(() -> Instant.parse(offsetSpec).toEpochMilli()));
+        };
+    }
+
+    static OptionalLong shiftBy(OffsetAndMetadata offset) {
+        if (offset.offset().isPrimaryPresent()) {
+            return OptionalLong.empty();
+        }
+        return KafkaResetOffsetSpec.Relative.shiftBy(offset.offset().getAlternate());
+    }
+
+    /**
+     * Target of a {@code shift-by} reset: the committed offset moved by the
+     * given number of records, limited to the range of offsets available in
+     * the partition. Partitions without a committed offset are not shifted.
+     */
+    static Optional<Long> shiftedOffset(Topic topic, int partition, Long committedOffset, long shift) {
+        if (committedOffset == null) {
+            return Optional.empty();
+        }
+
+        var offsets = topic.partition(partition)
+                .map(PartitionInfo::getOffsets)
+                .orElseGet(Collections::emptyMap);
+        long earliest = listedOffset(offsets, KafkaOffsetSpec.EARLIEST).orElse(0L);
+        long latest = listedOffset(offsets, KafkaOffsetSpec.LATEST).orElse(Long.MAX_VALUE);
+
+        long shifted = KafkaResetOffsetSpec.Relative.shift(committedOffset, shift);
+
+        return Optional.of(Math.min(Math.max(shifted, earliest), latest));
+    }
+
+    static Optional<Long> listedOffset(Map<String, Either<OffsetInfo, Error>> offsets, String key) {
+        return Optional.ofNullable(offsets.get(key))
+                .flatMap(Either::getOptionalPrimary)
+                .map(OffsetInfo::offset);
+    }
+
     Map<TopicPartition, CompletableFuture<ListOffsetsResultInfo>> getListOffsetsResults(
             Set<TopicPartition> partitions,
             ListOffsetsResult topicOffsetsResult) {
@@ -396,15 +1394,23 @@ public class ConsumerGroupService {
         return adminClient.deleteConsumerGroups(List.of(groupId))
                 .deletedGroups()
                 .get(groupId)
-                .toCompletionStage();
+                .toCompletionStage()
+                .thenRun(() -> {
+                    kafkaContext.consumerGroupMembership().remove(groupId);
+                    kafkaContext.consumerGroupLagHistory().remove(groupId);
+                });
     }
 
     CompletionStage<List<ConsumerGroup>> augmentList(Admin adminClient, List<ConsumerGroup> list, List<String> includes) {
+        return augmentList(adminClient, list, includes, Stage.forIncludes(includes));
+    }
+
+    CompletionStage<List<ConsumerGroup>> augmentList(Admin adminClient, List<ConsumerGroup> list, List<String> includes, Set<Stage> stages) {
         Map<String, ConsumerGroup> groups = list.stream().collect(Collectors.toMap(ConsumerGroup::getGroupId, Function.identity()));
         CompletableFuture<Void> describePromise;
 
-        if (REQUIRE_DESCRIBE.stream().anyMatch(includes::contains)) {
-            describePromise = describeConsumerGroups(adminClient, groups.keySet(), includes)
+        if (stages.contains(Stage.DESCRIBE)) {
+            describePromise = describeConsumerGroups(adminClient, groups.keySet(), includes, stages)
                 .thenAccept(descriptions ->
                     descriptions.forEach((name, either) -> mergeDescriptions(groups.get(name), either)))
                 .toCompletableFuture();
@@ -426,6 +1432,11 @@ public class ConsumerGroupService {
             group.setOffsets(describedGroup.getOffsets());
             group.setCoordinator(describedGroup.getCoordinator());
             group.setAuthorizedOperations(describedGroup.getAuthorizedOperations());
+
+            if (group.getTimeLag() == null) {
+                // A time lag already present was used to sort the list
+                group.setTimeLag(describedGroup.getTimeLag());
+            }
         }
     }
 
@@ -433,6 +1444,14 @@ public class ConsumerGroupService {
             Admin adminClient,
             Collection<String> groupIds,
             List<String> includes) {
+        return describeConsumerGroups(adminClient, groupIds, includes, Stage.forIncludes(includes));
+    }
+
+    CompletionStage<Map<String, Either<ConsumerGroup, Throwable>>> describeConsumerGroups(
+            Admin adminClient,
+            Collection<String> groupIds,
+            List<String> includes,
+            Set<Stage> stages) {
 
         Map<String, Either<ConsumerGroup, Throwable>> result = new LinkedHashMap<>(groupIds.size());
 
@@ -471,8 +1490,8 @@ public class ConsumerGroupService {
         return CompletableFuture.allOf(pendingDescribes)
                 .thenCompose(nothing -> pendingTopicsIds)
                 .thenCompose(topicIds -> {
-                    if (includes.contains(ConsumerGroup.Fields.OFFSETS)) {
-                        return fetchOffsets(adminClient, availableGroups.get(), topicIds)
+                    if (stages.contains(Stage.COMMITTED_OFFSETS)) {
+                        return fetchOffsets(adminClient, availableGroups.get(), topicIds, stages)
                                 .thenApply(nothing -> result);
                     }
 
@@ -480,18 +1499,45 @@ public class ConsumerGroupService {
                 });
     }
 
-    CompletableFuture<Void> fetchOffsets(Admin adminClient, Map<String, ConsumerGroup> groups, Map<String, String> topicIds) {
-        var groupOffsetsRequest = groups.keySet()
-                .stream()
+    /**
+     * Fetch the committed offsets of the groups and, when requested by the
+     * stages, the end offsets of the partitions with committed offsets.
+     */
+    CompletableFuture<Void> fetchOffsets(Admin adminClient, Map<String, ConsumerGroup> groups, Map<String, String> topicIds, Set<Stage> stages) {
+        return fetchCommittedOffsets(adminClient, groups.keySet())
+            .thenCompose(groupOffsets -> {
+                CompletableFuture<Map<TopicPartition, Either<ListOffsetsResultInfo, Throwable>>> pendingEndOffsets;
+
+                if (stages.contains(Stage.END_OFFSETS)) {
+                    pendingEndOffsets = fetchEndOffsets(adminClient, groupOffsets);
+                } else {
+                    pendingEndOffsets = CompletableFuture.completedFuture(Collections.emptyMap());
+                }
+
+                return pendingEndOffsets.thenAccept(topicOffsets -> groups.forEach((groupId, group) -> {
+                    var grpOffsets = groupOffsets.get(groupId);
+                    addOffsets(group,
+                            topicIds,
+                            topicOffsets,
+                            grpOffsets.getOptionalPrimary().orElse(null),
+                            grpOffsets.getAlternate(),
+                            stages.contains(Stage.LAG));
+                }));
+            });
+    }
+
+    CompletableFuture<Map<String, Either<Map<TopicPartition, org.apache.kafka.clients.consumer.OffsetAndMetadata>, Throwable>>> fetchCommittedOffsets(
+            Admin adminClient,
+            Collection<String> groupIds) {
+
+        var groupOffsetsRequest = groupIds.stream()
                 .collect(Collectors.toMap(Function.identity(), key -> ALL_GROUP_PARTITIONS));
 
         var groupOffsetsResult = adminClient.listConsumerGroupOffsets(groupOffsetsRequest);
 
-        Map<String, Either<Map<TopicPartition, org.apache.kafka.clients.consumer.OffsetAndMetadata>, Throwable>> groupOffsets = new LinkedHashMap<>();
-        Map<TopicPartition, Either<ListOffsetsResultInfo, Throwable>> topicOffsets = new LinkedHashMap<>();
+        Map<String, Either<Map<TopicPartition, org.apache.kafka.clients.consumer.OffsetAndMetadata>, Throwable>> groupOffsets = new ConcurrentHashMap<>();
 
-        var pendingGroupOps = groups.keySet()
-            .stream()
+        var pendingGroupOps = groupIds.stream()
             .map(groupId -> groupOffsetsResult.partitionsToOffsetAndMetadata(groupId)
                     .toCompletionStage()
                     .toCompletableFuture()
@@ -501,47 +1547,101 @@ public class ConsumerGroupService {
                     }))
             .toArray(CompletableFuture[]::new);
 
-        return CompletableFuture.allOf(pendingGroupOps)
-            .thenApply(nothing -> {
-                var topicOffsetsRequest = groupOffsets.values()
-                        .stream()
-                        .filter(Either::isPrimaryPresent)
-                        .map(Either::getPrimary)
-                        .map(Map::keySet)
-                        .flatMap(Collection::stream)
-                        .distinct()
-                        .collect(Collectors.toMap(Function.identity(), key -> LATEST_TOPIC_OFFSETS));
-                var topicOffsetsResult = adminClient.listOffsets(topicOffsetsRequest);
+        return CompletableFuture.allOf(pendingGroupOps).thenApply(nothing -> groupOffsets);
+    }
 
-                return topicOffsetsRequest.keySet()
-                    .stream()
-                    .map(partition -> topicOffsetsResult
-                        .partitionResult(partition)
-                        .toCompletionStage()
-                        .toCompletableFuture()
-                        .<Void>handle((offset, error) -> {
-                            topicOffsets.put(partition, Either.of(Optional.ofNullable(offset), error));
-                            return null;
-                        }))
-                    .toArray(CompletableFuture[]::new);
-            })
-            .thenCompose(CompletableFuture::allOf)
-            .thenRun(() -> groups.forEach((groupId, group) -> {
-                var grpOffsets = groupOffsets.get(groupId);
-                addOffsets(group, topicIds, topicOffsets, grpOffsets.getOptionalPrimary().orElse(null), grpOffsets.getAlternate());
-            }));
+    /**
+     * Fetch the end offsets of the partitions with committed offsets. When the
+     * {@linkplain ConsumerGroupLagMonitor lag monitor} has a recent snapshot for
+     * the cluster, its end offsets are used for partitions where the snapshot
+     * is not behind any group's committed offset. The remaining partitions are
+     * requested from the brokers.
+     */
+    CompletableFuture<Map<TopicPartition, Either<ListOffsetsResultInfo, Throwable>>> fetchEndOffsets(
+            Admin adminClient,
+            Map<String, Either<Map<TopicPartition, org.apache.kafka.clients.consumer.OffsetAndMetadata>, Throwable>> groupOffsets) {
+
+        Map<TopicPartition, Long> maxCommitted = new HashMap<>();
+
+        groupOffsets.values()
+            .stream()
+            .filter(Either::isPrimaryPresent)
+            .map(Either::getPrimary)
+            .map(Map::entrySet)
+            .flatMap(Collection::stream)
+            .forEach(e -> maxCommitted.merge(
+                    e.getKey(),
+                    e.getValue() != null ? e.getValue().offset() : -1L,
+                    Math::max));
+
+        var snapshot = lagMonitor.recentSnapshot(kafkaContext);
+        Map<TopicPartition, Either<ListOffsetsResultInfo, Throwable>> snapshotOffsets = new HashMap<>();
+        Set<TopicPartition> partitions = new HashSet<>();
+
+        maxCommitted.forEach((partition, committed) -> {
+            OptionalLong endOffset = snapshot.isPresent()
+                    ? snapshot.get().endOffset(partition)
+                    : OptionalLong.empty();
+
+            if (endOffset.isPresent() && endOffset.getAsLong() >= committed) {
+                snapshotOffsets.put(partition, Either.of(new ListOffsetsResultInfo(endOffset.getAsLong(), -1, Optional.empty())));
+            } else {
+                partitions.add(partition);
+            }
+        });
+
+        return fetchEndOffsets(adminClient, partitions)
+            .thenApply(topicOffsets -> {
+                topicOffsets.putAll(snapshotOffsets);
+                return topicOffsets;
+            });
+    }
+
+    CompletableFuture<Map<TopicPartition, Either<ListOffsetsResultInfo, Throwable>>> fetchEndOffsets(
+            Admin adminClient,
+            Set<TopicPartition> partitions) {
+
+        Map<TopicPartition, Either<ListOffsetsResultInfo, Throwable>> topicOffsets = new ConcurrentHashMap<>();
+
+        if (partitions.isEmpty()) {
+            return CompletableFuture.completedFuture(topicOffsets);
+        }
+
+        var topicOffsetsRequest = partitions.stream()
+                .collect(Collectors.toMap(Function.identity(), key -> LATEST_TOPIC_OFFSETS));
+        var topicOffsetsResult = adminClient.listOffsets(topicOffsetsRequest);
+
+        var pendingTopicOps = partitions.stream()
+            .map(partition -> topicOffsetsResult
+                .partitionResult(partition)
+                .toCompletionStage()
+                .toCompletableFuture()
+                .<Void>handle((offset, error) -> {
+                    topicOffsets.put(partition, Either.of(Optional.ofNullable(offset), error));
+
+                    if (offset != null) {
+                        kafkaContext.offsetTimestamps().record(partition, offset.offset(), System.currentTimeMillis());
+                    }
+
+                    return null;
+                }))
+            .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(pendingTopicOps).thenApply(nothing -> topicOffsets);
     }
 
     void addOffsets(ConsumerGroup group,
             Map<String, String> topicIds,
             Map<TopicPartition, Either<ListOffsetsResultInfo, Throwable>> topicOffsets,
             Map<TopicPartition, org.apache.kafka.clients.consumer.OffsetAndMetadata> groupOffsets,
-            Throwable thrown) {
+            Throwable thrown,
+            boolean includeLag) {
 
         if (thrown != null) {
             group.addError(new Error("Unable to list consumer group offsets", thrown.getMessage(), thrown));
         } else {
             List<OffsetAndMetadata> offsets = new ArrayList<>();
+            long now = System.currentTimeMillis();
 
             groupOffsets.forEach((topicPartition, offsetsAndMetadata) -> {
                 long offset = offsetsAndMetadata.offset();
@@ -558,18 +1658,33 @@ public class ConsumerGroupService {
                             return null;
                         });
 
+                Long timeLag = null;
+
+                if (includeLag && endOffset.isPresent()) {
+                    OptionalLong estimate = kafkaContext.offsetTimestamps()
+                            .timeLag(topicPartition, offset, endOffset.get(), now);
+                    timeLag = estimate.isPresent() ? estimate.getAsLong() : null;
+                }
+
                 offsets.add(new OffsetAndMetadata(
                         topicIds.get(topicPartition.topic()),
                         topicPartition.topic(),
                         topicPartition.partition(),
                         Either.of(offsetsAndMetadata.offset()),
                         endOffset.orElse(null), // log end offset
-                        endOffset.map(end -> end - offset).orElse(null), // lag
+                        endOffset.filter(end -> includeLag).map(end -> end - offset).orElse(null), // lag
+                        timeLag,
                         offsetsAndMetadata.metadata(),
                         offsetsAndMetadata.leaderEpoch().orElse(null)));
             });
 
             group.setOffsets(offsets);
+
+            offsets.stream()
+                .map(OffsetAndMetadata::timeLag)
+                .filter(Objects::nonNull)
+                .max(Long::compare)
+                .ifPresent(group::setTimeLag);
         }
     }
 
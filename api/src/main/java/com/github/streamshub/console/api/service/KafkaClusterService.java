@@ -94,7 +94,7 @@ public class KafkaClusterService {
                     String id = ctx.getKey();
                     var config = ctx.getValue().clusterConfig();
 
-                    return kafkaResources.stream()
+                    KafkaCluster cluster = kafkaResources.stream()
                         .filter(k -> Objects.equals(k.getName(), config.getName()))
                         .filter(k -> Objects.equals(k.getNamespace(), config.getNamespace()))
                         .map(k -> addKafkaContextData(k, ctx.getValue()))
@@ -106,6 +106,12 @@ public class KafkaClusterService {
                             k.setNamespace(config.getNamespace());
                             return k;
                         });
+
+                    var breaker = ctx.getValue().circuitBreaker();
+                    double latencyMs = breaker.meanLatencyMs();
+                    cluster.setCircuitState(breaker.state().name());
+                    cluster.setMeanLatencyMs(Double.isNaN(latencyMs) ? null : Math.round(latencyMs));
+                    return cluster;
                 })
                 .collect(Collectors.toMap(KafkaCluster::getId, Function.identity()));
 
@@ -113,12 +119,8 @@ public class KafkaClusterService {
                 .filter(k -> !configuredClusters.containsKey(k.getId()))
                 .toList();
 
-        return Stream.concat(configuredClusters.values().stream(), otherClusters.stream())
-                .map(listSupport::tally)
-                .filter(listSupport::betweenCursors)
-                .sorted(listSupport.getSortComparator())
-                .dropWhile(listSupport::beforePageBegin)
-                .takeWhile(listSupport::pageCapacityAvailable)
+        return listSupport.selectPage(Stream.concat(configuredClusters.values().stream(), otherClusters.stream()))
+                .stream()
                 .map(this::setManaged)
                 .toList();
     }
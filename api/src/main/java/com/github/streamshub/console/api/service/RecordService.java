@@ -38,7 +38,6 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.common.PartitionInfo;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.Uuid;
 import org.apache.kafka.common.errors.InvalidPartitionsException;
@@ -50,6 +49,7 @@ import org.jboss.logging.Logger;
 
 import com.github.streamshub.console.api.model.KafkaRecord;
 import com.github.streamshub.console.api.support.KafkaContext;
+import com.github.streamshub.console.api.support.RecordConsumerPool;
 import com.github.streamshub.console.api.support.SizeLimitedSortedSet;
 
 import static java.util.Objects.requireNonNullElse;
@@ -66,16 +66,19 @@ public class RecordService {
     @Inject
     KafkaContext kafkaContext;
 
-    @Inject
-    Supplier<Consumer<byte[], byte[]>> consumerSupplier;
-
     @Inject
     Supplier<Producer<String, String>> producerSupplier;
 
     @Inject
     ThreadContext threadContext;
 
-    public List<KafkaRecord> consumeRecords(String topicId,
+    /**
+     * Consume records from the topic. The topic is resolved asynchronously and
+     * the records are then read using a consumer from the cluster's
+     * {@linkplain RecordConsumerPool} on the consumer's poller thread, so
+     * that no request thread is blocked while waiting for records.
+     */
+    public CompletionStage<List<KafkaRecord>> consumeRecords(String topicId,
             Integer partition,
             Long offset,
             Instant timestamp,
@@ -83,14 +86,32 @@ public class RecordService {
             List<String> include,
             Integer maxValueLength) {
 
-        List<PartitionInfo> partitions = topicNameForId(topicId)
-            .thenApplyAsync(
-                    topicName -> consumerSupplier.get().partitionsFor(topicName),
-                    threadContext.currentContextExecutor())
-            .toCompletableFuture()
-            .join();
+        RecordConsumerPool consumers = kafkaContext.recordConsumers();
+
+        return topicNameForId(topicId)
+            .thenCompose(topicName -> consumers.execute(consumer -> pollRecords(consumer,
+                    topicName,
+                    topicId,
+                    partition,
+                    offset,
+                    timestamp,
+                    limit,
+                    include,
+                    maxValueLength)));
+    }
+
+    List<KafkaRecord> pollRecords(Consumer<byte[], byte[]> consumer,
+            String topicName,
+            String topicId,
+            Integer partition,
+            Long offset,
+            Instant timestamp,
+            Integer limit,
+            List<String> include,
+            Integer maxValueLength) {
 
-        List<TopicPartition> assignments = partitions.stream()
+        List<TopicPartition> assignments = consumer.partitionsFor(topicName)
+            .stream()
             .filter(p -> partition == null || partition.equals(p.partition()))
             .map(p -> new TopicPartition(p.topic(), p.partition()))
             .toList();
@@ -99,7 +120,6 @@ public class RecordService {
             return Collections.emptyList();
         }
 
-        Consumer<byte[], byte[]> consumer = consumerSupplier.get();
         consumer.assign(assignments);
         var endOffsets = consumer.endOffsets(assignments);
 
@@ -8,7 +8,6 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -19,7 +18,6 @@ import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -29,9 +27,7 @@ import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.CreatePartitionsOptions;
 import org.apache.kafka.clients.admin.CreateTopicsOptions;
 import org.apache.kafka.clients.admin.CreateTopicsResult;
-import org.apache.kafka.clients.admin.DescribeLogDirsOptions;
 import org.apache.kafka.clients.admin.DescribeTopicsOptions;
-import org.apache.kafka.clients.admin.ListOffsetsOptions;
 import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
 import org.apache.kafka.clients.admin.ListTopicsOptions;
 import org.apache.kafka.clients.admin.NewPartitionReassignment;
@@ -41,6 +37,8 @@ import org.apache.kafka.common.TopicCollection;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.Uuid;
 import org.apache.kafka.common.config.ConfigResource;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ManagedExecutor;
 import org.eclipse.microprofile.context.ThreadContext;
 import org.jboss.logging.Logger;
 
@@ -52,10 +50,15 @@ import com.github.streamshub.console.api.model.PartitionId;
 import com.github.streamshub.console.api.model.PartitionInfo;
 import com.github.streamshub.console.api.model.ReplicaLocalStorage;
 import com.github.streamshub.console.api.model.Topic;
+import com.github.streamshub.console.api.model.TopicFilterParams;
 import com.github.streamshub.console.api.model.TopicPatch;
+import com.github.streamshub.console.api.support.FetchFilterPredicate;
 import com.github.streamshub.console.api.support.KafkaContext;
 import com.github.streamshub.console.api.support.KafkaOffsetSpec;
 import com.github.streamshub.console.api.support.ListRequestContext;
+import com.github.streamshub.console.api.support.PartitionRequestBatcher;
+import com.github.streamshub.console.api.support.TopicConfigCache;
+import com.github.streamshub.console.api.support.TopicNameIndex;
 import com.github.streamshub.console.api.support.TopicValidation;
 import com.github.streamshub.console.api.support.UnknownTopicIdPatch;
 import com.github.streamshub.console.api.support.ValidationProxy;
@@ -85,6 +88,7 @@ public class TopicService {
             Topic.Fields.NUM_PARTITIONS,
             Topic.Fields.TOTAL_LEADER_LOG_BYTES,
             Topic.Fields.STATUS);
+    private static final Set<String> LISTING_SORT_NAMES = Set.of("id", Topic.Fields.NAME);
 
     @Inject
     Logger logger;
@@ -97,6 +101,13 @@ public class TopicService {
     @Inject
     ThreadContext threadContext;
 
+    /**
+     * Executor used to refresh the cluster's topic name index, possibly after
+     * the request has completed.
+     */
+    @Inject
+    ManagedExecutor managedExecutor;
+
     @Inject
     ValidationProxy validationService;
 
@@ -116,6 +127,18 @@ public class TopicService {
     @Inject
     ConsumerGroupService consumerGroupService;
 
+    @Inject
+    PartitionRequestBatcher requestBatcher;
+
+    /**
+     * Maximum age of the cluster's topic name index. Topic listings are served
+     * from the index and the index is refreshed from a new listing of the
+     * cluster's topics once it is older.
+     */
+    @Inject
+    @ConfigProperty(name = "console.kafka.topic-name-index.max-age-ms", defaultValue = "30000")
+    long topicNameIndexMaxAgeMs;
+
     public CompletionStage<NewTopic> createTopic(NewTopic topic, boolean validateOnly) {
         Kafka kafka = kafkaContext.resource();
         Admin adminClient = kafkaContext.admin();
@@ -151,7 +174,14 @@ public class TopicService {
 
         return result.all()
                 .thenApply(nothing -> NewTopic.fromKafkaModel(topicName, result))
-                .toCompletionStage();
+                .toCompletionStage()
+                .thenApply(created -> {
+                    if (!validateOnly) {
+                        kafkaContext.topicNames().add(created.name(), created.topicId());
+                        kafkaContext.topicConfigs().invalidate(created.name());
+                    }
+                    return created;
+                });
     }
 
     public CompletionStage<List<Topic>> listTopics(List<String> fields, String offsetSpec, ListRequestContext<Topic> listSupport) {
@@ -164,25 +194,154 @@ public class TopicService {
         Admin adminClient = kafkaContext.admin();
         final Map<String, Integer> statuses = new HashMap<>();
         listSupport.meta().put("summary", Map.of("statuses", statuses));
+        boolean pageFirst = selectPageFromListing(fetchList, listSupport);
 
-        return listTopics(adminClient, true)
-            .thenApply(list -> list.stream().map(Topic::fromTopicListing).toList())
+        return topicListings(adminClient, listSupport)
+            .thenApply(list -> list.stream()
+                    .map(Topic::fromTopicListing)
+                    .filter(nameFilter(listSupport))
+                    .toList())
+            .thenApply(list -> pageFirst ? selectPage(list, statuses, listSupport) : list)
             .thenComposeAsync(
                     list -> augmentList(adminClient, list, fetchList, offsetSpec),
                     threadContext.currentContextExecutor())
-            .thenApply(list -> list.stream()
-                    .filter(listSupport)
-                    .map(topic -> tallyStatus(statuses, topic))
-                    .map(listSupport::tally)
-                    .filter(listSupport::betweenCursors)
-                    .sorted(listSupport.getSortComparator())
-                    .dropWhile(listSupport::beforePageBegin)
-                    .takeWhile(listSupport::pageCapacityAvailable))
+            .thenApply(list -> pageFirst ? list : selectPage(list, statuses, listSupport))
             .thenApplyAsync(
-                    topics -> topics.map(this::setManaged).toList(),
+                    topics -> topics.stream().map(this::setManaged).toList(),
                     threadContext.currentContextExecutor());
     }
 
+    List<Topic> selectPage(List<Topic> list, Map<String, Integer> statuses, ListRequestContext<Topic> listSupport) {
+        return listSupport.selectPage(list.stream()
+                .filter(listSupport)
+                .map(topic -> tallyStatus(statuses, topic)));
+    }
+
+    /**
+     * Determine whether the requested page may be selected from the topic
+     * listings, before the topics are described or augmented with offsets,
+     * etc. This is the case when the sort, the filters, and the status summary
+     * depend only on the topics' names, Ids, and visibility. Only the topics on
+     * the page are then augmented.
+     */
+    static boolean selectPageFromListing(List<String> fields, ListRequestContext<Topic> listSupport) {
+        return LISTING_SORT_NAMES.containsAll(listSupport.getSortNames())
+                && REQUIRE_PARTITIONS.stream().noneMatch(fields::contains)
+                && listSupport.filters()
+                    .stream()
+                    .noneMatch(filter -> !(filter instanceof FetchFilterPredicate<?, ?> fetchFilter)
+                            || TopicFilterParams.STATUS_FILTER.equals(fetchFilter.name()));
+    }
+
+    /**
+     * List the cluster's topics that may match the request's {@code filter[name]}.
+     * For clusters accessed with a shared Admin client, the topics are taken (in
+     * name order) from the cluster's topic name index, narrowed to the
+     * candidates found by the index for the filter, if any. The index is
+     * refreshed from a listing of the cluster's topics once it is older than its
+     * maximum age. Otherwise, the topics visible to the caller are listed for
+     * each request, since the index is shared by all users of the cluster.
+     */
+    CompletionStage<List<TopicListing>> topicListings(Admin adminClient, ListRequestContext<Topic> listSupport) {
+        TopicNameIndex topicNames = kafkaContext.topicNames();
+
+        if (!kafkaContext.sharedAdmin()) {
+            return listTopics(adminClient, true).thenApply(listings -> {
+                if (topicNames.beginRefresh(System.currentTimeMillis(), topicNameIndexMaxAgeMs)) {
+                    // Used only to look up topic names and Ids, the request does not wait
+                    refreshTopicNames(topicNames, listings);
+                }
+                return listings;
+            });
+        }
+
+        boolean refresh = topicNames.beginRefresh(System.currentTimeMillis(), topicNameIndexMaxAgeMs);
+
+        if (!refresh && !topicNames.isPopulated()) {
+            // Initial refresh in progress for another request
+            return listTopics(adminClient, true);
+        }
+
+        CompletionStage<TopicNameIndex> pendingIndex = refresh
+                ? listTopics(adminClient, true)
+                    .whenComplete((listings, error) -> {
+                        if (error != null) {
+                            topicNames.cancelRefresh();
+                        }
+                    })
+                    .thenCompose(listings -> refreshTopicNames(topicNames, listings))
+                : CompletableFuture.completedStage(topicNames);
+
+        return pendingIndex.thenApply(index -> {
+            Collection<String> candidates = listSupport.filters()
+                    .stream()
+                    .filter(FetchFilterPredicate.class::isInstance)
+                    .map(filter -> (FetchFilterPredicate<?, ?>) filter)
+                    .filter(filter -> TopicFilterParams.NAME_FILTER.equals(filter.name()))
+                    .findFirst()
+                    .map(filter -> index.candidates(filter.operator(), stringOperands(filter)))
+                    .orElse(null);
+
+            return index.listings(candidates);
+        });
+    }
+
+    static List<String> stringOperands(FetchFilterPredicate<?, ?> filter) {
+        return filter.operands().stream().map(String::valueOf).toList();
+    }
+
+    /**
+     * Refresh the cluster's topic name index from the given listing of the
+     * cluster's topics, following a successful claim of the refresh. The
+     * refresh is performed by the managed executor rather than the Admin
+     * client's thread that completed the listing.
+     */
+    CompletionStage<TopicNameIndex> refreshTopicNames(TopicNameIndex topicNames, List<TopicListing> listings) {
+        TopicConfigCache topicConfigs = kafkaContext.topicConfigs();
+
+        return CompletableFuture.supplyAsync(() -> {
+            topicNames.refresh(listings);
+            topicConfigs.prune(name -> topicNames.topicId(name).isPresent());
+            return topicNames;
+        }, managedExecutor).whenComplete((index, error) -> {
+            if (error != null) {
+                topicNames.cancelRefresh();
+                logger.warnf(error, "Failed to refresh topic name index");
+            }
+        });
+    }
+
+    /**
+     * The cluster's topic name index, populated from a listing of the cluster's
+     * topics when it has not yet been populated.
+     */
+    public CompletionStage<TopicNameIndex> topicNames(Admin adminClient) {
+        TopicNameIndex topicNames = kafkaContext.topicNames();
+
+        if (topicNames.isPopulated()) {
+            return CompletableFuture.completedStage(topicNames);
+        }
+
+        return listTopics(adminClient, true).thenApply(listings -> {
+            topicNames.refresh(listings);
+            return topicNames;
+        });
+    }
+
+    /**
+     * The request's {@code filter[name]}, if any, applied to topics before they
+     * are described or augmented with offsets, etc. The filter is applied again
+     * with the request's other filters.
+     */
+    static Predicate<Topic> nameFilter(ListRequestContext<Topic> listSupport) {
+        return listSupport.filters()
+                .stream()
+                .filter(FetchFilterPredicate.class::isInstance)
+                .filter(filter -> TopicFilterParams.NAME_FILTER.equals(((FetchFilterPredicate<?, ?>) filter).name()))
+                .findFirst()
+                .orElse(topic -> true);
+    }
+
     Topic tallyStatus(Map<String, Integer> statuses, Topic topic) {
         statuses.compute(topic.status(), (k, v) -> v == null ? 1 : v + 1);
         return topic;
@@ -211,7 +370,7 @@ public class TopicService {
             var topics = Map.of(id, topic);
 
             return CompletableFuture.allOf(
-                    maybeDescribeConfigs(adminClient, topics, fields),
+                    maybeDescribeConfigs(adminClient, topics, fields, false),
                     maybeFetchConsumerGroups(topics, fields))
                 .thenApply(nothing -> topic);
         }, threadContext.currentContextExecutor());
@@ -420,7 +579,10 @@ public class TopicService {
         return adminClient.deleteTopics(TopicCollection.ofTopicIds(List.of(id)))
                 .topicIdValues()
                 .get(id)
-                .toCompletionStage();
+                .toCompletionStage()
+                .thenRun(() -> kafkaContext.topicNames()
+                        .removeById(topicId)
+                        .ifPresent(kafkaContext.topicConfigs()::invalidate));
     }
 
     Topic setManaged(Topic topic) {
@@ -450,26 +612,33 @@ public class TopicService {
 
     CompletionStage<List<Topic>> augmentList(Admin adminClient, List<Topic> list, List<String> fields, String offsetSpec) {
         Map<Uuid, Topic> topics = list.stream().collect(Collectors.toMap(t -> Uuid.fromString(t.getId()), Function.identity()));
-        CompletableFuture<Void> configPromise = maybeDescribeConfigs(adminClient, topics, fields);
+        CompletableFuture<Void> configPromise = maybeDescribeConfigs(adminClient, topics, fields, true);
         CompletableFuture<Void> describePromise = maybeDescribeTopics(adminClient, topics, fields, offsetSpec);
         CompletableFuture<Void> consumerGroupPromise = maybeFetchConsumerGroups(topics, fields);
 
         return CompletableFuture.allOf(configPromise, describePromise, consumerGroupPromise)
-                .thenApply(nothing -> list);
+                .thenApply(nothing -> {
+                    // Augmentation is complete, derived attributes will no longer change
+                    list.forEach(Topic::memoizeDerivedAttributes);
+                    return list;
+                });
     }
 
-    CompletableFuture<Void> maybeDescribeConfigs(Admin adminClient, Map<Uuid, Topic> topics, List<String> fields) {
+    /**
+     * Add the configurations of the topics when requested by the fields. Cached
+     * configurations are used for topic listings, whereas describing a single
+     * topic always retrieves (and caches) the current configuration.
+     */
+    CompletableFuture<Void> maybeDescribeConfigs(Admin adminClient, Map<Uuid, Topic> topics, List<String> fields, boolean cached) {
         if (fields.contains(Topic.Fields.CONFIGS)) {
             Map<String, Uuid> topicIds = new HashMap<>();
-            List<ConfigResource> keys = topics.values().stream()
-                    .map(topic -> {
-                        topicIds.put(topic.name(), Uuid.fromString(topic.getId()));
-                        return topic.name();
-                    })
-                    .map(name -> new ConfigResource(ConfigResource.Type.TOPIC, name))
-                    .toList();
+            topics.values().forEach(topic -> topicIds.put(topic.name(), Uuid.fromString(topic.getId())));
 
-            return configService.describeConfigs(adminClient, keys)
+            var pendingConfigs = cached
+                    ? configService.describeTopicConfigs(adminClient, topicIds.keySet())
+                    : configService.describeAndCacheTopicConfigs(adminClient, topicIds.keySet());
+
+            return pendingConfigs
                 .thenAccept(configs ->
                     configs.forEach((name, either) -> topics.get(topicIds.get(name)).addConfigs(either)))
                 .toCompletableFuture();
@@ -566,17 +735,15 @@ public class TopicService {
                         .orElse(false))
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
 
-        var pendingOffsets = getRequestOffsetSpecs(offsetSpec)
-            .stream()
-            .map(reqOffsetSpec -> topicPartitionLeaders(onlineTopics, topicIds)
-                .keySet()
-                .stream()
-                .collect(Collectors.toMap(Function.identity(), ignored -> reqOffsetSpec)))
-            .flatMap(request -> listOffsets(adminClient, onlineTopics, topicIds, request))
-            .map(CompletionStage::toCompletableFuture)
-            .toArray(CompletableFuture[]::new);
+        var partitionLeaders = toKafkaModel(topicPartitionLeaders(onlineTopics, topicIds));
 
-        return CompletableFuture.allOf(pendingOffsets);
+        return requestBatcher.listOffsets(adminClient, partitionLeaders, getRequestOffsetSpecs(offsetSpec),
+                (partition, spec, offsetResult, error) ->
+                    addOffset(onlineTopics.get(topicIds.get(partition.topic())).getPrimary(),
+                            partition.partition(),
+                            getOffsetKey(spec),
+                            offsetResult,
+                            error));
     }
 
     List<OffsetSpec> getRequestOffsetSpecs(String offsetSpec) {
@@ -640,40 +807,14 @@ public class TopicService {
         return "timestamp";
     }
 
-    Stream<CompletionStage<Void>> listOffsets(
-            Admin adminClient,
-            Map<Uuid, Either<Topic, Throwable>> topics,
-            Map<String, Uuid> topicIds,
-            Map<PartitionId, OffsetSpec> request) {
-
-        var kafkaRequest = request.entrySet()
-                .stream()
-                .map(e -> Map.entry(e.getKey().toKafkaModel(), e.getValue()))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-        var result = adminClient.listOffsets(kafkaRequest, new ListOffsetsOptions()
-                .timeoutMs(5000));
-
-        return kafkaRequest.entrySet()
+    static Map<TopicPartition, Integer> toKafkaModel(Map<PartitionId, Integer> partitionLeaders) {
+        return partitionLeaders.entrySet()
                 .stream()
-                .map(entry -> result.partitionResult(entry.getKey())
-                        .toCompletionStage()
-                        .<Void>handle((offsetResult, error) -> {
-                            addOffset(topics.get(topicIds.get(entry.getKey().topic())).getPrimary(),
-                                        entry.getKey().partition(),
-                                        getOffsetKey(entry.getValue()),
-                                        offsetResult,
-                                        error);
-                            return null;
-                        }));
-
+                .collect(Collectors.toMap(e -> e.getKey().toKafkaModel(), Map.Entry::getValue));
     }
 
     void addOffset(Topic topic, int partitionNo, String key, ListOffsetsResultInfo result, Throwable error) {
-        topic.partitions()
-            .getPrimary()
-            .stream()
-            .filter(partition -> partition.getPartition() == partitionNo)
-            .findFirst()
+        topic.partition(partitionNo)
             .ifPresent(partition -> partition.addOffset(key, either(result, error)));
     }
 
@@ -688,46 +829,12 @@ public class TopicService {
 
     CompletionStage<Void> describeLogDirs(Admin adminClient, Map<Uuid, Either<Topic, Throwable>> topics) {
         Map<String, Uuid> topicIds = new HashMap<>(topics.size());
+        var partitionLeaders = toKafkaModel(topicPartitionLeaders(topics, topicIds));
 
-        var topicPartitionReplicas = topicPartitionLeaders(topics, topicIds);
-        var nodeIds = topicPartitionReplicas.values().stream().distinct().toList();
-        var logDirs = adminClient.describeLogDirs(nodeIds, new DescribeLogDirsOptions()
-                .timeoutMs(5000))
-                .descriptions();
-
-        var pendingInfo = topicPartitionReplicas.entrySet()
-            .stream()
-            .map(e -> {
-                var topicPartition = e.getKey().toKafkaModel();
-                int nodeId = e.getValue();
-                var partitionInfo = topics.get(topicIds.get(topicPartition.topic()))
-                        .getPrimary()
-                        .partitions()
-                        .getPrimary()
-                        .stream()
-                        .filter(p -> p.getPartition() == topicPartition.partition())
-                        .findFirst();
-
-                return logDirs.get(nodeId).toCompletionStage().<Void>handle((nodeLogDirs, error) -> {
-                    if (error != null) {
-                        partitionInfo.ifPresent(p -> p.setReplicaLocalStorage(nodeId, Either.ofAlternate(error)));
-                    } else {
-                        nodeLogDirs.values()
-                            .stream()
-                            .map(dir -> dir.replicaInfos())
-                            .map(replicas -> replicas.get(topicPartition))
-                            .filter(Objects::nonNull)
-                            .map(org.apache.kafka.clients.admin.ReplicaInfo.class::cast)
-                            .map(ReplicaLocalStorage::fromKafkaModel)
-                            .forEach(replicaInfo -> partitionInfo.ifPresent(p -> p.setReplicaLocalStorage(nodeId, Either.of(replicaInfo))));
-                    }
-
-                    return null;
-                });
-            })
-            .map(CompletionStage::toCompletableFuture)
-            .toArray(CompletableFuture[]::new);
-
-        return CompletableFuture.allOf(pendingInfo);
+        return requestBatcher.describeLogDirs(adminClient, partitionLeaders, (topicPartition, nodeId, replicaInfo, error) ->
+            topics.get(topicIds.get(topicPartition.topic()))
+                .getPrimary()
+                .partition(topicPartition.partition())
+                .ifPresent(p -> p.setReplicaLocalStorage(nodeId, Either.of(replicaInfo, error, ReplicaLocalStorage::fromKafkaModel))));
     }
 }
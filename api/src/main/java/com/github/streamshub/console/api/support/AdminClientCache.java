@@ -0,0 +1,365 @@
+package com.github.streamshub.console.api.support;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Startup;
+import jakarta.inject.Inject;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.config.SaslConfigs;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Cache of the Admin clients created for Kafka clusters that do not have an
+ * Admin client shared by all requests. Clients are keyed by the cluster Id and
+ * a SHA-256 fingerprint of the client configuration, including any
+ * credentials, so that concurrent and subsequent requests using the same
+ * configuration share a single client rather than each connecting and
+ * authenticating anew. The configuration itself is not retained by the cache.
+ *
+ * <p>Each request holds a {@linkplain Lease} on its client. Clients are
+ * removed from the cache when they have not been leased within the idle
+ * timeout, when their maximum lifetime has elapsed, when an OAuth access token
+ * present in the configuration expires, or when the cache exceeds its maximum
+ * size (least recently used first). A removed client is closed once the last
+ * lease on it is released.
+ *
+ * <p>Setting {@code console.kafka.admin-cache.max-size} to zero disables the
+ * cache, and each lease then closes its client when released.
+ */
+@ApplicationScoped
+public class AdminClientCache {
+
+    static final long SWEEP_INTERVAL_MS = 30_000;
+
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("oauth\\.access\\.token\\s*=\\s*\"([^\"]+)\"");
+    private static final Pattern EXPIRY_CLAIM = Pattern.compile("\"exp\"\\s*:\\s*(\\d+)");
+
+    /**
+     * Admin client leased by a single request. The lease must be released
+     * when the request no longer requires the client.
+     */
+    public static final class Lease {
+        private final Admin admin;
+        private final Runnable release;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Lease(Admin admin, Runnable release) {
+            this.admin = admin;
+            this.release = release;
+        }
+
+        public Admin admin() {
+            return admin;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                release.run();
+            }
+        }
+    }
+
+    record Key(String clusterId, String fingerprint) {
+    }
+
+    static final class Entry {
+        final Key key;
+        final Admin admin;
+        final long expiresAt;
+        long lastUsed;
+        int leases;
+        boolean retired;
+
+        Entry(Key key, Admin admin, long expiresAt, long now) {
+            this.key = key;
+            this.admin = admin;
+            this.expiresAt = expiresAt;
+            this.lastUsed = now;
+        }
+
+        synchronized boolean acquire(long now) {
+            if (retired || now >= expiresAt) {
+                return false;
+            }
+
+            leases++;
+            lastUsed = now;
+            return true;
+        }
+
+        void release(long now) {
+            boolean close;
+
+            synchronized (this) {
+                leases--;
+                lastUsed = now;
+                close = retired && leases == 0;
+            }
+
+            if (close) {
+                admin.close();
+            }
+        }
+
+        void retire() {
+            boolean close;
+
+            synchronized (this) {
+                close = !retired && leases == 0;
+                retired = true;
+            }
+
+            if (close) {
+                admin.close();
+            }
+        }
+
+        synchronized boolean evictable(long now, long idleBefore) {
+            return now >= expiresAt || (leases == 0 && lastUsed < idleBefore);
+        }
+
+        synchronized long lastUsed() {
+            return lastUsed;
+        }
+    }
+
+    @Inject
+    Logger logger;
+
+    @Inject
+    ScheduledExecutorService scheduler;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.admin-cache.max-size", defaultValue = "100")
+    int maxSize;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.admin-cache.idle-timeout-ms", defaultValue = "300000")
+    long idleTimeoutMs;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.admin-cache.max-lifetime-ms", defaultValue = "3600000")
+    long maxLifetimeMs;
+
+    /**
+     * Time before the expiry of an access token at which a client using the
+     * token is no longer leased to new requests
+     */
+    @Inject
+    @ConfigProperty(name = "console.kafka.admin-cache.token-expiry-margin-ms", defaultValue = "30000")
+    long tokenExpiryMarginMs;
+
+    final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    LongSupplier clock = System::currentTimeMillis;
+    ScheduledFuture<?> sweepTask;
+
+    void onStartup(@Observes Startup event) {
+        if (maxSize > 0) {
+            sweepTask = scheduler.scheduleWithFixedDelay(this::sweep, SWEEP_INTERVAL_MS, SWEEP_INTERVAL_MS,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (sweepTask != null) {
+            sweepTask.cancel(true);
+        }
+
+        entries.keySet().forEach(this::remove);
+    }
+
+    /**
+     * Lease the Admin client for the cluster and configuration, creating the
+     * client when no usable client is cached.
+     *
+     * @param clusterId Id of the Kafka cluster
+     * @param configs   Admin client configuration, including credentials
+     * @param builder   function to create a new Admin client
+     * @return lease on the client
+     */
+    public Lease acquire(String clusterId, Map<String, Object> configs, Function<Map<String, Object>, Admin> builder) {
+        if (maxSize <= 0) {
+            return uncached(configs, builder);
+        }
+
+        Key key = new Key(clusterId, fingerprint(configs));
+        long expiresAt = expiry(configs, clock.getAsLong());
+
+        while (true) {
+            long now = clock.getAsLong();
+
+            if (now >= expiresAt) {
+                // Token expires too soon for the client to be reused
+                return uncached(configs, builder);
+            }
+
+            Entry entry = entries.computeIfAbsent(key, k -> new Entry(k, builder.apply(configs), expiresAt, now));
+
+            if (entry.acquire(now)) {
+                if (entries.size() > maxSize) {
+                    evict(now);
+                }
+
+                return new Lease(entry.admin, () -> entry.release(clock.getAsLong()));
+            }
+
+            // Expired or removed concurrently, replace with a new client
+            if (entries.remove(key, entry)) {
+                entry.retire();
+            }
+        }
+    }
+
+    static Lease uncached(Map<String, Object> configs, Function<Map<String, Object>, Admin> builder) {
+        Admin admin = builder.apply(configs);
+        return new Lease(admin, admin::close);
+    }
+
+    /**
+     * Remove the clients of the given cluster, e.g. when the cluster's
+     * configuration is replaced or the cluster is removed.
+     */
+    public void invalidate(String clusterId) {
+        entries.keySet()
+            .stream()
+            .filter(key -> key.clusterId().equals(clusterId))
+            .toList()
+            .forEach(this::remove);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    void sweep() {
+        try {
+            evict(clock.getAsLong());
+        } catch (Exception e) {
+            logger.warnf("Failed to evict cached Admin clients: %s", e.getMessage());
+        }
+    }
+
+    void evict(long now) {
+        long idleBefore = now - idleTimeoutMs;
+
+        entries.values()
+            .stream()
+            .filter(entry -> entry.evictable(now, idleBefore))
+            .toList()
+            .forEach(entry -> remove(entry.key));
+
+        int excess = entries.size() - maxSize;
+
+        if (excess > 0) {
+            entries.values()
+                .stream()
+                .sorted(Comparator.comparingLong(Entry::lastUsed))
+                .limit(excess)
+                .toList()
+                .forEach(entry -> remove(entry.key));
+        }
+    }
+
+    void remove(Key key) {
+        Entry entry = entries.remove(key);
+
+        if (entry != null) {
+            logger.debugf("Removing cached Admin client for cluster %s", key.clusterId());
+            entry.retire();
+        }
+    }
+
+    long expiry(Map<String, Object> configs, long now) {
+        long expiresAt = now + maxLifetimeMs;
+        Long tokenExpiry = tokenExpiry(configs);
+
+        if (tokenExpiry != null) {
+            expiresAt = Math.min(expiresAt, tokenExpiry - tokenExpiryMarginMs);
+        }
+
+        return expiresAt;
+    }
+
+    /**
+     * Expiry time of the OAuth access token (JWT) given in the JAAS
+     * configuration, if present.
+     *
+     * @return the expiry in milliseconds since the epoch, or null when the
+     *         configuration has no access token or the token has no expiry
+     */
+    static Long tokenExpiry(Map<String, Object> configs) {
+        Object jaasConfig = configs.get(SaslConfigs.SASL_JAAS_CONFIG);
+
+        if (jaasConfig == null) {
+            return null;
+        }
+
+        Matcher token = ACCESS_TOKEN.matcher(jaasConfig.toString());
+
+        if (!token.find()) {
+            return null;
+        }
+
+        String[] segments = token.group(1).split("\\.");
+
+        if (segments.length < 2) {
+            return null;
+        }
+
+        String claims;
+
+        try {
+            claims = new String(Base64.getUrlDecoder().decode(segments[1]), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            // Not a JWT
+            return null;
+        }
+
+        Matcher expiry = EXPIRY_CLAIM.matcher(claims);
+        return expiry.find() ? TimeUnit.SECONDS.toMillis(Long.parseLong(expiry.group(1))) : null;
+    }
+
+    /**
+     * SHA-256 digest of the configuration entries in key order, allowing
+     * clients to be found by configuration without retaining credentials.
+     */
+    static String fingerprint(Map<String, Object> configs) {
+        MessageDigest digest;
+
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        new TreeMap<>(configs).forEach((name, value) -> {
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        });
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+    }
+}
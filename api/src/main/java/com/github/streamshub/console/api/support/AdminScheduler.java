@@ -0,0 +1,169 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.github.streamshub.console.api.support.AdminWorkQueue.Priority;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Submits Admin work to the {@linkplain AdminWorkQueue} of a Kafka cluster
+ * using the limits given in the application's configuration, so that work
+ * performed by the application's monitors gives way to the work of requests.
+ * The Admin client is obtained from the context when the work starts.
+ *
+ * <p>The depth of each cluster's queues and the time calls wait before they
+ * start are exported to the application's meter registry.
+ */
+@ApplicationScoped
+public class AdminScheduler {
+
+    static final String QUEUE_DEPTH_METRIC = "console.kafka.admin.queue.depth";
+    static final String QUEUE_WAIT_METRIC = "console.kafka.admin.queue.wait";
+    static final String CLUSTER_ID_TAG = "cluster.id";
+    static final String PRIORITY_TAG = "priority";
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    /**
+     * All Kafka contexts known to the application
+     */
+    @Inject
+    Map<String, KafkaContext> kafkaContexts;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.admin.scheduler.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.admin.scheduler.max-in-flight", defaultValue = "2")
+    int maxInFlight;
+
+    /**
+     * Background calls started per second
+     */
+    @Inject
+    @ConfigProperty(name = "console.kafka.admin.scheduler.background-rate", defaultValue = "2")
+    double backgroundRate;
+
+    /**
+     * Bulk calls started per second
+     */
+    @Inject
+    @ConfigProperty(name = "console.kafka.admin.scheduler.bulk-rate", defaultValue = "0.2")
+    double bulkRate;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.admin.scheduler.burst", defaultValue = "2")
+    int burst;
+
+    /**
+     * Number of requests to a cluster in progress at which the cluster's
+     * background calls are held and bulk calls preempted
+     */
+    @Inject
+    @ConfigProperty(name = "console.kafka.admin.scheduler.interactive-threshold", defaultValue = "8")
+    int interactiveThreshold;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.admin.scheduler.max-queued", defaultValue = "50")
+    int maxQueued;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.admin.scheduler.max-wait-ms", defaultValue = "30000")
+    long maxWaitMs;
+
+    AdminWorkQueue.Limits limits;
+
+    /**
+     * Clusters with meters registered
+     */
+    final Set<String> meteredClusters = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void initialize() {
+        limits = new AdminWorkQueue.Limits(maxInFlight,
+                backgroundRate,
+                bulkRate,
+                burst,
+                interactiveThreshold,
+                maxQueued,
+                maxWaitMs);
+    }
+
+    /**
+     * Perform Admin work for the context's cluster with the given priority.
+     *
+     * @param clusterId Id of the context's cluster, used to tag metrics
+     * @return stage completed with the result of the work, or completed
+     *         exceptionally with a
+     *         {@linkplain java.util.concurrent.RejectedExecutionException
+     *         RejectedExecutionException} when the work was rejected before it
+     *         started
+     */
+    public <T> CompletionStage<T> submit(String clusterId,
+            KafkaContext kafkaContext,
+            Priority priority,
+            Function<Admin, CompletionStage<T>> work) {
+
+        if (!enabled) {
+            return CompletableFuture.completedStage(null)
+                    .thenCompose(nothing -> work.apply(kafkaContext.admin()));
+        }
+
+        registerMeters(clusterId);
+
+        Timer waitTimer = Timer.builder(QUEUE_WAIT_METRIC)
+                .tags(Tags.of(CLUSTER_ID_TAG, clusterId, PRIORITY_TAG, tagValue(priority)))
+                .register(meterRegistry);
+        long submitted = System.nanoTime();
+
+        return kafkaContext.adminWork().submit(priority, limits, () -> {
+            waitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+            return work.apply(kafkaContext.admin());
+        });
+    }
+
+    void registerMeters(String clusterId) {
+        if (!meteredClusters.add(clusterId)) {
+            return;
+        }
+
+        for (Priority priority : Set.of(Priority.BACKGROUND, Priority.BULK)) {
+            // Values are read from the current context, replaced when the configuration is reloaded
+            Gauge.builder(QUEUE_DEPTH_METRIC, () -> queued(clusterId, priority))
+                .tags(Tags.of(CLUSTER_ID_TAG, clusterId, PRIORITY_TAG, tagValue(priority)))
+                .strongReference(true)
+                .register(meterRegistry);
+        }
+    }
+
+    int queued(String clusterId, Priority priority) {
+        return Optional.ofNullable(kafkaContexts.get(clusterId))
+                .map(KafkaContext::adminWork)
+                .map(queue -> queue.queued(priority))
+                .orElse(0);
+    }
+
+    static String tagValue(Priority priority) {
+        return priority.name().toLowerCase();
+    }
+}
@@ -0,0 +1,324 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Orders the background Admin work of a single Kafka cluster, performed by
+ * the application's monitors, by priority. Work performed on behalf of a
+ * request does not pass through the queue; it is admitted by the cluster's
+ * {@linkplain ClusterBulkhead} instead and is only visible here as the
+ * cluster's interactive load. Background and bulk work waits in a queue for
+ * its priority and is started when:
+ *
+ * <ul>
+ * <li>fewer than {@code maxInFlight} background and bulk calls are in progress,
+ * <li>a token is available from the priority's token bucket, limiting the rate
+ * at which calls are started, and
+ * <li>the cluster's interactive load (requests in progress or waiting to be
+ * admitted by the bulkhead) is below {@code interactiveThreshold}.
+ * </ul>
+ *
+ * <p>Background work is preferred to bulk work. When the interactive load
+ * reaches the threshold, queued background calls are held and queued bulk
+ * calls are preempted, i.e. rejected, since the periodic work they perform
+ * will be submitted again. Calls that wait longer than {@code maxWaitMs}, or
+ * that are submitted while {@code maxQueued} calls are waiting, are also
+ * rejected. Rejected calls complete exceptionally with a
+ * {@linkplain RejectedExecutionException}.
+ */
+public class AdminWorkQueue {
+
+    public enum Priority {
+        BACKGROUND,
+        BULK
+    }
+
+    /**
+     * Limits applied to the background and bulk work of a cluster.
+     *
+     * @param maxInFlight          maximum background and bulk calls in progress
+     * @param backgroundRate       background calls started per second
+     * @param bulkRate             bulk calls started per second
+     * @param burst                calls of each priority that may be started
+     *                             at once after a quiet period
+     * @param interactiveThreshold interactive load at which queued calls are
+     *                             held (background) or preempted (bulk)
+     * @param maxQueued            maximum calls waiting
+     * @param maxWaitMs            maximum time a call waits to be started
+     */
+    public record Limits(
+            int maxInFlight,
+            double backgroundRate,
+            double bulkRate,
+            int burst,
+            int interactiveThreshold,
+            int maxQueued,
+            long maxWaitMs) {
+
+        double rate(Priority priority) {
+            return priority == Priority.BULK ? bulkRate : backgroundRate;
+        }
+    }
+
+    /**
+     * Interval between checks of the interactive load while queued calls are
+     * held.
+     */
+    static final long HOLD_CHECK_MS = 100;
+
+    /**
+     * Bucket of tokens refilled continuously at the priority's rate, up to the
+     * burst size.
+     */
+    static final class TokenBucket {
+        double tokens = -1;
+        long lastRefill;
+
+        void refill(double rate, int burst, long now) {
+            if (tokens < 0) {
+                tokens = burst;
+            } else {
+                tokens = Math.min(burst, tokens + (now - lastRefill) * rate / 1000d);
+            }
+            lastRefill = now;
+        }
+
+        boolean tryTake() {
+            if (tokens >= 1) {
+                tokens--;
+                return true;
+            }
+            return false;
+        }
+
+        long millisUntilToken(double rate) {
+            return rate > 0 ? (long) Math.ceil((1 - tokens) * 1000d / rate) : HOLD_CHECK_MS;
+        }
+    }
+
+    static final class Call<T> {
+        final Priority priority;
+        final Supplier<CompletionStage<T>> work;
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final long enqueued;
+
+        Call(Priority priority, Supplier<CompletionStage<T>> work, long enqueued) {
+            this.priority = priority;
+            this.work = work;
+            this.enqueued = enqueued;
+        }
+
+        void start() {
+            CompletionStage<T> stage;
+
+            try {
+                stage = work.get();
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+
+            stage.whenComplete((value, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+        }
+
+        void reject(String reason) {
+            result.completeExceptionally(new RejectedExecutionException(reason));
+        }
+    }
+
+    private final IntSupplier interactiveLoad;
+    private final LongSupplier clock;
+    private final LongFunction<Executor> delayedExecutor;
+
+    private final Map<Priority, Deque<Call<?>>> queues = new EnumMap<>(Map.of(
+            Priority.BACKGROUND, new ArrayDeque<>(),
+            Priority.BULK, new ArrayDeque<>()));
+    private final Map<Priority, TokenBucket> buckets = new EnumMap<>(Map.of(
+            Priority.BACKGROUND, new TokenBucket(),
+            Priority.BULK, new TokenBucket()));
+    private Limits limits;
+    private int inFlight;
+    private boolean wakeUpScheduled;
+
+    /**
+     * @param interactiveLoad number of requests to the cluster in progress or
+     *                        waiting to be admitted
+     */
+    public AdminWorkQueue(IntSupplier interactiveLoad) {
+        this(interactiveLoad,
+                System::currentTimeMillis,
+                delayMs -> CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS));
+    }
+
+    AdminWorkQueue(IntSupplier interactiveLoad, LongSupplier clock, LongFunction<Executor> delayedExecutor) {
+        this.interactiveLoad = interactiveLoad;
+        this.clock = clock;
+        this.delayedExecutor = delayedExecutor;
+    }
+
+    /**
+     * Submit background Admin work of the given priority. The work is started
+     * on the calling thread when it may start immediately, otherwise on the thread
+     * completing the call that makes room for it or on a timer thread.
+     *
+     * @return stage completed with the result of the work, or completed
+     *         exceptionally with a {@linkplain RejectedExecutionException} when
+     *         the work was rejected before it started
+     */
+    public <T> CompletionStage<T> submit(Priority priority, Limits limits, Supplier<CompletionStage<T>> work) {
+        Call<T> call = new Call<>(priority, work, clock.getAsLong());
+
+        synchronized (this) {
+            this.limits = limits;
+
+            if (queued() >= limits.maxQueued()) {
+                call.reject("Too many queued %s Admin calls".formatted(priority.name().toLowerCase()));
+                return call.result;
+            }
+
+            queues.get(priority).addLast(call);
+        }
+
+        dispatch();
+        return call.result;
+    }
+
+    /**
+     * Start as many queued calls as the limits allow.
+     */
+    void dispatch() {
+        while (true) {
+            List<Call<?>> rejections = new ArrayList<>();
+            Call<?> next;
+
+            synchronized (this) {
+                next = nextCall(clock.getAsLong(), rejections);
+            }
+
+            rejections.forEach(call -> call.reject("%s Admin call was not started in time"
+                    .formatted(call.priority.name().toLowerCase())));
+
+            if (next == null) {
+                return;
+            }
+
+            next.result.whenComplete((result, error) -> {
+                synchronized (this) {
+                    inFlight--;
+                }
+                dispatch();
+            });
+            next.start();
+        }
+    }
+
+    private Call<?> nextCall(long now, List<Call<?>> rejections) {
+        if (limits == null || queued() == 0) {
+            return null;
+        }
+
+        expire(now, rejections);
+
+        if (interactiveLoad.getAsInt() >= limits.interactiveThreshold()) {
+            // Interactive work has priority: preempt bulk calls, hold background calls
+            Deque<Call<?>> bulk = queues.get(Priority.BULK);
+            rejections.addAll(bulk);
+            bulk.clear();
+            scheduleWakeUp(HOLD_CHECK_MS);
+            return null;
+        }
+
+        if (inFlight >= limits.maxInFlight()) {
+            // The next call to complete will dispatch again
+            return null;
+        }
+
+        long wait = Long.MAX_VALUE;
+
+        for (Priority priority : List.of(Priority.BACKGROUND, Priority.BULK)) {
+            Deque<Call<?>> queue = queues.get(priority);
+
+            if (queue.isEmpty()) {
+                continue;
+            }
+
+            TokenBucket bucket = buckets.get(priority);
+            bucket.refill(limits.rate(priority), limits.burst(), now);
+
+            if (bucket.tryTake()) {
+                inFlight++;
+                return queue.pollFirst();
+            }
+
+            wait = Math.min(wait, bucket.millisUntilToken(limits.rate(priority)));
+        }
+
+        if (wait < Long.MAX_VALUE) {
+            scheduleWakeUp(wait);
+        }
+
+        return null;
+    }
+
+    private void expire(long now, List<Call<?>> rejections) {
+        queues.values().forEach(queue -> {
+            while (!queue.isEmpty() && now - queue.peekFirst().enqueued > limits.maxWaitMs()) {
+                rejections.add(queue.pollFirst());
+            }
+        });
+    }
+
+    private void scheduleWakeUp(long delayMs) {
+        if (wakeUpScheduled) {
+            return;
+        }
+
+        wakeUpScheduled = true;
+
+        delayedExecutor.apply(Math.max(1, delayMs)).execute(() -> {
+            synchronized (this) {
+                wakeUpScheduled = false;
+            }
+            dispatch();
+        });
+    }
+
+    private int queued() {
+        return queues.get(Priority.BACKGROUND).size() + queues.get(Priority.BULK).size();
+    }
+
+    /**
+     * Number of calls of the given priority waiting to be started.
+     */
+    public synchronized int queued(Priority priority) {
+        Deque<Call<?>> queue = queues.get(priority);
+        return queue != null ? queue.size() : 0;
+    }
+
+    /**
+     * Number of background and bulk calls in progress.
+     */
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+}
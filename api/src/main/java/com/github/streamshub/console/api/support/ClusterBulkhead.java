@@ -0,0 +1,166 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limits the number of requests processed concurrently for a single Kafka
+ * cluster. Requests beyond the limit wait for a permit in a queue per user,
+ * and released permits are given to the waiting users in turn (round-robin),
+ * so that one user issuing many requests does not delay the requests of
+ * others by more than one request each.
+ *
+ * <p>The number of requests waiting, in total and for each user, is bounded,
+ * as is the time each request waits. Requests beyond the bounds, or that wait
+ * too long, are rejected with a {@linkplain RejectedExecutionException}.
+ */
+public class ClusterBulkhead {
+
+    /**
+     * Permit to process a single request. The permit must be released when the
+     * request completes.
+     */
+    public final class Permit {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                ClusterBulkhead.this.release();
+            }
+        }
+    }
+
+    /**
+     * Waiting requests of each user. Users are ordered by their turn to
+     * receive the next permit.
+     */
+    private final Map<String, Deque<CompletableFuture<Permit>>> waiting = new LinkedHashMap<>();
+    private int waitingCount;
+    private int inFlight;
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    public synchronized int waiting() {
+        return waitingCount;
+    }
+
+    /**
+     * Number of requests in progress or waiting for a permit.
+     */
+    public synchronized int load() {
+        return inFlight + waitingCount;
+    }
+
+    /**
+     * Obtain a permit to process a request of the user.
+     *
+     * @param user              key identifying the user making the request
+     * @param maxConcurrent     maximum number of requests processed concurrently
+     * @param maxWaiting        maximum number of requests waiting for a permit
+     * @param maxWaitingPerUser maximum number of requests of a single user
+     *                          waiting for a permit
+     * @param maxWaitMs         maximum time to wait for a permit
+     * @return future completed with the permit, or completed exceptionally
+     *         with a {@linkplain RejectedExecutionException} when the request
+     *         may not wait or did not receive a permit in time
+     */
+    public CompletableFuture<Permit> acquire(String user,
+            int maxConcurrent,
+            int maxWaiting,
+            int maxWaitingPerUser,
+            long maxWaitMs) {
+
+        CompletableFuture<Permit> pending = new CompletableFuture<>();
+
+        synchronized (this) {
+            if (inFlight < maxConcurrent && waitingCount == 0) {
+                inFlight++;
+                return CompletableFuture.completedFuture(new Permit());
+            }
+
+            Deque<CompletableFuture<Permit>> userWaiting = waiting.get(user);
+
+            if (waitingCount >= maxWaiting || (userWaiting != null && userWaiting.size() >= maxWaitingPerUser)) {
+                return CompletableFuture.failedFuture(rejection());
+            }
+
+            waiting.computeIfAbsent(user, k -> new ArrayDeque<>()).addLast(pending);
+            waitingCount++;
+        }
+
+        CompletableFuture.delayedExecutor(maxWaitMs, TimeUnit.MILLISECONDS).execute(() -> {
+            if (pending.completeExceptionally(rejection())) {
+                remove(user, pending);
+            }
+        });
+
+        return pending;
+    }
+
+    void release() {
+        while (true) {
+            CompletableFuture<Permit> next;
+
+            synchronized (this) {
+                next = pollNextWaiter();
+
+                if (next == null) {
+                    inFlight--;
+                    return;
+                }
+            }
+
+            // The permit passes to the next waiter, unless it has already timed out
+            if (next.complete(new Permit())) {
+                return;
+            }
+        }
+    }
+
+    private CompletableFuture<Permit> pollNextWaiter() {
+        Iterator<Map.Entry<String, Deque<CompletableFuture<Permit>>>> users = waiting.entrySet().iterator();
+
+        if (!users.hasNext()) {
+            return null;
+        }
+
+        var turn = users.next();
+        users.remove();
+
+        Deque<CompletableFuture<Permit>> userWaiting = turn.getValue();
+        CompletableFuture<Permit> next = userWaiting.pollFirst();
+        waitingCount--;
+
+        if (!userWaiting.isEmpty()) {
+            // User goes to the back of the line
+            waiting.put(turn.getKey(), userWaiting);
+        }
+
+        return next;
+    }
+
+    private synchronized void remove(String user, CompletableFuture<Permit> pending) {
+        Deque<CompletableFuture<Permit>> userWaiting = waiting.get(user);
+
+        if (userWaiting != null && userWaiting.remove(pending)) {
+            waitingCount--;
+
+            if (userWaiting.isEmpty()) {
+                waiting.remove(user);
+            }
+        }
+    }
+
+    private static RejectedExecutionException rejection() {
+        return new RejectedExecutionException("Too many concurrent requests to the Kafka cluster, retry later");
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+
+import io.quarkus.security.identity.CurrentIdentityAssociation;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Admits requests addressed to a Kafka cluster through the cluster's
+ * {@linkplain ClusterBulkhead}, limiting the number of requests (and so the
+ * Admin and consumer operations) in progress for each cluster. Requests beyond
+ * the limit wait, without blocking a thread, in a queue per user. Requests
+ * that cannot wait or wait too long receive a 503 (service unavailable)
+ * response with a {@code Retry-After} header.
+ *
+ * <p>Users are identified by their authenticated principal when present,
+ * otherwise by the client address as resolved by Quarkus (including any
+ * trusted proxy configuration). Server-sent event streams are not admitted
+ * through the bulkhead, since they remain open for the lifetime of the
+ * client's subscription. This is a Quarkus server filter rather than a JAX-RS
+ * filter so that the request can be suspended while it waits. Setting
+ * {@code console.kafka.bulkhead.max-concurrent} to zero removes the limit.
+ * Requests are still counted, since the number of requests in progress is the
+ * interactive load considered by the cluster's {@linkplain AdminWorkQueue}.
+ */
+public class ClusterBulkheadFilter {
+
+    /**
+     * All Kafka contexts known to the application
+     */
+    @Inject
+    Map<String, KafkaContext> kafkaContexts;
+
+    @Inject
+    CurrentIdentityAssociation identityAssociation;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.bulkhead.max-concurrent", defaultValue = "20")
+    int maxConcurrent;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.bulkhead.max-waiting", defaultValue = "100")
+    int maxWaiting;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.bulkhead.max-waiting-per-user", defaultValue = "20")
+    int maxWaitingPerUser;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.bulkhead.max-wait-ms", defaultValue = "10000")
+    long maxWaitMs;
+
+    @ServerRequestFilter
+    public Uni<Response> admitRequest(ContainerRequestContext requestContext,
+            RoutingContext routingContext,
+            ResourceInfo resourceInfo) {
+
+        ClusterBulkhead bulkhead = bulkhead(requestContext);
+
+        if (bulkhead == null || isEventStream(resourceInfo)) {
+            return Uni.createFrom().nullItem();
+        }
+
+        return identityAssociation.getDeferredIdentity()
+            .map(identity -> userKey(identity, routingContext))
+            .chain(userKey -> Uni.createFrom().completionStage(bulkhead.acquire(userKey,
+                    maxConcurrent > 0 ? maxConcurrent : Integer.MAX_VALUE,
+                    maxWaiting,
+                    maxWaitingPerUser,
+                    maxWaitMs)))
+            .onItem().transform(permit -> {
+                if (routingContext.response().ended() || routingContext.response().closed()) {
+                    // Client went away while waiting
+                    permit.release();
+                } else {
+                    routingContext.addEndHandler(result -> permit.release());
+                }
+                // Continue processing the request
+                return null;
+            });
+    }
+
+    ClusterBulkhead bulkhead(ContainerRequestContext requestContext) {
+        String clusterId = requestContext.getUriInfo().getPathParameters().getFirst("clusterId");
+
+        if (clusterId == null) {
+            return null;
+        }
+
+        KafkaContext kafkaContext = kafkaContexts.get(clusterId);
+        return kafkaContext != null ? kafkaContext.bulkhead() : null;
+    }
+
+    static boolean isEventStream(ResourceInfo resourceInfo) {
+        return Optional.ofNullable(resourceInfo)
+                .map(ResourceInfo::getResourceMethod)
+                .map(method -> method.getAnnotation(Produces.class))
+                .map(Produces::value)
+                .map(Arrays::stream)
+                .map(types -> types.anyMatch(MediaType.SERVER_SENT_EVENTS::equals))
+                .orElse(false);
+    }
+
+    static String userKey(SecurityIdentity identity, RoutingContext routingContext) {
+        if (identity != null && !identity.isAnonymous()) {
+            return "user:" + identity.getPrincipal().getName();
+        }
+
+        return Optional.ofNullable(routingContext.request().remoteAddress())
+                .map(address -> "addr:" + address.host())
+                .orElse("anonymous");
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.streamshub.console.api.support;
+
+/**
+ * Tracks the outcome and latency of the requests made to a single Kafka
+ * cluster. The circuit opens when consecutive requests time out, after which
+ * requests to the cluster are rejected immediately rather than each waiting
+ * for the Admin client timeouts. The circuit closes when a request or a
+ * background probe of the cluster succeeds.
+ *
+ * <p>While open, a single trial request is permitted each time the retry
+ * interval elapses (the half-open state). A trial that times out re-opens the
+ * circuit.
+ */
+public class ClusterCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Weight of the latest sample in the mean latency
+     */
+    static final double LATENCY_WEIGHT = 0.2;
+
+    private State state = State.CLOSED;
+    private int consecutiveTimeouts;
+    private long openedAt;
+    private double meanLatencyMs = Double.NaN;
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * Exponentially-weighted mean latency of the requests recorded, or NaN
+     * when none have been recorded.
+     */
+    public synchronized double meanLatencyMs() {
+        return meanLatencyMs;
+    }
+
+    /**
+     * Record the time taken by a request that reached the cluster, including
+     * requests that timed out.
+     *
+     * @param latencyMs time taken by the request in milliseconds
+     */
+    public synchronized void recordLatency(long latencyMs) {
+        if (Double.isNaN(meanLatencyMs)) {
+            meanLatencyMs = latencyMs;
+        } else {
+            meanLatencyMs += LATENCY_WEIGHT * (latencyMs - meanLatencyMs);
+        }
+    }
+
+    /**
+     * Whether a request to the cluster may proceed. While the circuit is not
+     * closed, a single trial request is permitted once the retry interval has
+     * elapsed since the circuit opened or the previous trial began.
+     *
+     * @param now             current time in milliseconds
+     * @param retryIntervalMs minimum time between trial requests
+     */
+    public synchronized boolean allowRequest(long now, long retryIntervalMs) {
+        if (state == State.CLOSED) {
+            return true;
+        }
+
+        if (now - openedAt >= retryIntervalMs) {
+            state = State.HALF_OPEN;
+            openedAt = now;
+            return true;
+        }
+
+        return false;
+    }
+
+    public synchronized void recordSuccess() {
+        consecutiveTimeouts = 0;
+        state = State.CLOSED;
+    }
+
+    /**
+     * Record a request that timed out, opening the circuit when the number of
+     * consecutive timeouts reaches the threshold or when the request was a
+     * trial.
+     *
+     * @param now       current time in milliseconds
+     * @param threshold number of consecutive timeouts that open the circuit
+     */
+    public synchronized void recordTimeout(long now, int threshold) {
+        consecutiveTimeouts++;
+
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveTimeouts >= threshold)) {
+            state = State.OPEN;
+            openedAt = now;
+        }
+    }
+}
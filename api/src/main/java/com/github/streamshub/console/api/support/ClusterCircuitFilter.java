@@ -0,0 +1,144 @@
+package com.github.streamshub.console.api.support;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.ext.Provider;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.github.streamshub.console.api.model.Error;
+import com.github.streamshub.console.api.model.ErrorResponse;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Records the outcome of each request addressed to a Kafka cluster in the
+ * cluster's {@linkplain ClusterCircuitBreaker} and rejects requests to
+ * clusters with an open circuit. Rejected requests receive the same response
+ * as a request that timed out waiting for the cluster.
+ *
+ * <p>Requests with a response status of 504 (gateway timeout) are recorded as
+ * timeouts. Successful (2xx) responses are recorded as successes only when
+ * the request obtained the cluster's Admin client, marked by
+ * {@linkplain #CLUSTER_ACCESSED} in the routing context. Responses that did
+ * not involve the cluster, such as validation failures or results served
+ * without a Kafka context, neither open nor close the circuit. Setting
+ * {@code console.kafka.circuit-breaker.failure-threshold} to zero disables the
+ * circuit breaker.
+ *
+ * <p>The time taken by each admitted request that reached the cluster or
+ * timed out is recorded in the breaker's mean latency, reported with the
+ * circuit state in the cluster listing.
+ */
+@Provider
+public class ClusterCircuitFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    private static final Logger LOGGER = Logger.getLogger(ClusterCircuitFilter.class);
+    private static final ErrorCategory CATEGORY = ErrorCategory.get(ErrorCategory.BackendTimeout.class);
+    static final String ADMITTED_PROPERTY = ClusterCircuitFilter.class.getName() + ".admitted";
+
+    /**
+     * Routing context key set when the request obtains a Kafka context for
+     * the cluster addressed, i.e. the request reached the cluster
+     */
+    public static final String CLUSTER_ACCESSED = ClusterCircuitFilter.class.getName() + ".clusterAccessed";
+
+    /**
+     * All Kafka contexts known to the application
+     */
+    @Inject
+    Map<String, KafkaContext> kafkaContexts;
+
+    @Inject
+    RoutingContext routingContext;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.circuit-breaker.failure-threshold", defaultValue = "3")
+    int failureThreshold;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.circuit-breaker.retry-interval-ms", defaultValue = "30000")
+    long retryIntervalMs;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) throws IOException {
+        ClusterCircuitBreaker breaker = circuitBreaker(requestContext);
+
+        if (breaker == null) {
+            return;
+        }
+
+        if (breaker.allowRequest(System.currentTimeMillis(), retryIntervalMs)) {
+            requestContext.setProperty(ADMITTED_PROPERTY, System.nanoTime());
+        } else {
+            rejectRequest(requestContext);
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext)
+            throws IOException {
+
+        if (!(requestContext.getProperty(ADMITTED_PROPERTY) instanceof Long admittedAt)) {
+            // Not addressed to a cluster or rejected
+            return;
+        }
+
+        ClusterCircuitBreaker breaker = circuitBreaker(requestContext);
+
+        if (breaker == null) {
+            return;
+        }
+
+        int status = responseContext.getStatus();
+        boolean timedOut = status == Status.GATEWAY_TIMEOUT.getStatusCode();
+        boolean clusterAccessed = Boolean.TRUE.equals(routingContext.get(CLUSTER_ACCESSED));
+
+        if (timedOut || clusterAccessed) {
+            breaker.recordLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - admittedAt));
+        }
+
+        if (timedOut) {
+            breaker.recordTimeout(System.currentTimeMillis(), failureThreshold);
+        } else if (Status.Family.familyOf(status) == Status.Family.SUCCESSFUL && clusterAccessed) {
+            breaker.recordSuccess();
+        }
+    }
+
+    ClusterCircuitBreaker circuitBreaker(ContainerRequestContext requestContext) {
+        if (failureThreshold <= 0) {
+            return null;
+        }
+
+        String clusterId = requestContext.getUriInfo().getPathParameters().getFirst("clusterId");
+
+        if (clusterId == null) {
+            return null;
+        }
+
+        KafkaContext kafkaContext = kafkaContexts.get(clusterId);
+        return kafkaContext != null ? kafkaContext.circuitBreaker() : null;
+    }
+
+    void rejectRequest(ContainerRequestContext requestContext) {
+        Error error = CATEGORY.createError(
+                "Kafka cluster is unavailable, recent requests to the cluster timed out",
+                null, null);
+        LOGGER.debugf("error=%s", error);
+
+        requestContext.abortWith(Response.status(CATEGORY.getHttpStatus())
+                .entity(new ErrorResponse(List.of(error)))
+                .build());
+    }
+}
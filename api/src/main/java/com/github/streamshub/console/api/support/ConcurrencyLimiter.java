@@ -0,0 +1,61 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Executes asynchronous requests with a bound on the number in progress at
+ * once, e.g. requests to a single broker or alterations of many consumer
+ * groups.
+ */
+public final class ConcurrencyLimiter {
+
+    private ConcurrencyLimiter() {
+    }
+
+    /**
+     * Execute the requests using at most {@code limit} concurrent "lanes". Each
+     * lane executes its share of the requests sequentially, starting the next
+     * request only once the previous one has completed. A failed request does
+     * not prevent the following requests from starting. The returned stage
+     * completes once all requests have completed, exceptionally with the first
+     * failure when any request failed.
+     */
+    public static CompletionStage<Void> limitConcurrency(List<Supplier<CompletionStage<Void>>> requests, int limit) {
+        int laneCount = Math.max(1, Math.min(limit, requests.size()));
+        CompletableFuture<?>[] lanes = new CompletableFuture<?>[laneCount];
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+
+        for (int l = 0; l < laneCount; l++) {
+            CompletionStage<Void> lane = CompletableFuture.completedStage(null);
+
+            for (int i = l; i < requests.size(); i += laneCount) {
+                var request = requests.get(i);
+                lane = lane.thenCompose(nothing -> start(request)
+                        .exceptionally(error -> {
+                            firstError.compareAndSet(null, error);
+                            return null;
+                        }));
+            }
+
+            lanes[l] = lane.toCompletableFuture();
+        }
+
+        return CompletableFuture.allOf(lanes)
+                .thenCompose(nothing -> Optional.ofNullable(firstError.get())
+                        .<CompletionStage<Void>>map(CompletableFuture::failedStage)
+                        .orElseGet(() -> CompletableFuture.completedStage(null)));
+    }
+
+    static CompletionStage<Void> start(Supplier<CompletionStage<Void>> request) {
+        try {
+            return request.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedStage(e);
+        }
+    }
+}
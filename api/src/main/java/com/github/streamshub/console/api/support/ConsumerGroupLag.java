@@ -0,0 +1,186 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Most recent consumer group lag calculated for a single Kafka cluster by the
+ * background lag monitor.
+ */
+public class ConsumerGroupLag {
+
+    /**
+     * Committed offset of a group for a single partition and the partition's
+     * end offset at the time of the snapshot.
+     */
+    public record PartitionLag(long committedOffset, long endOffset) {
+        public long lag() {
+            return Math.max(0, endOffset - committedOffset);
+        }
+    }
+
+    /**
+     * Immutable set of lag values for all consumer groups in the cluster.
+     */
+    public static class Snapshot {
+        private final long timestamp;
+        private final Map<String, Map<TopicPartition, PartitionLag>> groups;
+        private final Map<TopicPartition, Long> endOffsets;
+        private final Map<String, Long> groupLag;
+        private final Map<String, Long> groupMaxPartitionLag;
+        private final Map<String, Map<String, Long>> groupTopicLag;
+
+        public Snapshot(long timestamp, Map<String, Map<TopicPartition, PartitionLag>> groups, Map<TopicPartition, Long> endOffsets) {
+            this.timestamp = timestamp;
+            this.groups = Map.copyOf(groups);
+            this.endOffsets = Map.copyOf(endOffsets);
+
+            Map<String, Long> totals = new HashMap<>(groups.size());
+            Map<String, Long> maximums = new HashMap<>(groups.size());
+            Map<String, Map<String, Long>> topicTotals = new HashMap<>(groups.size());
+
+            groups.forEach((groupId, partitions) -> {
+                Map<String, Long> topics = new HashMap<>();
+                long total = 0;
+                long maximum = 0;
+
+                for (var entry : partitions.entrySet()) {
+                    long lag = entry.getValue().lag();
+                    total += lag;
+                    maximum = Math.max(maximum, lag);
+                    topics.merge(entry.getKey().topic(), lag, Long::sum);
+                }
+
+                totals.put(groupId, total);
+                maximums.put(groupId, maximum);
+                topicTotals.put(groupId, Map.copyOf(topics));
+            });
+
+            this.groupLag = Map.copyOf(totals);
+            this.groupMaxPartitionLag = Map.copyOf(maximums);
+            this.groupTopicLag = Map.copyOf(topicTotals);
+        }
+
+        /**
+         * Time the snapshot was started, in milliseconds since the epoch.
+         */
+        public long timestamp() {
+            return timestamp;
+        }
+
+        public Set<String> groupIds() {
+            return groups.keySet();
+        }
+
+        public Map<TopicPartition, PartitionLag> partitions(String groupId) {
+            return groups.getOrDefault(groupId, Collections.emptyMap());
+        }
+
+        public Set<TopicPartition> endOffsetPartitions() {
+            return endOffsets.keySet();
+        }
+
+        public OptionalLong endOffset(TopicPartition partition) {
+            Long offset = endOffsets.get(partition);
+            return offset != null ? OptionalLong.of(offset) : OptionalLong.empty();
+        }
+
+        /**
+         * Total lag of the group across all partitions with a committed offset.
+         */
+        public OptionalLong groupLag(String groupId) {
+            Long lag = groupLag.get(groupId);
+            return lag != null ? OptionalLong.of(lag) : OptionalLong.empty();
+        }
+
+        /**
+         * Greatest lag of the group in any single partition.
+         */
+        public OptionalLong maxPartitionLag(String groupId) {
+            Long lag = groupMaxPartitionLag.get(groupId);
+            return lag != null ? OptionalLong.of(lag) : OptionalLong.empty();
+        }
+
+        /**
+         * Lag of the group for each topic (by name) with a committed offset.
+         */
+        public Map<String, Long> topicLag(String groupId) {
+            return groupTopicLag.getOrDefault(groupId, Collections.emptyMap());
+        }
+    }
+
+    private volatile Snapshot current;
+    private CompletableFuture<Snapshot> pendingRefresh;
+
+    /**
+     * Calculate and publish a new snapshot unless a calculation is already in
+     * progress, in which case the pending calculation is returned.
+     *
+     * @param calculation supplier of the snapshot calculation
+     * @return CompletableFuture that completes with the new snapshot
+     */
+    public CompletableFuture<Snapshot> refresh(Supplier<CompletionStage<Snapshot>> calculation) {
+        CompletableFuture<Snapshot> promise;
+
+        synchronized (this) {
+            if (pendingRefresh != null) {
+                return pendingRefresh;
+            }
+
+            promise = new CompletableFuture<>();
+            pendingRefresh = promise;
+        }
+
+        CompletionStage<Snapshot> pending;
+
+        try {
+            pending = calculation.get();
+        } catch (RuntimeException e) {
+            pending = CompletableFuture.failedStage(e);
+        }
+
+        pending.whenComplete((snapshot, error) -> {
+            if (snapshot != null) {
+                publish(snapshot);
+            }
+
+            synchronized (this) {
+                pendingRefresh = null;
+            }
+
+            if (error != null) {
+                promise.completeExceptionally(error);
+            } else {
+                promise.complete(snapshot);
+            }
+        });
+
+        return promise;
+    }
+
+    public void publish(Snapshot snapshot) {
+        current = snapshot;
+    }
+
+    public Optional<Snapshot> current() {
+        return Optional.ofNullable(current);
+    }
+
+    /**
+     * The current snapshot, if one was taken at or after the given time.
+     *
+     * @param notBefore time in milliseconds since the epoch
+     */
+    public Optional<Snapshot> current(long notBefore) {
+        return current().filter(snapshot -> snapshot.timestamp() >= notBefore);
+    }
+}
@@ -0,0 +1,134 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Recent history of the committed and end offsets of each partition consumed
+ * by each consumer group in a single Kafka cluster, sampled from the snapshots
+ * taken by the background lag monitor.
+ *
+ * <p>The samples of each group partition are held in a fixed-size ring buffer
+ * of primitive arrays. Once the buffer is full, each new sample replaces the
+ * oldest. Groups and partitions not present in a snapshot are removed. The
+ * number of groups tracked is limited; groups already tracked are retained
+ * while they are sampled, and further groups are tracked in group Id order as
+ * room becomes available.
+ */
+public class ConsumerGroupLagHistory {
+
+    /**
+     * Samples of a single group partition in chronological order.
+     */
+    public record Samples(long[] timestamps, long[] committedOffsets, long[] endOffsets) {
+        public int size() {
+            return timestamps.length;
+        }
+    }
+
+    static final class Ring {
+        final long[] timestamps;
+        final long[] committedOffsets;
+        final long[] endOffsets;
+        int next;
+        int size;
+
+        Ring(int capacity) {
+            timestamps = new long[capacity];
+            committedOffsets = new long[capacity];
+            endOffsets = new long[capacity];
+        }
+
+        void add(long timestamp, long committedOffset, long endOffset) {
+            timestamps[next] = timestamp;
+            committedOffsets[next] = committedOffset;
+            endOffsets[next] = endOffset;
+            next = (next + 1) % timestamps.length;
+            size = Math.min(size + 1, timestamps.length);
+        }
+
+        Samples copy() {
+            int capacity = timestamps.length;
+            int first = (next - size + capacity) % capacity;
+            Samples samples = new Samples(new long[size], new long[size], new long[size]);
+
+            for (int i = 0; i < size; i++) {
+                int source = (first + i) % capacity;
+                samples.timestamps()[i] = timestamps[source];
+                samples.committedOffsets()[i] = committedOffsets[source];
+                samples.endOffsets()[i] = endOffsets[source];
+            }
+
+            return samples;
+        }
+    }
+
+    private final Map<String, Map<TopicPartition, Ring>> groups = new HashMap<>();
+    private long lastTimestamp = Long.MIN_VALUE;
+
+    /**
+     * Add the offsets of each group partition in the snapshot to the history.
+     *
+     * @param snapshot lag snapshot taken by the lag monitor
+     * @param capacity  maximum number of samples retained for each group partition
+     * @param maxGroups maximum number of groups tracked
+     */
+    public synchronized void record(ConsumerGroupLag.Snapshot snapshot, int capacity, int maxGroups) {
+        if (snapshot.timestamp() <= lastTimestamp) {
+            // Already recorded, e.g. a calculation shared by consecutive polls
+            return;
+        }
+
+        lastTimestamp = snapshot.timestamp();
+        groups.keySet().retainAll(snapshot.groupIds());
+
+        for (String groupId : new TreeSet<>(snapshot.groupIds())) {
+            if (!groups.containsKey(groupId) && groups.size() >= maxGroups) {
+                continue;
+            }
+
+            var partitionLag = snapshot.partitions(groupId);
+            Map<TopicPartition, Ring> partitions = groups.computeIfAbsent(groupId, k -> new HashMap<>());
+            partitions.keySet().retainAll(partitionLag.keySet());
+
+            partitionLag.forEach((partition, lag) -> {
+                Ring ring = partitions.get(partition);
+
+                if (ring == null || ring.timestamps.length != capacity) {
+                    ring = new Ring(capacity);
+                    partitions.put(partition, ring);
+                }
+
+                ring.add(snapshot.timestamp(), lag.committedOffset(), lag.endOffset());
+            });
+        }
+    }
+
+    /**
+     * Copy the samples of each partition consumed by the group.
+     *
+     * @return map of partition to samples, empty when the group has no history
+     */
+    public synchronized Map<TopicPartition, Samples> history(String groupId) {
+        Map<TopicPartition, Ring> partitions = groups.get(groupId);
+
+        if (partitions == null) {
+            return Map.of();
+        }
+
+        Map<TopicPartition, Samples> result = new HashMap<>(partitions.size());
+        partitions.forEach((partition, ring) -> result.put(partition, ring.copy()));
+        return result;
+    }
+
+    public synchronized void remove(String groupId) {
+        groups.remove(groupId);
+    }
+
+    public synchronized int size() {
+        return groups.size();
+    }
+}
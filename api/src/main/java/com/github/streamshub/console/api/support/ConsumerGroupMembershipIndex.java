@@ -0,0 +1,257 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * Index of the topics consumed by each active consumer group in a single Kafka
+ * cluster, and the inverse of the same - the consumer groups consuming each
+ * topic. Topics are identified by topic Id. The number of members of each
+ * group is also retained.
+ *
+ * <p>The index is refreshed incrementally. Each refresh compares the current
+ * listing of consumer groups to the groups known by the index (see
+ * {@linkplain #reconcile(Map, long)}) and only groups that are new, have
+ * changed state, or have not been described recently must be described again.
+ * Concurrent requests for a refresh share a single refresh operation.
+ *
+ * <p>Each refresh is performed for the index's current generation, which is
+ * advanced when a group is invalidated. Descriptions of an invalidated group
+ * obtained by a refresh of an earlier generation are discarded, and a refresh
+ * only marks the index as fresh when no group was invalidated while it was in
+ * progress.
+ */
+public class ConsumerGroupMembershipIndex {
+
+    record GroupEntry(String state, Set<String> topicIds, int memberCount, long timestamp) {
+    }
+
+    private final Map<String, GroupEntry> groups = new HashMap<>();
+    private final Map<String, Set<String>> topicGroups = new HashMap<>();
+    /**
+     * Generation in which each invalidated group was last invalidated
+     */
+    private final Map<String, Long> invalidated = new HashMap<>();
+    private long generation;
+    private boolean populated = false;
+    private long refreshed;
+    private CompletableFuture<Void> pendingRefresh;
+
+    /**
+     * Remove groups that are no longer listed and determine which of the listed
+     * groups must be described to bring the index up to date.
+     *
+     * @param listedStates current state of each listed consumer group, by group Id
+     * @param staleBefore  groups described before this time (from
+     *                     {@linkplain System#nanoTime()}) must be described again
+     * @return Ids of the groups to be described
+     */
+    public synchronized List<String> reconcile(Map<String, String> listedStates, long staleBefore) {
+        Iterator<Map.Entry<String, GroupEntry>> cursor = groups.entrySet().iterator();
+
+        while (cursor.hasNext()) {
+            var entry = cursor.next();
+
+            if (!listedStates.containsKey(entry.getKey())) {
+                removePostings(entry.getKey(), entry.getValue());
+                cursor.remove();
+            }
+        }
+
+        // Refreshes are not concurrent, no earlier refresh will describe unlisted groups
+        invalidated.keySet().retainAll(listedStates.keySet());
+
+        List<String> changed = new ArrayList<>();
+
+        listedStates.forEach((groupId, state) -> {
+            GroupEntry entry = groups.get(groupId);
+
+            if (entry == null
+                    || !Objects.equals(entry.state(), state)
+                    || entry.timestamp() - staleBefore < 0) {
+                changed.add(groupId);
+            }
+        });
+
+        return changed;
+    }
+
+    /**
+     * Current generation of the index, to be given to
+     * {@linkplain #update(String, String, Collection, int, long, long) update}
+     * and {@linkplain #markRefreshed(long, long) markRefreshed} by a refresh
+     * started now.
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Replace the topics consumed by a group and its member count. The update
+     * is ignored when the group has been invalidated since the given
+     * generation.
+     */
+    public synchronized void update(String groupId, String state, Collection<String> topicIds, int memberCount, long timestamp, long generation) {
+        Long invalidatedIn = invalidated.get(groupId);
+
+        if (invalidatedIn != null) {
+            if (invalidatedIn > generation) {
+                // Described before the group was invalidated
+                return;
+            }
+            invalidated.remove(groupId);
+        }
+
+        GroupEntry previous = groups.put(groupId, new GroupEntry(state, Set.copyOf(topicIds), memberCount, timestamp));
+
+        if (previous != null) {
+            removePostings(groupId, previous);
+        }
+
+        topicIds.forEach(topicId -> topicGroups.computeIfAbsent(topicId, k -> new HashSet<>()).add(groupId));
+    }
+
+    /**
+     * Remove a group from the index, e.g. when it is deleted.
+     */
+    public synchronized void remove(String groupId) {
+        GroupEntry previous = groups.remove(groupId);
+
+        if (previous != null) {
+            removePostings(groupId, previous);
+        }
+    }
+
+    /**
+     * Discard the group's entry and require a refresh before the index is used
+     * again, e.g. when the group's committed offsets have been altered.
+     */
+    public synchronized void invalidate(String groupId) {
+        remove(groupId);
+        invalidated.put(groupId, ++generation);
+        populated = false;
+    }
+
+    private void removePostings(String groupId, GroupEntry entry) {
+        for (String topicId : entry.topicIds()) {
+            Set<String> groupIds = topicGroups.get(topicId);
+
+            if (groupIds != null) {
+                groupIds.remove(groupId);
+
+                if (groupIds.isEmpty()) {
+                    topicGroups.remove(topicId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Record that every listed group was described successfully by a refresh
+     * started at the given time. The index remains unrefreshed when a group was
+     * invalidated since the given generation.
+     */
+    public synchronized void markRefreshed(long timestamp, long generation) {
+        if (generation != this.generation) {
+            return;
+        }
+
+        refreshed = timestamp;
+        populated = true;
+    }
+
+    /**
+     * Determine whether the index was completely refreshed at or after the given
+     * time (from {@linkplain System#nanoTime()}).
+     */
+    public synchronized boolean isRefreshedSince(long time) {
+        return populated && refreshed - time >= 0;
+    }
+
+    /**
+     * Find the groups consuming each of the given topics. Topics not consumed by
+     * any group are not present in the result.
+     *
+     * @param topicIds Ids of the topics
+     * @return map of topic Id to the (sorted) Ids of groups consuming the topic
+     */
+    public synchronized Map<String, List<String>> groupsByTopic(Collection<String> topicIds) {
+        Map<String, List<String>> result = new HashMap<>();
+
+        for (String topicId : topicIds) {
+            Set<String> groupIds = topicGroups.get(topicId);
+
+            if (groupIds != null) {
+                result.put(topicId, groupIds.stream().sorted().toList());
+            }
+        }
+
+        return result;
+    }
+
+    public synchronized Set<String> topics(String groupId) {
+        GroupEntry entry = groups.get(groupId);
+        return entry != null ? entry.topicIds() : Set.of();
+    }
+
+    /**
+     * Number of members of the group when it was last described, or null when
+     * the group is not present in the index.
+     */
+    public synchronized Integer memberCount(String groupId) {
+        GroupEntry entry = groups.get(groupId);
+        return entry != null ? entry.memberCount() : null;
+    }
+
+    /**
+     * Run the given refresh operation unless a refresh is already in progress,
+     * in which case the pending refresh is returned.
+     *
+     * @param refresher supplier of the refresh operation
+     * @return CompletableFuture that completes when the refresh completes
+     */
+    public CompletableFuture<Void> refresh(Supplier<CompletionStage<Void>> refresher) {
+        CompletableFuture<Void> promise;
+
+        synchronized (this) {
+            if (pendingRefresh != null) {
+                return pendingRefresh;
+            }
+
+            promise = new CompletableFuture<>();
+            pendingRefresh = promise;
+        }
+
+        CompletionStage<Void> refresh;
+
+        try {
+            refresh = refresher.get();
+        } catch (RuntimeException e) {
+            refresh = CompletableFuture.failedStage(e);
+        }
+
+        refresh.whenComplete((nothing, error) -> {
+            synchronized (this) {
+                pendingRefresh = null;
+            }
+
+            if (error != null) {
+                promise.completeExceptionally(error);
+            } else {
+                promise.complete(null);
+            }
+        });
+
+        return promise;
+    }
+}
@@ -0,0 +1,187 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.apache.kafka.common.TopicPartition;
+
+import com.github.streamshub.console.api.model.ConsumerGroupEvent;
+
+/**
+ * Detects changes to the state, members, and member assignments of the
+ * consumer groups in a single Kafka cluster by comparing successive snapshots
+ * of the groups. Only a compact fingerprint of each group is retained between
+ * snapshots: its state and a hash of each member's assignment. Groups having
+ * an unchanged fingerprint are skipped without examining their members.
+ *
+ * <p>The tracker also holds the subscribers to the changes detected for the
+ * cluster. The first snapshot taken after the tracker gains its first
+ * subscriber establishes the baseline and reports no changes.
+ */
+public class ConsumerGroupRebalanceTracker {
+
+    /**
+     * Fingerprint of a group: its state and the hash of the assignment of
+     * each member, by member Id.
+     */
+    public record GroupFingerprint(String state, Map<String, Long> members) {
+    }
+
+    /**
+     * A change detected for a group. The member Id is present for changes to
+     * a member, and the states for changes to the group state.
+     */
+    public record Change(String groupId, String type, String previousState, String state, String memberId) {
+    }
+
+    private final List<Consumer<ConsumerGroupEvent>> subscribers = new CopyOnWriteArrayList<>();
+    private Map<String, GroupFingerprint> groups = new HashMap<>();
+    private boolean initialized;
+
+    /**
+     * Register a subscriber to the events of the cluster.
+     *
+     * @return action to remove the subscriber
+     */
+    public Runnable subscribe(Consumer<ConsumerGroupEvent> subscriber) {
+        subscribers.add(subscriber);
+
+        return () -> {
+            subscribers.remove(subscriber);
+
+            if (subscribers.isEmpty()) {
+                reset();
+            }
+        };
+    }
+
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    public void publish(ConsumerGroupEvent event) {
+        subscribers.forEach(subscriber -> subscriber.accept(event));
+    }
+
+    /**
+     * Discard the retained fingerprints so that the next snapshot establishes
+     * a new baseline. Changes made while no subscriber is present are not
+     * reported to later subscribers.
+     */
+    synchronized void reset() {
+        groups = new HashMap<>();
+        initialized = false;
+    }
+
+    /**
+     * Compare the snapshot with the previous snapshot and retain it for the
+     * next comparison. Groups absent from the snapshot are reported as having
+     * changed to the {@code DEAD} state.
+     *
+     * @param snapshot fingerprints of all groups in the cluster
+     * @return the changes since the previous snapshot, empty for the first snapshot
+     */
+    public List<Change> update(Map<String, GroupFingerprint> snapshot) {
+        return update(snapshot, Set.of());
+    }
+
+    /**
+     * Compare the snapshot with the previous snapshot and retain it for the
+     * next comparison, skipping the groups whose fingerprint is unknown, e.g.
+     * because the group could not be described. The previous fingerprint of
+     * such a group is retained and compared again with the next snapshot.
+     *
+     * @param snapshot fingerprints of all groups in the cluster
+     * @param unknown  Ids of the groups in the snapshot with an unknown fingerprint
+     * @return the changes since the previous snapshot, empty for the first snapshot
+     */
+    public synchronized List<Change> update(Map<String, GroupFingerprint> snapshot, Set<String> unknown) {
+        List<Change> changes = new ArrayList<>();
+        Map<String, GroupFingerprint> retained = new HashMap<>(snapshot.size());
+
+        snapshot.forEach((groupId, current) -> {
+            GroupFingerprint previous = groups.get(groupId);
+
+            if (unknown.contains(groupId)) {
+                if (previous != null) {
+                    retained.put(groupId, previous);
+                }
+                return;
+            }
+
+            if (initialized && !current.equals(previous)) {
+                compare(groupId, previous, current, changes);
+            }
+
+            retained.put(groupId, current);
+        });
+
+        if (initialized) {
+            groups.forEach((groupId, previous) -> {
+                if (!snapshot.containsKey(groupId)) {
+                    changes.add(new Change(groupId, ConsumerGroupEvent.STATE_CHANGED, previous.state(), "DEAD", null));
+                }
+            });
+        }
+
+        groups = retained;
+        initialized = true;
+
+        return changes;
+    }
+
+    static void compare(String groupId, GroupFingerprint previous, GroupFingerprint current, List<Change> changes) {
+        String previousState = previous != null ? previous.state() : null;
+        Map<String, Long> previousMembers = previous != null ? previous.members() : Map.of();
+
+        if (!Objects.equals(previousState, current.state())) {
+            changes.add(new Change(groupId, ConsumerGroupEvent.STATE_CHANGED, previousState, current.state(), null));
+        }
+
+        current.members().forEach((memberId, assignment) -> {
+            Long previousAssignment = previousMembers.get(memberId);
+
+            if (previousAssignment == null) {
+                changes.add(new Change(groupId, ConsumerGroupEvent.MEMBER_JOINED, null, null, memberId));
+            } else if (!previousAssignment.equals(assignment)) {
+                changes.add(new Change(groupId, ConsumerGroupEvent.ASSIGNMENT_CHANGED, null, null, memberId));
+            }
+        });
+
+        previousMembers.keySet()
+            .stream()
+            .filter(memberId -> !current.members().containsKey(memberId))
+            .forEach(memberId -> changes.add(new Change(groupId, ConsumerGroupEvent.MEMBER_LEFT, null, null, memberId)));
+    }
+
+    /**
+     * Order-independent hash of a member's assigned partitions, allowing
+     * assignments to be compared without retaining or sorting them.
+     */
+    public static long assignmentFingerprint(Collection<TopicPartition> assignment) {
+        long fingerprint = assignment.size();
+
+        for (TopicPartition partition : assignment) {
+            fingerprint += mix(((long) partition.topic().hashCode() << 32) | (partition.partition() & 0xFFFFFFFFL));
+        }
+
+        return fingerprint;
+    }
+
+    /**
+     * Finalization step of the SplitMix64 generator, spreading the bits of
+     * each partition's key so that sums of distinct assignments rarely collide.
+     */
+    static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -12,6 +12,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import jakarta.validation.Constraint;
 import jakarta.validation.ConstraintValidator;
@@ -149,8 +150,15 @@ public class ConsumerGroupValidation {
         }
 
         void verifyOffsetWithinRange(AtomicBoolean valid, int offsetIndex, Topic topic, Integer partition, long offset, List<PartitionInfo> partitions, ConstraintValidatorContext context) {
-            partitions.stream()
-                .filter(p -> partition == null || p.getPartition() == partition)
+            Stream<PartitionInfo> targetPartitions;
+
+            if (partition != null) {
+                targetPartitions = topic.partition(partition).stream();
+            } else {
+                targetPartitions = partitions.stream();
+            }
+
+            targetPartitions
                 .forEach(partitionInfo -> {
                     long earliestOffset = getOffset(partitionInfo, KafkaOffsetSpec.EARLIEST).orElse(-1L);
                     long latestOffset = getOffset(partitionInfo, KafkaOffsetSpec.LATEST).orElse(Long.MAX_VALUE);
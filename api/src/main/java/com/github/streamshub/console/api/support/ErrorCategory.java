@@ -114,6 +114,13 @@ public abstract class ErrorCategory implements Payload {
         }
     }
 
+    @Singleton
+    public static class ServiceUnavailable extends ErrorCategory {
+        public ServiceUnavailable() {
+            super("5031", "Service unavailable", Status.SERVICE_UNAVAILABLE);
+        }
+    }
+
     @Singleton
     public static class BackendTimeout extends ErrorCategory {
         public BackendTimeout() {
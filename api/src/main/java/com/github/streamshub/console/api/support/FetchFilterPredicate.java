@@ -1,63 +1,69 @@
 package com.github.streamshub.console.api.support;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 import com.github.streamshub.console.api.model.FetchFilter;
 
+/**
+ * Predicate for a single {@code filter[...]} request parameter. The filter's
+ * operator and operands are compiled once when the predicate is constructed
+ * into a specialized test of the field value, e.g. a hash lookup for
+ * {@code in} or a literal prefix check for a {@code like} pattern with only a
+ * trailing wildcard.
+ *
+ * @param <B> type of the bean being filtered
+ * @param <F> type of the bean's field that is compared to the operands
+ */
 public class FetchFilterPredicate<B, F> implements Predicate<B> {
 
+    /**
+     * Relative cost of evaluating an operator, used to order filters so that
+     * the cheapest are evaluated first.
+     */
+    static final int COST_EQUALITY = 0;
+    static final int COST_COMPARISON = 1;
+    static final int COST_LITERAL = 2;
+    static final int COST_PATTERN = 3;
+
+    /**
+     * Maximum number of characters read from a field value while evaluating a
+     * regular expression ({@code re}) filter, bounding the time spent on a
+     * pattern that backtracks excessively. The field does not match when the
+     * limit is reached.
+     */
+    static final int MAX_PATTERN_STEPS = 100_000;
+
     private final String name;
     private final String operator;
     private final List<F> operands;
     private final Function<B, F> fieldSource;
-    private final Pattern likePattern;
+    private final Function<B, ? extends Collection<F>> valuesSource;
+    private final Predicate<F> matcher;
+    private final int cost;
 
-    public FetchFilterPredicate(String name, FetchFilter filter, Function<String, F> operandParser, Function<B, F> fieldSource) {
+    private FetchFilterPredicate(String name,
+            FetchFilter filter,
+            Function<String, F> operandParser,
+            Function<B, F> fieldSource,
+            Function<B, ? extends Collection<F>> valuesSource) {
         this.name = name;
         this.operator = filter.getOperator();
         this.operands = filter.getOperands().stream().map(operandParser).toList();
         this.fieldSource = fieldSource;
+        this.valuesSource = valuesSource;
+        this.matcher = compile();
+        this.cost = cost(operator, operands);
+    }
 
-        if (operator.equals("like")) {
-            // throws ClassCastException if this class is constructed with an incorrect operandParser (API bug)
-            String firstOperand = (String) firstOperand();
-            StringBuilder pattern = new StringBuilder();
-            StringBuilder quoted = new StringBuilder();
-            Runnable appendQuoted = () -> {
-                if (quoted.length() > 0) {
-                    pattern.append(Pattern.quote(quoted.toString()));
-                    quoted.setLength(0);
-                }
-            };
-
-            firstOperand.chars().forEach(c -> {
-                switch (c) {
-                    case '.':
-                        appendQuoted.run();
-                        pattern.append("\\.");
-                        break;
-                    case '*':
-                        appendQuoted.run();
-                        pattern.append(".*");
-                        break;
-                    case '?':
-                        appendQuoted.run();
-                        pattern.append(".");
-                        break;
-                    default:
-                        quoted.append((char) c);
-                        break;
-                }
-            });
-
-            appendQuoted.run();
-            likePattern = Pattern.compile(pattern.toString());
-        } else {
-            likePattern = null;
-        }
+    public FetchFilterPredicate(String name, FetchFilter filter, Function<String, F> operandParser, Function<B, F> fieldSource) {
+        this(name, filter, operandParser, fieldSource, null);
     }
 
     public FetchFilterPredicate(FetchFilter filter, Function<String, F> operandParser, Function<B, F> fieldSource) {
@@ -74,6 +80,16 @@ public class FetchFilterPredicate<B, F> implements Predicate<B> {
         this(null, filter, op -> (F) op, fieldSource);
     }
 
+    /**
+     * Create a predicate for a multi-valued field, e.g. the topics consumed by
+     * a consumer group. The predicate accepts a bean when any of the field's
+     * values matches the filter.
+     */
+    public static <B> FetchFilterPredicate<B, String> anyMatch(String name, FetchFilter filter,
+            Function<B, ? extends Collection<String>> valuesSource) {
+        return new FetchFilterPredicate<>(name, filter, Function.identity(), null, valuesSource);
+    }
+
     private F firstOperand() {
         return operands.get(0);
     }
@@ -90,35 +106,233 @@ public class FetchFilterPredicate<B, F> implements Predicate<B> {
         return operands;
     }
 
+    int cost() {
+        return cost;
+    }
+
     @Override
     public boolean test(B bean) {
-        F field = fieldSource.apply(bean);
+        if (valuesSource != null) {
+            Collection<F> values = valuesSource.apply(bean);
+            return values != null && values.stream().anyMatch(matcher);
+        }
 
+        return matcher.test(fieldSource.apply(bean));
+    }
+
+    static int cost(String operator, List<?> operands) {
         switch (operator) {
-            case "in":
-                return operands.contains(field);
+            case "gte", "gt", "lte", "lt":
+                return COST_COMPARISON;
+            case "like":
+                return !operands.isEmpty() && operands.get(0) instanceof String pattern && isLiteralLike(pattern)
+                        ? COST_LITERAL
+                        : COST_PATTERN;
+            case "re":
+                return COST_PATTERN;
+            default:
+                return COST_EQUALITY;
+        }
+    }
 
-            case "gte": {
-                @SuppressWarnings("unchecked")
-                // throws ClassCastException if this class is constructed with an incorrect operandParser (API bug)
-                Comparable<F> firstOperand = (Comparable<F>) firstOperand();
-                return firstOperand.compareTo(field) <= 0;
+    private Predicate<F> compile() {
+        switch (operator) {
+            case "eq": {
+                F operand = firstOperand();
+                return operand::equals;
             }
 
-            case "like": {
-                // throws ClassCastException if this class is constructed with an incorrect fieldSource (API bug)
-                return likePattern.matcher((String) field).matches();
+            case "neq": {
+                F operand = firstOperand();
+                return field -> !operand.equals(field);
             }
 
-            case "eq":
-                return firstOperand().equals(field);
+            case "in": {
+                if (operands.size() == 1) {
+                    F operand = firstOperand();
+                    return operand::equals;
+                }
+
+                Set<F> operandSet = new HashSet<>(operands);
+                return operandSet::contains;
+            }
+
+            case "gte":
+                return comparison(result -> result <= 0);
+
+            case "gt":
+                return comparison(result -> result < 0);
+
+            case "lte":
+                return comparison(result -> result >= 0);
+
+            case "lt":
+                return comparison(result -> result > 0);
+
+            case "like":
+                // throws ClassCastException if this class is constructed with an incorrect operandParser (API bug)
+                return like((String) firstOperand());
+
+            case "re": {
+                // throws ClassCastException if this class is constructed with an incorrect operandParser (API bug)
+                Pattern pattern = Pattern.compile((String) firstOperand());
+                // throws ClassCastException if this class is constructed with an incorrect fieldSource (API bug)
+                return field -> field != null && find(pattern, (String) field);
+            }
 
             default:
                 /*
                  * Exclude the record. This case should never be executed if proper input
                  * validation is present for each filter parameter.
                  */
-                return false;
+                return field -> false;
+        }
+    }
+
+    /**
+     * Build a predicate that compares the first operand to the field value. The
+     * given {@code accept} predicate receives the result of
+     * {@code operand.compareTo(field)}.
+     */
+    private Predicate<F> comparison(IntPredicate accept) {
+        @SuppressWarnings("unchecked")
+        // throws ClassCastException if this class is constructed with an incorrect operandParser (API bug)
+        Comparable<F> operand = (Comparable<F>) firstOperand();
+
+        return field -> field != null && accept.test(operand.compareTo(field));
+    }
+
+    /**
+     * Build a predicate for a {@code like} pattern, where {@code *} matches any
+     * sequence of characters and {@code ?} matches a single character. Patterns
+     * using only leading and/or trailing {@code *} wildcards are evaluated using
+     * literal string comparisons. Other patterns are converted to a regular
+     * expression.
+     */
+    @SuppressWarnings("java:S3776") // Ignore Sonar cognitive complexity warning
+    private Predicate<F> like(String pattern) {
+        boolean leadingWildcard = pattern.startsWith("*");
+        boolean trailingWildcard = pattern.length() > 1 && pattern.endsWith("*");
+        String literal = pattern.substring(leadingWildcard ? 1 : 0, pattern.length() - (trailingWildcard ? 1 : 0));
+
+        if (isLiteralLike(pattern)) {
+            Predicate<String> test;
+
+            if (leadingWildcard && trailingWildcard) {
+                test = value -> value.contains(literal);
+            } else if (leadingWildcard) {
+                test = value -> value.endsWith(literal);
+            } else if (trailingWildcard) {
+                test = value -> value.startsWith(literal);
+            } else {
+                test = literal::equals;
+            }
+
+            // throws ClassCastException if this class is constructed with an incorrect fieldSource (API bug)
+            return field -> field != null && test.test((String) field);
+        }
+
+        StringBuilder regex = new StringBuilder();
+        StringBuilder quoted = new StringBuilder();
+        Runnable appendQuoted = () -> {
+            if (quoted.length() > 0) {
+                regex.append(Pattern.quote(quoted.toString()));
+                quoted.setLength(0);
+            }
+        };
+
+        pattern.chars().forEach(c -> {
+            switch (c) {
+                case '.':
+                    appendQuoted.run();
+                    regex.append("\\.");
+                    break;
+                case '*':
+                    appendQuoted.run();
+                    regex.append(".*");
+                    break;
+                case '?':
+                    appendQuoted.run();
+                    regex.append(".");
+                    break;
+                default:
+                    quoted.append((char) c);
+                    break;
+            }
+        });
+
+        appendQuoted.run();
+        Pattern likePattern = Pattern.compile(regex.toString());
+
+        // throws ClassCastException if this class is constructed with an incorrect fieldSource (API bug)
+        return field -> field != null && likePattern.matcher((String) field).matches();
+    }
+
+    /**
+     * Whether a {@code like} pattern uses only leading and/or trailing
+     * {@code *} wildcards, i.e. may be evaluated with literal comparisons.
+     */
+    static boolean isLiteralLike(String pattern) {
+        boolean leadingWildcard = pattern.startsWith("*");
+        boolean trailingWildcard = pattern.length() > 1 && pattern.endsWith("*");
+        String literal = pattern.substring(leadingWildcard ? 1 : 0, pattern.length() - (trailingWildcard ? 1 : 0));
+        return literal.indexOf('*') < 0 && literal.indexOf('?') < 0;
+    }
+
+    /**
+     * Find the pattern in the value, reading at most
+     * {@linkplain #MAX_PATTERN_STEPS} characters of the value.
+     */
+    static boolean find(Pattern pattern, String value) {
+        try {
+            return pattern.matcher(new BoundedCharSequence(value, new int[] { MAX_PATTERN_STEPS })).find();
+        } catch (StepLimitExceededException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Character sequence that fails once a budget of character reads, shared
+     * by its sub-sequences, is exhausted.
+     */
+    static final class BoundedCharSequence implements CharSequence {
+        private final String value;
+        private final int[] remainingSteps;
+
+        BoundedCharSequence(String value, int[] remainingSteps) {
+            this.value = value;
+            this.remainingSteps = remainingSteps;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (--remainingSteps[0] < 0) {
+                throw new StepLimitExceededException();
+            }
+            return value.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return value.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new BoundedCharSequence(value.substring(start, end), remainingSteps);
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+
+    static final class StepLimitExceededException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        StepLimitExceededException() {
+            super(null, null, false, false);
         }
     }
 }
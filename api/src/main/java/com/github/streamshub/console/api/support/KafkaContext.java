@@ -4,6 +4,7 @@ import java.io.Closeable;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import org.apache.kafka.clients.admin.Admin;
 
@@ -13,22 +14,146 @@ import io.strimzi.api.kafka.model.kafka.Kafka;
 
 public class KafkaContext implements Closeable {
 
-    public static final KafkaContext EMPTY = new KafkaContext(null, null, Collections.emptyMap(), null);
+    public static final KafkaContext EMPTY = new KafkaContext(null, null, Collections.emptyMap(), null, null);
 
     final KafkaClusterConfig clusterConfig;
     final Kafka resource;
     final Map<Class<?>, Map<String, Object>> configs;
-    final Admin admin;
+    final Supplier<Admin> adminSupplier;
+    volatile Admin admin;
+    volatile Throwable adminFailure;
+    boolean closed;
+    final boolean sharedAdmin;
+    final TopicNameIndex topicNames;
+    final TopicConfigCache topicConfigs;
+    final ConsumerGroupMembershipIndex consumerGroupMembership;
+    final ConsumerGroupLag consumerGroupLag;
+    final ConsumerGroupLagHistory consumerGroupLagHistory;
+    final ConsumerGroupRebalanceTracker consumerGroupRebalances;
+    final OffsetTimestampIndex offsetTimestamps;
+    final ClusterCircuitBreaker circuitBreaker;
+    final ClusterBulkhead bulkhead;
+    final AdminWorkQueue adminWork;
+    final RecordConsumerPool recordConsumers;
+    final AdminClientCache.Lease adminLease;
 
-    public KafkaContext(KafkaClusterConfig clusterConfig, Kafka resource, Map<Class<?>, Map<String, Object>> configs, Admin admin) {
+    /**
+     * Create a context for a cluster. The Admin client shared by all requests
+     * to the cluster, if any, is created using the supplier when first used.
+     *
+     * @param adminSupplier   supplier of the shared Admin client, null when
+     *                        the cluster has no shared Admin client
+     * @param recordConsumers pool of the consumers used to read records from
+     *                        the cluster, closed with the context
+     */
+    public KafkaContext(KafkaClusterConfig clusterConfig,
+            Kafka resource,
+            Map<Class<?>, Map<String, Object>> configs,
+            Supplier<Admin> adminSupplier,
+            RecordConsumerPool recordConsumers) {
+        this(clusterConfig, resource, configs, adminSupplier, recordConsumers, new ClusterBulkhead());
+    }
+
+    private KafkaContext(KafkaClusterConfig clusterConfig,
+            Kafka resource,
+            Map<Class<?>, Map<String, Object>> configs,
+            Supplier<Admin> adminSupplier,
+            RecordConsumerPool recordConsumers,
+            ClusterBulkhead bulkhead) {
+        this(clusterConfig,
+                resource,
+                configs,
+                adminSupplier,
+                null,
+                adminSupplier != null,
+                new TopicNameIndex(),
+                new TopicConfigCache(),
+                new ConsumerGroupMembershipIndex(),
+                new ConsumerGroupLag(),
+                new ConsumerGroupLagHistory(),
+                new ConsumerGroupRebalanceTracker(),
+                new OffsetTimestampIndex(),
+                new ClusterCircuitBreaker(),
+                bulkhead,
+                new AdminWorkQueue(bulkhead::load),
+                recordConsumers,
+                null);
+    }
+
+    /**
+     * Create a request-scoped copy of the given context using a different Admin
+     * client. The topic name index, configuration cache, consumer group
+     * membership index, consumer group lag and lag history, consumer group
+     * rebalance tracker, offset timestamp index, circuit breaker, bulkhead,
+     * Admin work queue, and record consumer pool are shared with the original
+     * context.
+     */
+    public KafkaContext(KafkaContext other, Admin admin) {
+        this(other, admin, null);
+    }
+
+    /**
+     * Create a request-scoped copy of the given context using an Admin client
+     * leased from the {@linkplain AdminClientCache}. The lease is released
+     * rather than the client closed when the copy is closed.
+     */
+    public KafkaContext(KafkaContext other, Admin admin, AdminClientCache.Lease adminLease) {
+        this(other.clusterConfig,
+                other.resource,
+                other.configs,
+                null,
+                admin,
+                other.sharedAdmin,
+                other.topicNames,
+                other.topicConfigs,
+                other.consumerGroupMembership,
+                other.consumerGroupLag,
+                other.consumerGroupLagHistory,
+                other.consumerGroupRebalances,
+                other.offsetTimestamps,
+                other.circuitBreaker,
+                other.bulkhead,
+                other.adminWork,
+                other.recordConsumers,
+                adminLease);
+    }
+
+    private KafkaContext(KafkaClusterConfig clusterConfig,
+            Kafka resource,
+            Map<Class<?>, Map<String, Object>> configs,
+            Supplier<Admin> adminSupplier,
+            Admin admin,
+            boolean sharedAdmin,
+            TopicNameIndex topicNames,
+            TopicConfigCache topicConfigs,
+            ConsumerGroupMembershipIndex consumerGroupMembership,
+            ConsumerGroupLag consumerGroupLag,
+            ConsumerGroupLagHistory consumerGroupLagHistory,
+            ConsumerGroupRebalanceTracker consumerGroupRebalances,
+            OffsetTimestampIndex offsetTimestamps,
+            ClusterCircuitBreaker circuitBreaker,
+            ClusterBulkhead bulkhead,
+            AdminWorkQueue adminWork,
+            RecordConsumerPool recordConsumers,
+            AdminClientCache.Lease adminLease) {
         this.clusterConfig = clusterConfig;
         this.resource = resource;
         this.configs = Map.copyOf(configs);
+        this.adminSupplier = adminSupplier;
         this.admin = admin;
-    }
-
-    public KafkaContext(KafkaContext other, Admin admin) {
-        this(other.clusterConfig, other.resource, other.configs, admin);
+        this.sharedAdmin = sharedAdmin;
+        this.topicNames = topicNames;
+        this.topicConfigs = topicConfigs;
+        this.consumerGroupMembership = consumerGroupMembership;
+        this.consumerGroupLag = consumerGroupLag;
+        this.consumerGroupLagHistory = consumerGroupLagHistory;
+        this.consumerGroupRebalances = consumerGroupRebalances;
+        this.offsetTimestamps = offsetTimestamps;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.adminWork = adminWork;
+        this.recordConsumers = recordConsumers;
+        this.adminLease = adminLease;
     }
 
     @Override
@@ -51,8 +176,24 @@ public class KafkaContext implements Closeable {
 
     @Override
     public void close() {
-        if (admin != null) {
-            admin.close();
+        if (adminLease != null) {
+            adminLease.release();
+            return;
+        }
+
+        Admin current;
+
+        synchronized (this) {
+            closed = true;
+            current = admin;
+        }
+
+        if (current != null) {
+            current.close();
+        }
+
+        if (recordConsumers != null) {
+            recordConsumers.close();
         }
     }
 
@@ -72,7 +213,105 @@ public class KafkaContext implements Closeable {
         return configs.get(type);
     }
 
+    /**
+     * The context's Admin client. The shared Admin client of a cluster is
+     * created when first requested, so that no connection is made to clusters
+     * that are not used.
+     *
+     * @throws IllegalStateException when the shared Admin client is requested
+     *         after the context has been closed
+     */
     public Admin admin() {
-        return admin;
+        Admin current = admin;
+
+        if (current == null && adminSupplier != null) {
+            synchronized (this) {
+                if (closed) {
+                    throw new IllegalStateException("KafkaContext is closed");
+                }
+
+                if (admin == null) {
+                    try {
+                        admin = adminSupplier.get();
+                        adminFailure = null;
+                    } catch (RuntimeException e) {
+                        adminFailure = e;
+                        throw e;
+                    }
+                }
+
+                current = admin;
+            }
+        }
+
+        return current;
+    }
+
+    /**
+     * Whether the shared Admin client has been created, without creating it.
+     */
+    public boolean adminInitialized() {
+        return admin != null;
+    }
+
+    /**
+     * Error thrown by the most recent attempt to create the shared Admin
+     * client, if that attempt failed.
+     */
+    public Throwable adminFailure() {
+        return adminFailure;
+    }
+
+    /**
+     * Whether the Admin client is shared by all requests to the cluster (i.e.
+     * it was not created using credentials given in the current request) and
+     * may therefore be used beyond the end of the current request.
+     */
+    public boolean sharedAdmin() {
+        return sharedAdmin;
+    }
+
+    public TopicNameIndex topicNames() {
+        return topicNames;
+    }
+
+    public TopicConfigCache topicConfigs() {
+        return topicConfigs;
+    }
+
+    public ConsumerGroupMembershipIndex consumerGroupMembership() {
+        return consumerGroupMembership;
+    }
+
+    public ConsumerGroupLag consumerGroupLag() {
+        return consumerGroupLag;
+    }
+
+    public ConsumerGroupLagHistory consumerGroupLagHistory() {
+        return consumerGroupLagHistory;
+    }
+
+    public ConsumerGroupRebalanceTracker consumerGroupRebalances() {
+        return consumerGroupRebalances;
+    }
+
+    public OffsetTimestampIndex offsetTimestamps() {
+        return offsetTimestamps;
+    }
+
+    public ClusterCircuitBreaker circuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public ClusterBulkhead bulkhead() {
+        return bulkhead;
+    }
+
+    public AdminWorkQueue adminWork() {
+        return adminWork;
+    }
+
+    public RecordConsumerPool recordConsumers() {
+        return recordConsumers;
     }
 }
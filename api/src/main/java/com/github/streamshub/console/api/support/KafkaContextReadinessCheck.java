@@ -0,0 +1,109 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Startup;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.eclipse.microprofile.health.Readiness;
+import org.jboss.logging.Logger;
+
+/**
+ * Reports the state of the shared Admin client of each Kafka cluster and,
+ * when warm-up is enabled, creates the clients in parallel at startup rather
+ * than when each cluster is first used.
+ *
+ * <p>The check is down only while a warm-up is in progress. Clusters whose
+ * Admin client is yet to be created or could not be created are reported in
+ * the check's data but do not make the application unready, so that a single
+ * unreachable cluster does not prevent access to the others.
+ */
+@Readiness
+@ApplicationScoped
+public class KafkaContextReadinessCheck implements HealthCheck {
+
+    static final String NAME = "kafka-clusters";
+
+    @Inject
+    Logger logger;
+
+    @Inject
+    ScheduledExecutorService scheduler;
+
+    /**
+     * All Kafka contexts known to the application
+     */
+    @Inject
+    Map<String, KafkaContext> kafkaContexts;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.admin.warm-up.enabled", defaultValue = "false")
+    boolean warmUpEnabled;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.admin.warm-up.parallelism", defaultValue = "4")
+    int warmUpParallelism;
+
+    volatile boolean warmingUp;
+
+    void onStartup(@Observes Startup event) {
+        if (warmUpEnabled) {
+            warmUp();
+        }
+    }
+
+    CompletionStage<Void> warmUp() {
+        List<Supplier<CompletionStage<Void>>> pending = kafkaContexts.entrySet()
+                .stream()
+                .filter(e -> e.getValue().sharedAdmin())
+                .map(e -> (Supplier<CompletionStage<Void>>) () -> CompletableFuture.runAsync(() -> {
+                    try {
+                        e.getValue().admin();
+                    } catch (RuntimeException error) {
+                        logger.warnf("Failed to create Admin client for cluster %s: %s",
+                                e.getKey(), error.getMessage());
+                    }
+                }, scheduler))
+                .toList();
+
+        warmingUp = true;
+        long start = System.currentTimeMillis();
+
+        return ConcurrencyLimiter.limitConcurrency(pending, warmUpParallelism)
+            .whenComplete((nothing, error) -> {
+                warmingUp = false;
+                logger.infof("Created Admin clients for %d Kafka clusters in %d ms",
+                        pending.size(), System.currentTimeMillis() - start);
+            });
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        HealthCheckResponseBuilder builder = HealthCheckResponse.named(NAME).status(!warmingUp);
+        kafkaContexts.forEach((clusterId, kafkaContext) -> builder.withData(clusterId, state(kafkaContext)));
+        return builder.build();
+    }
+
+    static String state(KafkaContext kafkaContext) {
+        if (!kafkaContext.sharedAdmin()) {
+            return "per-request";
+        }
+        if (kafkaContext.adminInitialized()) {
+            return "ready";
+        }
+
+        Throwable failure = kafkaContext.adminFailure();
+        return failure != null ? "failed: " + failure.getMessage() : "pending";
+    }
+}
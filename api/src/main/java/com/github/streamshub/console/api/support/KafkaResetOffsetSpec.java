@@ -0,0 +1,117 @@
+package com.github.streamshub.console.api.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+
+/**
+ * Offset specification used to reset the committed offsets of a consumer
+ * group. In addition to the specifications accepted by
+ * {@linkplain KafkaOffsetSpec}, a reset may be relative to the current
+ * committed offset ({@code shift-by:<number of records>}) or to the current
+ * time ({@code duration:<ISO-8601 duration>}).
+ */
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = KafkaResetOffsetSpec.Validator.class)
+@Documented
+public @interface KafkaResetOffsetSpec {
+
+    public static final String SHIFT_BY_PREFIX = "shift-by:";
+    public static final String DURATION_PREFIX = "duration:";
+
+    String message() default "must be one of [ earliest, latest, maxTimestamp ], shift-by:<number of records>, duration:<ISO-8601 duration> or a valid UTC ISO timestamp.";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    String source() default "";
+
+    static class Validator implements ConstraintValidator<KafkaResetOffsetSpec, String> {
+        final KafkaOffsetSpec.Validator offsetSpec = new KafkaOffsetSpec.Validator();
+
+        @Override
+        public boolean isValid(String value, ConstraintValidatorContext context) {
+            return offsetSpec.isValid(value, context)
+                    || Relative.shiftBy(value).isPresent()
+                    || Relative.duration(value).isPresent();
+        }
+    }
+
+    /**
+     * Parsing of the relative offset specifications.
+     */
+    final class Relative {
+        private Relative() {
+        }
+
+        /**
+         * @return the number of records by which to move the committed offset,
+         *         or empty when the value is not a valid {@code shift-by} spec
+         */
+        public static OptionalLong shiftBy(String value) {
+            if (value == null || !value.startsWith(SHIFT_BY_PREFIX)) {
+                return OptionalLong.empty();
+            }
+
+            try {
+                return OptionalLong.of(Long.parseLong(value.substring(SHIFT_BY_PREFIX.length())));
+            } catch (NumberFormatException e) {
+                return OptionalLong.empty();
+            }
+        }
+
+        /**
+         * @return the (non-negative) period prior to the current time, or empty
+         *         when the value is not a valid {@code duration} spec or the
+         *         period reaches back before the epoch
+         */
+        public static Optional<Duration> duration(String value) {
+            if (value == null || !value.startsWith(DURATION_PREFIX)) {
+                return Optional.empty();
+            }
+
+            Duration duration;
+
+            try {
+                duration = Duration.parse(value.substring(DURATION_PREFIX.length()));
+            } catch (DateTimeParseException e) {
+                return Optional.empty();
+            }
+
+            if (duration.isNegative() || duration.compareTo(Duration.between(Instant.EPOCH, Instant.now())) > 0) {
+                return Optional.empty();
+            }
+
+            return Optional.of(duration);
+        }
+
+        /**
+         * Move the committed offset by the given number of records, saturating
+         * rather than overflowing at the limits of the {@code long} range.
+         */
+        public static long shift(long committedOffset, long shift) {
+            long result = committedOffset + shift;
+
+            // Overflow only when both operands have the sign opposite to the result
+            if (((committedOffset ^ result) & (shift ^ result)) < 0) {
+                return shift < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+            }
+
+            return result;
+        }
+    }
+}
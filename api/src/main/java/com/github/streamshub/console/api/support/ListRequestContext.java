@@ -12,6 +12,7 @@ import java.util.SortedSet;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.core.UriBuilder;
@@ -22,6 +23,7 @@ import com.github.streamshub.console.api.model.ListFetchParams;
 public class ListRequestContext<T> implements Predicate<T> {
 
     List<Predicate<T>> filters;
+    final Predicate<T>[] compiledFilters;
     final ComparatorBuilder<T> comparatorBuilder;
     final URI requestUri;
     final ListFetchParams listParams;
@@ -53,6 +55,7 @@ public class ListRequestContext<T> implements Predicate<T> {
 
     public ListRequestContext(List<Predicate<T>> filters, ComparatorBuilder<T> comparatorBuilder, URI requestUri, ListFetchParams listParams, Function<JsonObject, T> cursorMapper) {
         this.filters = Objects.requireNonNull(filters);
+        this.compiledFilters = compileFilters(filters);
         this.comparatorBuilder = comparatorBuilder;
         this.requestUri = requestUri;
         this.listParams = listParams;
@@ -96,13 +99,37 @@ public class ListRequestContext<T> implements Predicate<T> {
         }
     }
 
+    /**
+     * Order the filters so that the least expensive are evaluated first. The
+     * relative cost of {@linkplain FetchFilterPredicate}s is determined by their
+     * operator. Other predicates are evaluated last, in the order given.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Predicate<T>[] compileFilters(List<Predicate<T>> filters) {
+        return filters.stream()
+                .sorted(Comparator.comparingInt(ListRequestContext::filterCost))
+                .toArray(Predicate[]::new);
+    }
+
+    static int filterCost(Predicate<?> filter) {
+        if (filter instanceof FetchFilterPredicate<?, ?> fetchFilter) {
+            return fetchFilter.cost();
+        }
+        return Integer.MAX_VALUE;
+    }
+
     public List<Predicate<T>> filters() {
         return Collections.unmodifiableList(filters);
     }
 
     @Override
     public boolean test(T t) {
-        return filters.isEmpty() || filters.stream().allMatch(filter -> filter.test(t));
+        for (Predicate<T> filter : compiledFilters) {
+            if (!filter.test(t)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public T tally(T item) {
@@ -114,6 +141,49 @@ public class ListRequestContext<T> implements Predicate<T> {
         return sortComparator;
     }
 
+    /**
+     * Select the entries of the requested page from the given items in a single
+     * pass. Each item is counted and checked against the page cursors as it is
+     * encountered, and only the entries that may appear on the requested page
+     * (plus the first and last pages used to build the pagination links) are
+     * retained in size-limited sorted sets. This avoids sorting the full list of
+     * items when only a single page is returned.
+     *
+     * <p>The result is equivalent to applying {@link #tally(Object)},
+     * {@link #betweenCursors(Object)}, sorting by {@link #getSortComparator()},
+     * and then {@link #beforePageBegin(Object)} and
+     * {@link #pageCapacityAvailable(Object)} to a stream of the items.
+     *
+     * @param items filtered items, in any order
+     * @return the sorted entries of the requested page
+     */
+    public List<T> selectPage(Stream<T> items) {
+        SizeLimitedSortedSet<T> candidates;
+
+        if (pageBackRequest) {
+            // Only the final page of candidates preceding the `page[before]` cursor is needed
+            candidates = new SizeLimitedSortedSet<>(sortComparator.reversed(), pageSize);
+        } else {
+            // One additional entry is retained to detect a truncated range
+            candidates = new SizeLimitedSortedSet<>(sortComparator, pageSize + 1);
+        }
+
+        items.map(this::tally)
+            .filter(this::betweenCursors)
+            .forEach(candidates::add);
+
+        List<T> page = new ArrayList<>(candidates);
+
+        if (pageBackRequest) {
+            Collections.reverse(page);
+            candidateRecords = Math.min(candidateRecords, pageSize);
+        }
+
+        return page.stream()
+                .takeWhile(this::pageCapacityAvailable)
+                .toList();
+    }
+
     public List<String> getSortEntries() {
         return listParams.getSortEntries();
     }
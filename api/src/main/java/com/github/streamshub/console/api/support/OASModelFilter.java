@@ -110,6 +110,17 @@ public class OASModelFilter extends AbstractOperationFilter implements OASFilter
                 .addOneOf(OASFactory.createSchema()
                         .ref("Instant")));
 
+        openAPI.getComponents().addSchema("ResetOffsetSpec", OASFactory.createSchema()
+                .type(SchemaType.STRING)
+                .addOneOf(OASFactory.createSchema()
+                        .ref("OffsetSpec"))
+                .addOneOf(OASFactory.createSchema()
+                        .type(SchemaType.STRING)
+                        .pattern("^" + KafkaResetOffsetSpec.SHIFT_BY_PREFIX + "-?\\d+$"))
+                .addOneOf(OASFactory.createSchema()
+                        .type(SchemaType.STRING)
+                        .pattern("^" + KafkaResetOffsetSpec.DURATION_PREFIX + "P.+$")));
+
         dereferenceSchemas(openAPI);
 
         // Sort global schemas
@@ -0,0 +1,251 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Sparse index of the times at which the end offset of each partition in a
+ * single Kafka cluster was observed, used to estimate when the record at a
+ * given offset was written without reading the record itself.
+ *
+ * <p>A sample {@code (offset, timestamp)} records that every record before
+ * {@code offset} had been written by {@code timestamp}. The time of a record
+ * between two samples is interpolated linearly, and the time of a record
+ * before the oldest sample is extrapolated using the average rate across all
+ * samples. When a partition's samples reach the index's capacity, every
+ * second sample in the older half is discarded so that the samples cover an
+ * increasingly long period of time with decreasing resolution.
+ *
+ * <p>Partitions are sampled by the lag monitor, which also removes partitions
+ * that no longer exist, and whenever a request lists a consumer group's
+ * offsets. The number of partitions is bounded independently of the monitor:
+ * when a new partition would exceed the limit, the partitions sampled least
+ * recently are discarded.
+ */
+public class OffsetTimestampIndex {
+
+    static final int DEFAULT_CAPACITY = 64;
+    static final int DEFAULT_MAX_PARTITIONS = 10_000;
+
+    /**
+     * Samples for a single partition, ordered by offset. Both the offsets and
+     * the timestamps are strictly increasing.
+     */
+    static class Samples {
+        final long[] offsets;
+        final long[] timestamps;
+        int size;
+        volatile long lastRecorded;
+
+        Samples(int capacity) {
+            offsets = new long[capacity];
+            timestamps = new long[capacity];
+        }
+
+        synchronized void record(long offset, long timestamp) {
+            lastRecorded = timestamp;
+
+            if (size > 0 && offset < offsets[size - 1] && timestamp >= timestamps[size - 1]) {
+                // End offset moved backwards, the log was truncated or the topic re-created
+                size = 0;
+            }
+
+            int next = firstAbove(offset - 1);
+
+            if (next < size && timestamps[next] <= timestamp) {
+                // An existing sample already covers this offset at the same time or earlier
+                return;
+            }
+
+            // Samples before the new one with a later timestamp are superseded
+            int from = next;
+            while (from > 0 && timestamps[from - 1] >= timestamp) {
+                from--;
+            }
+
+            int to = next < size && offsets[next] == offset ? next + 1 : next;
+
+            if (size - (to - from) == offsets.length) {
+                thin();
+                record(offset, timestamp);
+                return;
+            }
+
+            int tail = size - to;
+            System.arraycopy(offsets, to, offsets, from + 1, tail);
+            System.arraycopy(timestamps, to, timestamps, from + 1, tail);
+            offsets[from] = offset;
+            timestamps[from] = timestamp;
+            size = from + 1 + tail;
+        }
+
+        /**
+         * Discard every second sample in the older half of the samples.
+         */
+        void thin() {
+            int half = size / 2;
+            int target = 0;
+
+            for (int i = 0; i < size; i++) {
+                if (i >= half || i % 2 == 0) {
+                    offsets[target] = offsets[i];
+                    timestamps[target] = timestamps[i];
+                    target++;
+                }
+            }
+
+            size = target;
+        }
+
+        /**
+         * Index of the first sample with an offset greater than the given
+         * offset, or {@code size} when there is none.
+         */
+        int firstAbove(long offset) {
+            int low = 0;
+            int high = size;
+
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+
+                if (offsets[mid] > offset) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+
+            return low;
+        }
+
+        synchronized OptionalLong estimate(long offset) {
+            int next = firstAbove(offset);
+
+            if (next == size) {
+                // Record not yet written when the latest sample was taken
+                return OptionalLong.empty();
+            }
+
+            if (next > 0) {
+                return OptionalLong.of(interpolate(offsets[next - 1], timestamps[next - 1],
+                        offsets[next], timestamps[next], offset + 1));
+            }
+
+            if (size < 2) {
+                return OptionalLong.empty();
+            }
+
+            return OptionalLong.of(Math.min(timestamps[0], interpolate(offsets[0], timestamps[0],
+                    offsets[size - 1], timestamps[size - 1], offset + 1)));
+        }
+
+        static long interpolate(long offset0, long timestamp0, long offset1, long timestamp1, long offset) {
+            double fraction = (double) (offset - offset0) / (offset1 - offset0);
+            return timestamp0 + Math.round(fraction * (timestamp1 - timestamp0));
+        }
+    }
+
+    private final Map<TopicPartition, Samples> partitions = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final int maxPartitions;
+
+    public OffsetTimestampIndex() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_PARTITIONS);
+    }
+
+    OffsetTimestampIndex(int capacity, int maxPartitions) {
+        this.capacity = capacity;
+        this.maxPartitions = maxPartitions;
+    }
+
+    /**
+     * Record the end offset of a partition observed at the given time.
+     *
+     * @param partition the partition
+     * @param endOffset the partition's end offset (offset of the next record to be written)
+     * @param timestamp time in milliseconds since the epoch, no earlier than the
+     *                  time the end offset was returned by the broker
+     */
+    public void record(TopicPartition partition, long endOffset, long timestamp) {
+        Samples samples = partitions.get(partition);
+
+        if (samples == null) {
+            if (partitions.size() >= maxPartitions) {
+                evictLeastRecent();
+            }
+            samples = partitions.computeIfAbsent(partition, k -> new Samples(capacity));
+        }
+
+        samples.record(endOffset, timestamp);
+    }
+
+    /**
+     * Discard a tenth of the partitions, those sampled least recently, so that
+     * eviction is not repeated for every new partition.
+     */
+    synchronized void evictLeastRecent() {
+        int excess = partitions.size() - maxPartitions + Math.max(1, maxPartitions / 10);
+
+        if (excess <= 0) {
+            // Already evicted by a concurrent caller
+            return;
+        }
+
+        // Times are copied since they may change while sorting
+        partitions.entrySet()
+            .stream()
+            .map(entry -> Map.entry(entry.getKey(), entry.getValue().lastRecorded))
+            .sorted(Map.Entry.comparingByValue())
+            .limit(excess)
+            .map(Map.Entry::getKey)
+            .toList()
+            .forEach(partitions::remove);
+    }
+
+    /**
+     * Estimate the time at which the record at the given offset was written.
+     *
+     * @return the estimated time in milliseconds since the epoch, or empty when
+     *         the partition has too few samples to estimate the time
+     */
+    public OptionalLong estimate(TopicPartition partition, long offset) {
+        Samples samples = partitions.get(partition);
+        return samples != null ? samples.estimate(offset) : OptionalLong.empty();
+    }
+
+    /**
+     * Estimate how long the record at a consumer's committed offset has been
+     * waiting to be consumed.
+     *
+     * @param partition       the partition
+     * @param committedOffset the consumer's committed offset, i.e. the next record to be consumed
+     * @param endOffset       the partition's end offset
+     * @param now             current time in milliseconds since the epoch
+     * @return the time lag in milliseconds, zero when the consumer is not behind
+     */
+    public OptionalLong timeLag(TopicPartition partition, long committedOffset, long endOffset, long now) {
+        if (committedOffset >= endOffset) {
+            return OptionalLong.of(0);
+        }
+
+        OptionalLong written = estimate(partition, committedOffset);
+        return written.isPresent() ? OptionalLong.of(Math.max(0, now - written.getAsLong())) : OptionalLong.empty();
+    }
+
+    /**
+     * Remove the samples of all partitions other than those given.
+     */
+    public void retainAll(Collection<TopicPartition> retained) {
+        Set<TopicPartition> retainedSet = Set.copyOf(retained);
+        partitions.keySet().removeIf(partition -> !retainedSet.contains(partition));
+    }
+
+    public int size() {
+        return partitions.size();
+    }
+}
@@ -0,0 +1,204 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeLogDirsOptions;
+import org.apache.kafka.clients.admin.ListOffsetsOptions;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.ReplicaInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Dispatches partition-scoped Admin requests ({@code listOffsets} and
+ * {@code describeLogDirs}) in bounded batches. Partitions are grouped by their
+ * leader node and split into chunks of at most
+ * {@code console.kafka.admin.batch.max-partitions} entries so that a cluster
+ * with a very large number of partitions does not produce a single request that
+ * is unable to complete within the request timeout. No more than
+ * {@code console.kafka.admin.batch.max-in-flight-per-broker} requests are
+ * outstanding to any one leader at a time.
+ *
+ * <p>Results are delivered to the caller's handler per partition, including
+ * failures, so that partial results may be attached to the response model.
+ */
+@ApplicationScoped
+public class PartitionRequestBatcher {
+
+    /**
+     * Receives the result of a {@code listOffsets} request for a single
+     * partition and offset specification. Exactly one of {@code result} or
+     * {@code error} will be non-null.
+     */
+    @FunctionalInterface
+    public interface OffsetResultHandler {
+        void accept(TopicPartition partition, OffsetSpec spec, ListOffsetsResultInfo result, Throwable error);
+    }
+
+    /**
+     * Receives the local log directory information for a single partition
+     * replica hosted by node {@code nodeId}. Exactly one of {@code result} or
+     * {@code error} will be non-null.
+     */
+    @FunctionalInterface
+    public interface LogDirResultHandler {
+        void accept(TopicPartition partition, int nodeId, ReplicaInfo result, Throwable error);
+    }
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.admin.batch.max-partitions", defaultValue = "1000")
+    int maxPartitions;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.admin.batch.max-in-flight-per-broker", defaultValue = "2")
+    int maxInFlightPerBroker;
+
+    @Inject
+    @ConfigProperty(name = "console.kafka.admin.batch.timeout-ms", defaultValue = "5000")
+    int timeoutMs;
+
+    /**
+     * Fetch the offsets of the given partitions for each of the offset specs.
+     * Each leader's partitions are divided into chunks, and every chunk is
+     * requested once per spec. The chunk/spec requests for a leader share that
+     * leader's in-flight limit, so adding specs lengthens the queue for a broker
+     * rather than multiplying the number of concurrent requests it receives.
+     *
+     * @param adminClient      Admin client used to issue the requests
+     * @param partitionLeaders map of partitions to the node ID of their leader
+     * @param specs            offset specs to request for every partition
+     * @param handler          receives the result for each partition/spec pair
+     * @return stage that completes when all results have been delivered
+     */
+    public CompletionStage<Void> listOffsets(Admin adminClient,
+            Map<TopicPartition, Integer> partitionLeaders,
+            List<OffsetSpec> specs,
+            OffsetResultHandler handler) {
+
+        var pending = groupByLeader(partitionLeaders)
+            .values()
+            .stream()
+            .map(partitions -> chunk(partitions, maxPartitions)
+                    .stream()
+                    .flatMap(chunk -> specs.stream()
+                            .<Supplier<CompletionStage<Void>>>map(spec ->
+                                () -> listOffsets(adminClient, chunk, spec, handler)))
+                    .toList())
+            .map(requests -> ConcurrencyLimiter.limitConcurrency(requests, maxInFlightPerBroker))
+            .map(CompletionStage::toCompletableFuture)
+            .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(pending);
+    }
+
+    CompletionStage<Void> listOffsets(Admin adminClient,
+            List<TopicPartition> partitions,
+            OffsetSpec spec,
+            OffsetResultHandler handler) {
+
+        var request = partitions.stream()
+                .collect(Collectors.toMap(Function.identity(), ignored -> spec));
+        var result = adminClient.listOffsets(request, new ListOffsetsOptions()
+                .timeoutMs(timeoutMs));
+
+        var pending = partitions.stream()
+                .map(partition -> result.partitionResult(partition)
+                        .toCompletionStage()
+                        .<Void>handle((offsetResult, error) -> {
+                            handler.accept(partition, spec, offsetResult, error);
+                            return null;
+                        }))
+                .map(CompletionStage::toCompletableFuture)
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(pending);
+    }
+
+    /**
+     * Describe the log directories of the leader replica for each of the given
+     * partitions. One request is sent to each distinct leader and the response
+     * is indexed once, rather than being scanned for every partition.
+     *
+     * @param adminClient      Admin client used to issue the requests
+     * @param partitionLeaders map of partitions to the node ID of their leader
+     * @param handler          receives the result for each partition
+     * @return stage that completes when all results have been delivered
+     */
+    public CompletionStage<Void> describeLogDirs(Admin adminClient,
+            Map<TopicPartition, Integer> partitionLeaders,
+            LogDirResultHandler handler) {
+
+        var pending = groupByLeader(partitionLeaders)
+            .entrySet()
+            .stream()
+            .map(e -> describeLogDirs(adminClient, e.getKey(), e.getValue(), handler))
+            .map(CompletionStage::toCompletableFuture)
+            .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(pending);
+    }
+
+    CompletionStage<Void> describeLogDirs(Admin adminClient,
+            int nodeId,
+            List<TopicPartition> partitions,
+            LogDirResultHandler handler) {
+
+        return adminClient.describeLogDirs(List.of(nodeId), new DescribeLogDirsOptions()
+                .timeoutMs(timeoutMs))
+            .descriptions()
+            .get(nodeId)
+            .toCompletionStage()
+            .handle((nodeLogDirs, error) -> {
+                if (error != null) {
+                    partitions.forEach(partition -> handler.accept(partition, nodeId, null, error));
+                } else {
+                    Map<TopicPartition, ReplicaInfo> replicas = new HashMap<>();
+                    nodeLogDirs.values().forEach(dir -> replicas.putAll(dir.replicaInfos()));
+
+                    partitions.stream()
+                        .filter(replicas::containsKey)
+                        .forEach(partition -> handler.accept(partition, nodeId, replicas.get(partition), null));
+                }
+
+                return null;
+            });
+    }
+
+    static Map<Integer, List<TopicPartition>> groupByLeader(Map<TopicPartition, Integer> partitionLeaders) {
+        return partitionLeaders.entrySet()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        Map.Entry::getValue,
+                        TreeMap::new,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+    }
+
+    static <E> List<List<E>> chunk(List<E> entries, int chunkSize) {
+        if (entries.size() <= chunkSize) {
+            return Collections.singletonList(entries);
+        }
+
+        List<List<E>> chunks = new ArrayList<>((entries.size() / chunkSize) + 1);
+
+        for (int i = 0; i < entries.size(); i += chunkSize) {
+            chunks.add(entries.subList(i, Math.min(i + chunkSize, entries.size())));
+        }
+
+        return chunks;
+    }
+}
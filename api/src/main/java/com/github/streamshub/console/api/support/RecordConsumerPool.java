@@ -0,0 +1,245 @@
+package com.github.streamshub.console.api.support;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.jboss.logging.Logger;
+
+/**
+ * Pool of the consumers used to read records from a single Kafka cluster.
+ * Each pooled consumer is confined to its own poller thread, on which all
+ * tasks using the consumer run, so that requests waiting for records do not
+ * block a request thread. A consumer is used by one task at a time and its
+ * assignment is cleared when the task completes.
+ *
+ * <p>At most {@code maxSize} consumers are created. Tasks submitted while all
+ * consumers are busy wait for one to be released, up to {@code maxWaiting}
+ * tasks, after which further tasks are rejected with a
+ * {@linkplain RejectedExecutionException}. Consumers left idle for longer than
+ * the idle timeout are closed, and a consumer is discarded rather than reused
+ * when a task using it fails.
+ */
+public class RecordConsumerPool implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(RecordConsumerPool.class);
+
+    /**
+     * Poller thread idle time after which the thread ends. A new thread is
+     * started for the next task using the consumer.
+     */
+    static final long THREAD_KEEP_ALIVE_MS = 60_000;
+
+    /**
+     * Consumer confined to a single poller thread.
+     */
+    static final class PooledConsumer {
+        private final Supplier<Consumer<byte[], byte[]>> factory;
+        private final ThreadPoolExecutor poller;
+        private Consumer<byte[], byte[]> consumer;
+        long lastUsed;
+
+        PooledConsumer(String name, Supplier<Consumer<byte[], byte[]>> factory) {
+            this.factory = factory;
+            this.poller = new ThreadPoolExecutor(1, 1,
+                    THREAD_KEEP_ALIVE_MS, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, name);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            this.poller.allowCoreThreadTimeOut(true);
+        }
+
+        <T> CompletableFuture<T> execute(Function<Consumer<byte[], byte[]>, T> task) {
+            return CompletableFuture.supplyAsync(() -> {
+                if (consumer == null) {
+                    consumer = factory.get();
+                }
+
+                try {
+                    return task.apply(consumer);
+                } finally {
+                    consumer.assign(List.of());
+                }
+            }, poller);
+        }
+
+        void close() {
+            poller.execute(() -> {
+                if (consumer != null) {
+                    consumer.close();
+                }
+            });
+            poller.shutdown();
+        }
+    }
+
+    private final String name;
+    private final Supplier<Consumer<byte[], byte[]>> factory;
+    private final int maxSize;
+    private final int maxWaiting;
+    private final long idleTimeoutMs;
+    final LongSupplier clock;
+
+    /**
+     * Idle consumers, most recently used first
+     */
+    private final Deque<PooledConsumer> idle = new ArrayDeque<>();
+    private final Deque<CompletableFuture<PooledConsumer>> waiting = new ArrayDeque<>();
+    private int size;
+    private int created;
+    private boolean closed;
+
+    public RecordConsumerPool(String name,
+            Supplier<Consumer<byte[], byte[]>> factory,
+            int maxSize,
+            int maxWaiting,
+            long idleTimeoutMs) {
+        this(name, factory, maxSize, maxWaiting, idleTimeoutMs, System::currentTimeMillis);
+    }
+
+    RecordConsumerPool(String name,
+            Supplier<Consumer<byte[], byte[]>> factory,
+            int maxSize,
+            int maxWaiting,
+            long idleTimeoutMs,
+            LongSupplier clock) {
+        this.name = name;
+        this.factory = factory;
+        this.maxSize = Math.max(1, maxSize);
+        this.maxWaiting = Math.max(0, maxWaiting);
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.clock = clock;
+    }
+
+    /**
+     * Run the task with a pooled consumer on the consumer's poller thread.
+     *
+     * @return stage completed with the result of the task, or completed
+     *         exceptionally with a {@linkplain RejectedExecutionException}
+     *         when the pool has no consumer available and too many tasks are
+     *         already waiting
+     */
+    public <T> CompletionStage<T> execute(Function<Consumer<byte[], byte[]>, T> task) {
+        return acquire().thenCompose(pooled -> pooled.execute(task)
+                .whenComplete((result, error) -> release(pooled, error == null)));
+    }
+
+    CompletableFuture<PooledConsumer> acquire() {
+        List<PooledConsumer> expired;
+        CompletableFuture<PooledConsumer> result;
+
+        synchronized (this) {
+            expired = removeExpired(clock.getAsLong());
+
+            if (closed) {
+                result = CompletableFuture.failedFuture(new RejectedExecutionException("Consumer pool is closed"));
+            } else if (!idle.isEmpty()) {
+                result = CompletableFuture.completedFuture(idle.pollFirst());
+            } else if (size < maxSize) {
+                result = CompletableFuture.completedFuture(create());
+            } else if (waiting.size() < maxWaiting) {
+                result = new CompletableFuture<>();
+                waiting.addLast(result);
+            } else {
+                result = CompletableFuture.failedFuture(
+                        new RejectedExecutionException("Too many concurrent requests, retry later"));
+            }
+        }
+
+        expired.forEach(PooledConsumer::close);
+        return result;
+    }
+
+    void release(PooledConsumer pooled, boolean reusable) {
+        CompletableFuture<PooledConsumer> waiter = null;
+        PooledConsumer handOff = null;
+        PooledConsumer discarded = null;
+
+        synchronized (this) {
+            if (closed || !reusable) {
+                size--;
+                discarded = pooled;
+
+                if (!closed && !waiting.isEmpty()) {
+                    waiter = waiting.pollFirst();
+                    handOff = create();
+                }
+            } else if (!waiting.isEmpty()) {
+                waiter = waiting.pollFirst();
+                handOff = pooled;
+            } else {
+                pooled.lastUsed = clock.getAsLong();
+                idle.addFirst(pooled);
+            }
+        }
+
+        if (discarded != null) {
+            discarded.close();
+        }
+        if (waiter != null) {
+            waiter.complete(handOff);
+        }
+    }
+
+    private PooledConsumer create() {
+        size++;
+        return new PooledConsumer("console-consumer-%s-%d".formatted(name, ++created), factory);
+    }
+
+    private List<PooledConsumer> removeExpired(long now) {
+        List<PooledConsumer> expired = new ArrayList<>();
+
+        while (!idle.isEmpty() && now - idle.peekLast().lastUsed >= idleTimeoutMs) {
+            expired.add(idle.pollLast());
+            size--;
+        }
+
+        return expired;
+    }
+
+    /**
+     * Number of consumers created and not yet closed, idle or in use.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public void close() {
+        Collection<PooledConsumer> idleConsumers;
+        Collection<CompletableFuture<PooledConsumer>> waiters;
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            idleConsumers = new ArrayList<>(idle);
+            waiters = new ArrayList<>(waiting);
+            size -= idle.size();
+            idle.clear();
+            waiting.clear();
+        }
+
+        LOGGER.debugf("Closing %d idle record consumers of %s", idleConsumers.size(), name);
+        idleConsumers.forEach(PooledConsumer::close);
+        waiters.forEach(w -> w.completeExceptionally(new RejectedExecutionException("Consumer pool is closed")));
+    }
+}
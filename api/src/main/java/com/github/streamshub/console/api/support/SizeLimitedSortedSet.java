@@ -38,6 +38,11 @@ public class SizeLimitedSortedSet<E> extends TreeSet<E> {
 
     @Override
     public boolean add(E entry) {
+        if (size() >= limit && !isEmpty() && comparator().compare(entry, last()) >= 0) {
+            // Set is full and the entry would be removed immediately
+            return false;
+        }
+
         boolean added = super.add(entry);
         truncate();
         return added;
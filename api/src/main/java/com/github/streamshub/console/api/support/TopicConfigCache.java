@@ -0,0 +1,155 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+import com.github.streamshub.console.api.model.ConfigEntry;
+
+/**
+ * Snapshots of the configurations of the topics in a single Kafka cluster.
+ *
+ * <p>Most topic configuration entries are inherited from the broker and are
+ * identical for every topic in the cluster. The first inherited value seen for
+ * each configuration name is shared, and each topic's snapshot stores only the
+ * entries that differ from the shared values. Configuration names are interned
+ * so that each is held only once regardless of the number of topics.
+ *
+ * <p>Snapshots are discarded when a topic's configuration is altered or when the
+ * topic is created or deleted by the console, and expire after a period of
+ * time given by the caller to account for changes made outside the console.
+ * Snapshots of topics deleted outside the console are removed when the
+ * cluster's {@linkplain TopicNameIndex} is refreshed.
+ */
+public class TopicConfigCache {
+
+    static final String TOPIC_SOURCE = "DYNAMIC_TOPIC_CONFIG";
+
+    /**
+     * Snapshot of a topic's configuration entries that differ from the shared
+     * entries. A snapshot with null overrides records the time the topic was
+     * invalidated so that a describe request already in progress at that time
+     * does not store an out-of-date configuration.
+     */
+    record Snapshot(Map<String, ConfigEntry> overrides, long timestamp) {
+        boolean isNewerThan(Snapshot other) {
+            return other == null || timestamp - other.timestamp > 0;
+        }
+    }
+
+    private final ConcurrentMap<String, String> names = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConfigEntry> shared = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Store the full configuration of a topic.
+     *
+     * @param topicName name of the topic
+     * @param configs   all configuration entries of the topic
+     * @param timestamp time the configuration was described, from {@linkplain System#nanoTime()}
+     */
+    public void put(String topicName, Map<String, ConfigEntry> configs, long timestamp) {
+        Map<String, ConfigEntry> overrides = new HashMap<>();
+
+        configs.forEach((name, entry) -> {
+            String internedName = names.computeIfAbsent(name, k -> k);
+
+            if (TOPIC_SOURCE.equals(entry.getSource())) {
+                overrides.put(internedName, entry);
+            } else {
+                ConfigEntry sharedEntry = shared.computeIfAbsent(internedName, k -> entry);
+
+                if (!sameEntry(sharedEntry, entry)) {
+                    overrides.put(internedName, entry);
+                }
+            }
+        });
+
+        Snapshot snapshot = new Snapshot(Map.copyOf(overrides), timestamp);
+        snapshots.compute(topicName, (k, current) -> snapshot.isNewerThan(current) ? snapshot : current);
+    }
+
+    /**
+     * Retrieve the full configuration of a topic, if a snapshot exists that is
+     * newer than the given time.
+     *
+     * @param topicName    name of the topic
+     * @param notOlderThan oldest acceptable snapshot time, from {@linkplain System#nanoTime()}
+     * @return the topic's configuration entries, or null if no usable snapshot exists
+     */
+    public Map<String, ConfigEntry> get(String topicName, long notOlderThan) {
+        Snapshot snapshot = snapshots.get(topicName);
+
+        if (snapshot == null || snapshot.overrides() == null || snapshot.timestamp() - notOlderThan < 0) {
+            return null; // NOSONAR - null indicates a cache miss
+        }
+
+        Map<String, ConfigEntry> configs = new HashMap<>(shared);
+        configs.putAll(snapshot.overrides());
+        return configs;
+    }
+
+    /**
+     * Determine whether the topic's snapshot was taken before the given time and
+     * should be refreshed.
+     */
+    public boolean isOlderThan(String topicName, long time) {
+        Snapshot snapshot = snapshots.get(topicName);
+        return snapshot != null && snapshot.overrides() != null && snapshot.timestamp() - time < 0;
+    }
+
+    /**
+     * Mark the topics as being refreshed.
+     *
+     * @return the topics not already being refreshed by another caller
+     */
+    public Set<String> beginRefresh(Collection<String> topicNames) {
+        Set<String> claimed = new HashSet<>();
+
+        for (String topicName : topicNames) {
+            if (refreshing.add(topicName)) {
+                claimed.add(topicName);
+            }
+        }
+
+        return claimed;
+    }
+
+    public void endRefresh(Collection<String> topicNames) {
+        refreshing.removeAll(topicNames);
+    }
+
+    public void invalidate(String topicName) {
+        snapshots.put(topicName, new Snapshot(null, System.nanoTime()));
+    }
+
+    /**
+     * Remove the snapshots of topics that no longer exist. Called when the
+     * cluster's topic name index is refreshed rather than with each request.
+     *
+     * @param exists test of whether a topic with the given name exists
+     */
+    public void prune(Predicate<String> exists) {
+        snapshots.keySet().removeIf(Predicate.not(exists));
+    }
+
+    public int size() {
+        return (int) snapshots.values().stream().filter(s -> s.overrides() != null).count();
+    }
+
+    static boolean sameEntry(ConfigEntry e1, ConfigEntry e2) {
+        return Objects.equals(e1.getValue(), e2.getValue())
+                && Objects.equals(e1.getSource(), e2.getSource())
+                && Objects.equals(e1.getType(), e2.getType())
+                && Objects.equals(e1.getDocumentation(), e2.getDocumentation())
+                && e1.isSensitive() == e2.isSensitive()
+                && e1.isReadOnly() == e2.isReadOnly();
+    }
+}
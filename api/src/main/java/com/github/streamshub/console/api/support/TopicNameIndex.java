@@ -0,0 +1,283 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.Uuid;
+
+/**
+ * Index of the topic names in a single Kafka cluster, used to find the
+ * candidate topics matching a {@code filter[name]} request parameter without
+ * evaluating the filter against every topic in the cluster, and to map each
+ * name to the topic's Id and each Id to the topic's name.
+ *
+ * <p>Names are kept in sorted order to support prefix searches and
+ * name-ordered iteration, and every name is additionally indexed by each of the
+ * trigrams (three-character substrings) it contains to support searches for
+ * names containing a given substring.
+ *
+ * <p>The index is brought up to date from a listing of the cluster's topics
+ * using {@linkplain #refresh(Collection)}, at most once per maximum age given
+ * to {@linkplain #beginRefresh(long, long)}, and is updated directly when
+ * topics are created or deleted by the console.
+ */
+public class TopicNameIndex {
+
+    static final int GRAM_LENGTH = 3;
+    private static final Pattern WILDCARDS = Pattern.compile("[*?]");
+
+    /**
+     * Topic names (sorted) to topic listings
+     */
+    private final NavigableMap<String, TopicListing> topics = new TreeMap<>();
+    private final Map<String, String> names = new HashMap<>();
+    private final Map<String, Set<String>> trigrams = new HashMap<>();
+    private long refreshedAt;
+    private boolean refreshing;
+
+    /**
+     * Claim the next refresh of the index if the last refresh is older than
+     * the given age and no other refresh is in progress. The caller must
+     * follow a successful claim with {@linkplain #refresh(Collection)} or
+     * {@linkplain #cancelRefresh()}.
+     *
+     * @param now      current time, from {@linkplain System#currentTimeMillis()}
+     * @param maxAgeMs maximum age of the index
+     * @return true if the caller should refresh the index
+     */
+    public synchronized boolean beginRefresh(long now, long maxAgeMs) {
+        if (refreshing || (refreshedAt > 0 && now - refreshedAt < maxAgeMs)) {
+            return false;
+        }
+
+        refreshing = true;
+        return true;
+    }
+
+    public synchronized void cancelRefresh() {
+        refreshing = false;
+    }
+
+    /**
+     * Update the index to contain exactly the topics given. Only the names added
+     * or removed since the previous refresh are (re-)indexed.
+     *
+     * @param listings all topics currently present in the cluster
+     * @return the names of the topics removed from the index
+     */
+    public synchronized List<String> refresh(Collection<TopicListing> listings) {
+        Map<String, TopicListing> current = new HashMap<>(listings.size());
+        listings.forEach(listing -> current.put(listing.name(), listing));
+
+        List<String> removed = topics.keySet()
+                .stream()
+                .filter(name -> !current.containsKey(name))
+                .toList();
+
+        removed.forEach(this::removeName);
+        current.values().forEach(this::add);
+
+        refreshedAt = System.currentTimeMillis();
+        refreshing = false;
+        return removed;
+    }
+
+    public synchronized void add(String name, String topicId) {
+        add(new TopicListing(name, Uuid.fromString(topicId), false));
+    }
+
+    private void add(TopicListing listing) {
+        String name = listing.name();
+        String topicId = listing.topicId().toString();
+        TopicListing previous = topics.put(name, listing);
+
+        if (previous == null) {
+            grams(name).forEach(gram -> trigrams.computeIfAbsent(gram, k -> new HashSet<>()).add(name));
+        } else {
+            names.remove(previous.topicId().toString());
+        }
+
+        names.put(topicId, name);
+    }
+
+    /**
+     * Remove the topic with the given Id from the index.
+     *
+     * @param topicId Id of the topic
+     * @return the name of the removed topic, or empty if not present
+     */
+    public synchronized Optional<String> removeById(String topicId) {
+        String name = names.get(topicId);
+
+        if (name != null) {
+            removeName(name);
+        }
+
+        return Optional.ofNullable(name);
+    }
+
+    private void removeName(String name) {
+        TopicListing listing = topics.remove(name);
+
+        if (listing == null) {
+            return;
+        }
+
+        names.remove(listing.topicId().toString());
+
+        grams(name).forEach(gram -> {
+            Set<String> postings = trigrams.get(gram);
+
+            if (postings != null) {
+                postings.remove(name);
+
+                if (postings.isEmpty()) {
+                    trigrams.remove(gram);
+                }
+            }
+        });
+    }
+
+    public synchronized Optional<String> topicId(String name) {
+        return Optional.ofNullable(topics.get(name)).map(listing -> listing.topicId().toString());
+    }
+
+    public synchronized Optional<String> topicName(String topicId) {
+        return Optional.ofNullable(names.get(topicId));
+    }
+
+    /**
+     * Determine whether the index has been populated from a listing of the
+     * cluster's topics.
+     */
+    public synchronized boolean isPopulated() {
+        return refreshedAt > 0;
+    }
+
+    public synchronized int size() {
+        return topics.size();
+    }
+
+    /**
+     * Topic names beginning with the given prefix, in name order.
+     *
+     * @param prefix name prefix, may be empty
+     * @return sorted copy of the matching names
+     */
+    public synchronized NavigableSet<String> names(String prefix) {
+        return new TreeSet<>(prefixRange(prefix).keySet());
+    }
+
+    /**
+     * Listings of the topics with the given names, in name order. Names not
+     * present in the index are ignored.
+     *
+     * @param names names of the topics, or null for all topics
+     * @return listings of the topics present in the index
+     */
+    public synchronized List<TopicListing> listings(Collection<String> names) {
+        if (names == null) {
+            return new ArrayList<>(topics.values());
+        }
+
+        return new TreeSet<>(names).stream()
+                .map(topics::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private NavigableMap<String, TopicListing> prefixRange(String prefix) {
+        if (prefix.isEmpty()) {
+            return topics;
+        }
+
+        return topics.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+    }
+
+    /**
+     * Find the names of the topics that may match a name filter. The result is
+     * a superset of the matching names, and the filter must still be applied to
+     * each candidate.
+     *
+     * @param operator filter operator
+     * @param operands filter operands
+     * @return the candidate names in name order, or null when the index is
+     *         unable to narrow the search for the given filter (e.g. regular
+     *         expressions)
+     */
+    public synchronized NavigableSet<String> candidates(String operator, List<String> operands) {
+        switch (operator) {
+            case "eq", "in": {
+                NavigableSet<String> result = new TreeSet<>(operands);
+                result.retainAll(topics.keySet());
+                return result;
+            }
+            case "like":
+                return likeCandidates(operands.get(0));
+            default:
+                return null; // NOSONAR - null indicates the index does not apply
+        }
+    }
+
+    private NavigableSet<String> likeCandidates(String pattern) {
+        String[] segments = WILDCARDS.split(pattern, -1);
+        String prefix = segments[0];
+        List<Set<String>> postings = new ArrayList<>();
+
+        for (String segment : segments) {
+            if (segment.length() >= GRAM_LENGTH) {
+                for (String gram : grams(segment)) {
+                    Set<String> names = trigrams.get(gram);
+
+                    if (names == null) {
+                        // No topic contains this trigram
+                        return new TreeSet<>();
+                    }
+
+                    postings.add(names);
+                }
+            }
+        }
+
+        if (postings.isEmpty()) {
+            // Pattern begins with a literal prefix, otherwise the index does not apply
+            return prefix.isEmpty() ? null : new TreeSet<>(prefixRange(prefix).keySet());
+        }
+
+        // Intersect starting from the smallest set of names
+        postings.sort(Comparator.comparingInt(Set::size));
+        NavigableSet<String> result = new TreeSet<>();
+
+        for (String name : postings.get(0)) {
+            if (name.startsWith(prefix) && postings.stream().allMatch(names -> names.contains(name))) {
+                result.add(name);
+            }
+        }
+
+        return result;
+    }
+
+    static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+
+        return grams;
+    }
+}
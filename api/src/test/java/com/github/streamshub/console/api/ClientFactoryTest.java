@@ -0,0 +1,60 @@
+package com.github.streamshub.console.api;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.ClientFactory.ClusterChange;
+import com.github.streamshub.console.config.KafkaClusterConfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClientFactoryTest {
+
+    static KafkaClusterConfig cluster(String name, String bootstrapServers) {
+        KafkaClusterConfig config = new KafkaClusterConfig();
+        config.setName(name);
+        config.setNamespace("ns");
+        config.setProperties(Map.of("bootstrap.servers", bootstrapServers));
+        return config;
+    }
+
+    @Test
+    void testClusterChangesAddedModifiedRemoved() {
+        KafkaClusterConfig unchanged = cluster("c1", "c1:9092");
+        KafkaClusterConfig modifiedBefore = cluster("c2", "c2:9092");
+        KafkaClusterConfig modifiedAfter = cluster("c2", "c2:9093");
+        KafkaClusterConfig removed = cluster("c3", "c3:9092");
+        KafkaClusterConfig added = cluster("c4", "c4:9092");
+
+        var changes = ClientFactory.clusterChanges(
+                List.of(unchanged, modifiedBefore, removed),
+                List.of(cluster("c1", "c1:9092"), added, modifiedAfter));
+
+        assertEquals(List.of(
+                new ClusterChange(null, added),
+                new ClusterChange(modifiedBefore, modifiedAfter),
+                new ClusterChange(removed, null)),
+                changes);
+    }
+
+    @Test
+    void testClusterChangesIdenticalConfiguration() {
+        assertTrue(ClientFactory.clusterChanges(
+                List.of(cluster("c1", "c1:9092"), cluster("c2", "c2:9092")),
+                List.of(cluster("c2", "c2:9092"), cluster("c1", "c1:9092")))
+            .isEmpty());
+    }
+
+    @Test
+    void testClusterChangesRenamedCluster() {
+        KafkaClusterConfig before = cluster("c1", "c1:9092");
+        KafkaClusterConfig after = cluster("c1-renamed", "c1:9092");
+
+        // A cluster key change is a removal of the old key and addition of the new
+        assertEquals(List.of(new ClusterChange(null, after), new ClusterChange(before, null)),
+                ClientFactory.clusterChanges(List.of(before), List.of(after)));
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.streamshub.console.api;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.streamshub.console.config.ConsoleConfig;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConsoleConfigWatcherTest {
+
+    @TempDir
+    Path directory;
+
+    Path configFile;
+    ConsoleConfigWatcher watcher;
+
+    @BeforeEach
+    void setup() throws IOException {
+        configFile = directory.resolve("console-config.yaml");
+        Files.writeString(configFile, "kafka: {}\n");
+
+        watcher = new ConsoleConfigWatcher();
+        watcher.clientFactory = mock(ClientFactory.class);
+        watcher.consoleConfig = new ConsoleConfig();
+        watcher.kafkaContexts = Map.of();
+        watcher.appliedDigest = ConsoleConfigWatcher.digest(configFile);
+    }
+
+    @Test
+    void testUnchangedContentIgnored() {
+        watcher.handleChange(configFile);
+        verify(watcher.clientFactory, never()).loadConsoleConfig(any());
+    }
+
+    @Test
+    void testModifiedContentAppliedOnce() throws IOException {
+        ConsoleConfig updated = new ConsoleConfig();
+        when(watcher.clientFactory.loadConsoleConfig(configFile)).thenReturn(updated);
+        Files.writeString(configFile, "kafka:\n  clusters: []\n");
+
+        watcher.handleChange(configFile);
+        watcher.handleChange(configFile);
+
+        verify(watcher.clientFactory, times(1)).loadConsoleConfig(configFile);
+        verify(watcher.clientFactory, times(1))
+            .reloadKafkaClusters(eq(watcher.consoleConfig), eq(updated), any(), any());
+    }
+
+    @Test
+    void testMissingFileIgnored() throws IOException {
+        Files.delete(configFile);
+        watcher.handleChange(configFile);
+        verify(watcher.clientFactory, never()).loadConsoleConfig(any());
+    }
+
+    @Test
+    void testInvalidContentRetainsConfiguration() throws IOException {
+        when(watcher.clientFactory.loadConsoleConfig(configFile)).thenThrow(new IllegalArgumentException("bad"));
+        Files.writeString(configFile, "kafka: [\n");
+
+        watcher.handleChange(configFile);
+
+        verify(watcher.clientFactory, never()).reloadKafkaClusters(any(), any(), any(), any());
+    }
+}
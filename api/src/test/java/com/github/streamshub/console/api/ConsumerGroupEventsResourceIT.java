@@ -0,0 +1,161 @@
+package com.github.streamshub.console.api;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.sse.SseEventSource;
+
+import org.eclipse.microprofile.config.Config;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.model.ConsumerGroupEvent;
+import com.github.streamshub.console.api.support.Holder;
+import com.github.streamshub.console.config.ConsoleConfig;
+import com.github.streamshub.console.kafka.systemtest.TestPlainProfile;
+import com.github.streamshub.console.kafka.systemtest.deployment.DeploymentManager;
+import com.github.streamshub.console.kafka.systemtest.utils.ConsumerUtils;
+import com.github.streamshub.console.test.TestHelper;
+import com.github.streamshub.console.test.TopicHelper;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+
+import static com.github.streamshub.console.test.TestHelper.whenRequesting;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@QuarkusTest
+@TestProfile(TestPlainProfile.class)
+class ConsumerGroupEventsResourceIT {
+
+    static final String EVENTS_PATH = "/api/kafkas/{clusterId}/consumerGroupEvents";
+
+    @Inject
+    Config config;
+
+    @Inject
+    KubernetesClient client;
+
+    @Inject
+    ConsoleConfig consoleConfig;
+
+    @Inject
+    Holder<SharedIndexInformer<Kafka>> kafkaInformer;
+
+    @DeploymentManager.InjectDeploymentManager
+    DeploymentManager deployments;
+
+    @TestHTTPResource("/")
+    URI rootUri;
+
+    TestHelper utils;
+    TopicHelper topicUtils;
+    ConsumerUtils groupUtils;
+    String clusterId1;
+    Duration interval;
+    Client sseClient;
+
+    @BeforeEach
+    void setup() throws IOException {
+        URI bootstrapServers = URI.create(deployments.getExternalBootstrapServers());
+
+        topicUtils = new TopicHelper(bootstrapServers, config, null);
+        topicUtils.deleteAllTopics();
+
+        groupUtils = new ConsumerUtils(config, null);
+        groupUtils.deleteConsumerGroups();
+
+        utils = new TestHelper(bootstrapServers, config, null);
+
+        client.resources(Kafka.class).inAnyNamespace().delete();
+        utils.apply(client, utils.buildKafkaResource("test-kafka1", utils.getClusterId(), bootstrapServers));
+
+        // Wait for the informer cache to be populated with all Kafka CRs
+        await().atMost(10, TimeUnit.SECONDS)
+            .until(() -> Objects.equals(kafkaInformer.get().getStore().list().size(), 1));
+
+        clusterId1 = consoleConfig.getKafka().getCluster("default/test-kafka1").get().getId();
+        interval = Duration.ofMillis(config.getOptionalValue("console.kafka.consumer-group-events.interval-ms", Long.class)
+                .orElse(5000L));
+        sseClient = ClientBuilder.newClient();
+    }
+
+    @AfterEach
+    void teardown() {
+        sseClient.close();
+    }
+
+    @Test
+    void testStreamEventsForMemberJoinAndLeave() {
+        String topic1 = "t1-" + UUID.randomUUID().toString();
+        String group1 = "g1-" + UUID.randomUUID().toString();
+        String client1 = "c1-" + UUID.randomUUID().toString();
+        List<JsonObject> events = new CopyOnWriteArrayList<>();
+
+        var target = sseClient.target(rootUri).path(EVENTS_PATH).resolveTemplate("clusterId", clusterId1);
+
+        try (SseEventSource source = SseEventSource.target(target).build()) {
+            source.register(event -> {
+                try (var reader = Json.createReader(new StringReader(event.readData()))) {
+                    events.add(reader.readObject());
+                }
+            });
+            source.open();
+
+            // Allow the first poll following the subscription to establish the baseline
+            await().pollDelay(interval.multipliedBy(2))
+                .atMost(interval.multipliedBy(3))
+                .until(source::isOpen);
+
+            try (var consumer = groupUtils.consume(group1, topic1, client1, 2, false)) {
+                await().atMost(interval.multipliedBy(6))
+                    .until(() -> hasEvent(events, group1, ConsumerGroupEvent.MEMBER_JOINED));
+            }
+
+            await().atMost(interval.multipliedBy(6))
+                .until(() -> hasEvent(events, group1, ConsumerGroupEvent.MEMBER_LEFT));
+        }
+
+        JsonObject joined = events.stream()
+                .filter(event -> ConsumerGroupEvent.MEMBER_JOINED.equals(event.getString("type")))
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals(client1, joined.getJsonObject("member").getString("clientId"));
+    }
+
+    @Test
+    void testStreamEventsWithNoSuchCluster() {
+        whenRequesting(req -> req.get(EVENTS_PATH, UUID.randomUUID().toString()))
+            .assertThat()
+            .statusCode(is(Status.NOT_FOUND.getStatusCode()))
+            .body("errors.status", contains("404"));
+    }
+
+    static boolean hasEvent(List<JsonObject> events, String groupId, String type) {
+        return events.stream()
+                .anyMatch(event -> groupId.equals(event.getString("groupId"))
+                        && type.equals(event.getString("type")));
+    }
+}
@@ -0,0 +1,240 @@
+package com.github.streamshub.console.api;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+import jakarta.json.Json;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response.Status;
+
+import org.eclipse.microprofile.config.Config;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.support.Holder;
+import com.github.streamshub.console.config.ConsoleConfig;
+import com.github.streamshub.console.kafka.systemtest.TestPlainProfile;
+import com.github.streamshub.console.kafka.systemtest.deployment.DeploymentManager;
+import com.github.streamshub.console.kafka.systemtest.utils.ConsumerUtils;
+import com.github.streamshub.console.test.TestHelper;
+import com.github.streamshub.console.test.TopicHelper;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.quarkus.test.common.http.TestHTTPEndpoint;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+
+import static com.github.streamshub.console.test.TestHelper.whenRequesting;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@QuarkusTest
+@TestHTTPEndpoint(ConsumerGroupOffsetResetsResource.class)
+@TestProfile(TestPlainProfile.class)
+class ConsumerGroupOffsetResetsResourceIT {
+
+    static final int PARTITION_COUNT = 2;
+
+    @Inject
+    Config config;
+
+    @Inject
+    KubernetesClient client;
+
+    @Inject
+    ConsoleConfig consoleConfig;
+
+    @Inject
+    Holder<SharedIndexInformer<Kafka>> kafkaInformer;
+
+    @DeploymentManager.InjectDeploymentManager
+    DeploymentManager deployments;
+
+    TestHelper utils;
+    TopicHelper topicUtils;
+    ConsumerUtils groupUtils;
+    String clusterId1;
+
+    @BeforeEach
+    void setup() throws IOException {
+        URI bootstrapServers = URI.create(deployments.getExternalBootstrapServers());
+
+        topicUtils = new TopicHelper(bootstrapServers, config, null);
+        topicUtils.deleteAllTopics();
+
+        groupUtils = new ConsumerUtils(config, null);
+        groupUtils.deleteConsumerGroups();
+
+        utils = new TestHelper(bootstrapServers, config, null);
+
+        client.resources(Kafka.class).inAnyNamespace().delete();
+        utils.apply(client, utils.buildKafkaResource("test-kafka1", utils.getClusterId(), bootstrapServers));
+
+        // Wait for the informer cache to be populated with all Kafka CRs
+        await().atMost(10, TimeUnit.SECONDS)
+            .until(() -> Objects.equals(kafkaInformer.get().getStore().list().size(), 1));
+
+        clusterId1 = consoleConfig.getKafka().getCluster("default/test-kafka1").get().getId();
+    }
+
+    @Test
+    void testResetOffsetsToEarliest() {
+        String topic1 = "t1-" + UUID.randomUUID().toString();
+        String topic2 = "t2-" + UUID.randomUUID().toString();
+        String group1 = "g1-" + UUID.randomUUID().toString();
+        String group2 = "g2-" + UUID.randomUUID().toString();
+        consumeHalf(topic1, group1);
+        consumeHalf(topic2, group2);
+
+        whenRequesting(req -> req
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
+                .body(resetRequest(null, attributes(group1, group2).add("offset", "earliest")))
+                .post("", clusterId1))
+            .assertThat()
+            .statusCode(is(Status.OK.getStatusCode()))
+            .body("data.type", is("consumerGroupOffsetResets"))
+            .body("data.attributes.groups.size()", is(2))
+            .body("data.attributes.groups.error", everyItem(nullValue()))
+            .body("data.attributes.groups.find { it.groupId == '%s' }.partitions.topicName".formatted(group1), everyItem(is(topic1)))
+            .body("data.attributes.groups.find { it.groupId == '%s' }.partitions.topicName".formatted(group2), everyItem(is(topic2)))
+            .body("data.attributes.groups.partitions.flatten().size()", is(PARTITION_COUNT * 2))
+            .body("data.attributes.groups.partitions.flatten().currentOffset", everyItem(is(5)))
+            .body("data.attributes.groups.partitions.flatten().targetOffset", everyItem(is(0)))
+            .body("data.attributes.groups.partitions.flatten().delta", everyItem(is(-5)));
+
+        for (String groupId : List.of(group1, group2)) {
+            var offsetAfter = groupUtils.consumerGroupOffsets(groupId);
+            assertEquals(PARTITION_COUNT, offsetAfter.size());
+            offsetAfter.forEach((partition, offset) -> assertEquals(0, offset.offset()));
+        }
+    }
+
+    @Test
+    void testResetOffsetsDryRunByDelta() {
+        String topic1 = "t1-" + UUID.randomUUID().toString();
+        String group1 = "g1-" + UUID.randomUUID().toString();
+        consumeHalf(topic1, group1);
+
+        whenRequesting(req -> req
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
+                .body(resetRequest(true, attributes(group1).add("delta", -2)))
+                .post("", clusterId1))
+            .assertThat()
+            .statusCode(is(Status.OK.getStatusCode()))
+            .body("data.attributes.groups.size()", is(1))
+            .body("data.attributes.groups[0].groupId", is(group1))
+            .body("data.attributes.groups[0].partitions.size()", is(PARTITION_COUNT))
+            .body("data.attributes.groups[0].partitions.currentOffset", everyItem(is(5)))
+            .body("data.attributes.groups[0].partitions.targetOffset", everyItem(is(3)))
+            .body("data.attributes.groups[0].partitions.delta", everyItem(is(-2)));
+
+        var offsetAfter = groupUtils.consumerGroupOffsets(group1);
+        assertEquals(PARTITION_COUNT, offsetAfter.size());
+        offsetAfter.forEach((partition, offset) -> assertEquals(5, offset.offset()));
+    }
+
+    @Test
+    void testResetOffsetsWithActiveGroup() {
+        String topic1 = "t1-" + UUID.randomUUID().toString();
+        String group1 = "g1-" + UUID.randomUUID().toString();
+        String client1 = "c1-" + UUID.randomUUID().toString();
+        topicUtils.createTopics(clusterId1, List.of(topic1), PARTITION_COUNT);
+
+        var consumer = groupUtils.request()
+                .groupId(group1)
+                .topic(topic1, PARTITION_COUNT)
+                .createTopic(false)
+                .clientId(client1)
+                .messagesPerTopic(10)
+                .consumeMessages(10)
+                .autoClose(false)
+                .consume();
+
+        try (consumer) {
+            var offsetBefore = groupUtils.consumerGroupOffsets(group1);
+
+            whenRequesting(req -> req
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
+                    .body(resetRequest(null, attributes(group1).add("offset", "earliest")))
+                    .post("", clusterId1))
+                .assertThat()
+                .statusCode(is(Status.OK.getStatusCode()))
+                .body("data.attributes.groups.size()", is(1))
+                .body("data.attributes.groups[0].groupId", is(group1))
+                .body("data.attributes.groups[0].error.title", is("Unable to reset consumer group offsets"))
+                .body("data.attributes.groups[0].error.detail", is(notNullValue()));
+
+            assertEquals(offsetBefore, groupUtils.consumerGroupOffsets(group1));
+        }
+    }
+
+    @Test
+    void testResetOffsetsWithNoSuchGroup() {
+        String noSuchGroupId = UUID.randomUUID().toString();
+
+        whenRequesting(req -> req
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
+                .body(resetRequest(null, attributes(noSuchGroupId).add("offset", "latest")))
+                .post("", clusterId1))
+            .assertThat()
+            .statusCode(is(Status.OK.getStatusCode()))
+            .body("data.attributes.groups.size()", is(1))
+            .body("data.attributes.groups[0].groupId", is(noSuchGroupId))
+            .body("data.attributes.groups[0].partitions", is(nullValue()))
+            .body("data.attributes.groups[0].error.title", is("Unable to describe consumer group"));
+    }
+
+    /**
+     * Produce 10 records to each partition of a new topic and consume half of
+     * them with the given group, leaving a committed offset of 5 in each
+     * partition and no active members.
+     */
+    void consumeHalf(String topic, String groupId) {
+        topicUtils.createTopics(clusterId1, List.of(topic), PARTITION_COUNT);
+
+        groupUtils.request()
+                .groupId(groupId)
+                .topic(topic, PARTITION_COUNT)
+                .createTopic(false)
+                .clientId("c-" + UUID.randomUUID().toString())
+                .messagesPerTopic(10)
+                .consumeMessages(10)
+                .autoClose(true)
+                .consume();
+    }
+
+    static JsonObjectBuilder attributes(String... groupIds) {
+        var groups = Json.createArrayBuilder();
+        for (String groupId : groupIds) {
+            groups.add(groupId);
+        }
+        return Json.createObjectBuilder().add("groupIds", groups);
+    }
+
+    static String resetRequest(Boolean dryRun, JsonObjectBuilder attributes) {
+        var request = Json.createObjectBuilder();
+
+        if (dryRun != null) {
+            request.add("meta", Json.createObjectBuilder().add("dryRun", dryRun));
+        }
+
+        return request.add("data", Json.createObjectBuilder()
+                        .add("type", "consumerGroupOffsetResets")
+                        .add("attributes", attributes))
+                .build()
+                .toString();
+    }
+}
@@ -384,6 +384,89 @@ class ConsumerGroupsResourceIT {
         assertEquals(response1, response4);
     }
 
+    @Test
+    void testListConsumerGroupsSortedAndFilteredBySummary() {
+        String topicA = "t-a-" + UUID.randomUUID().toString();
+        String groupA = "grp-a-" + UUID.randomUUID().toString();
+        String topicB = "t-b-" + UUID.randomUUID().toString();
+        String groupB = "grp-b-" + UUID.randomUUID().toString();
+        String topicC = "t-c-" + UUID.randomUUID().toString();
+        String groupC = "grp-c-" + UUID.randomUUID().toString();
+
+        // Empty groups with a lag of 3 and 8 messages in a single partition
+        for (var group : List.of(Map.entry(groupA, topicA), Map.entry(groupB, topicB))) {
+            groupUtils.request()
+                .groupId(group.getKey())
+                .topic(group.getValue(), 1)
+                .clientId("c-" + UUID.randomUUID().toString())
+                .messagesPerTopic(10)
+                .consumeMessages(10)
+                .autoClose(true)
+                .consume();
+        }
+
+        groupUtils.alterConsumerGroupOffsets(groupA, Map.of(new TopicPartition(topicA, 0), new OffsetAndMetadata(7)));
+        groupUtils.alterConsumerGroupOffsets(groupB, Map.of(new TopicPartition(topicB, 0), new OffsetAndMetadata(2)));
+
+        // Stable group with a single member and no lag
+        try (var consumerC = groupUtils.consume(groupC, topicC, "c-" + UUID.randomUUID().toString(), 1, false)) {
+            whenRequesting(req -> req
+                    .param("sort", "-totalLag")
+                    .param("fields[consumerGroups]", "totalLag,maxPartitionLag,memberCount")
+                    .get("", clusterId1))
+                .assertThat()
+                .statusCode(is(Status.OK.getStatusCode()))
+                .body("data.id", contains(groupB, groupA, groupC))
+                .body("data.attributes.totalLag", contains(8, 3, 0))
+                .body("data.attributes.maxPartitionLag", contains(8, 3, 0))
+                .body("data.attributes.memberCount", contains(0, 0, 1));
+
+            whenRequesting(req -> req
+                    .param("sort", "maxPartitionLag")
+                    .param("fields[consumerGroups]", "maxPartitionLag")
+                    .get("", clusterId1))
+                .assertThat()
+                .statusCode(is(Status.OK.getStatusCode()))
+                .body("data.id", contains(groupC, groupA, groupB));
+
+            whenRequesting(req -> req
+                    .param("sort", "-memberCount")
+                    .param("fields[consumerGroups]", "memberCount")
+                    .get("", clusterId1))
+                .assertThat()
+                .statusCode(is(Status.OK.getStatusCode()))
+                .body("data[0].id", is(groupC))
+                .body("data[0].attributes.memberCount", is(1));
+
+            whenRequesting(req -> req
+                    .param("filter[topic]", "eq," + topicB)
+                    .get("", clusterId1))
+                .assertThat()
+                .statusCode(is(Status.OK.getStatusCode()))
+                .body("data.id", contains(groupB));
+
+            whenRequesting(req -> req
+                    .param("filter[totalLag]", "gt,2")
+                    .param("fields[consumerGroups]", "totalLag")
+                    .get("", clusterId1))
+                .assertThat()
+                .statusCode(is(Status.OK.getStatusCode()))
+                .body("data.id", contains(groupA, groupB))
+                .body("data.attributes.totalLag", contains(3, 8));
+
+            // Without the lag monitor, time lag is calculated for the request
+            whenRequesting(req -> req
+                    .param("sort", "timeLag")
+                    .param("fields[consumerGroups]", "timeLag")
+                    .get("", clusterId1))
+                .assertThat()
+                .statusCode(is(Status.OK.getStatusCode()))
+                .body("data.size()", is(3))
+                .body("data[0].id", is(groupC))
+                .body("data[0].attributes.timeLag", is(0));
+        }
+    }
+
     @Test
     void testListConsumerGroupsWithDescribeError() {
         Answer<DescribeConsumerGroupsResult> describeConsumerGroupsFailed = args -> {
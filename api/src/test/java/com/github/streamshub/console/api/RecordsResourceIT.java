@@ -10,7 +10,11 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
@@ -29,6 +33,7 @@ import org.awaitility.core.TimeoutEvent;
 import org.eclipse.microprofile.config.Config;
 import org.jboss.logging.Logger;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -49,6 +54,7 @@ import io.quarkus.test.junit.TestProfile;
 import io.strimzi.api.kafka.model.kafka.Kafka;
 
 import static com.github.streamshub.console.test.TestHelper.whenRequesting;
+import static io.restassured.RestAssured.given;
 import static org.awaitility.Awaitility.await;
 import static org.hamcrest.Matchers.aMapWithSize;
 import static org.hamcrest.Matchers.allOf;
@@ -59,6 +65,8 @@ import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @QuarkusTest
 @TestHTTPEndpoint(RecordsResource.class)
@@ -582,4 +590,56 @@ class RecordsResourceIT {
             .body("errors[0].code", is("4003"))
             .body("errors[0].source.pointer", is("/data/attributes/partition"));
     }
+
+    @Test
+    @Tag("load")
+    void testConcurrentConsumeRequests() throws Exception {
+        final String topicName = UUID.randomUUID().toString();
+        var topicIds = topicUtils.createTopics(clusterId1, List.of(topicName), 1);
+
+        Stream.of("first", "second", "third", "fourth")
+            .forEach(msg -> recordUtils.produceRecord(topicName, null, null, null, msg));
+
+        await().atMost(5, TimeUnit.SECONDS)
+            .until(() -> topicUtils.getTopicSize(topicName) == 4);
+
+        final int requestCount = 500;
+        ExecutorService clients = Executors.newFixedThreadPool(requestCount);
+        List<Future<io.restassured.response.Response>> responses = new ArrayList<>();
+        long start = System.nanoTime();
+
+        try {
+            for (int i = 0; i < requestCount; i++) {
+                responses.add(clients.submit(() -> given().get("", clusterId1, topicIds.get(topicName))));
+            }
+
+            Map<Integer, Integer> statusCounts = new HashMap<>();
+
+            for (var pending : responses) {
+                var response = pending.get(2, TimeUnit.MINUTES);
+                statusCounts.merge(response.statusCode(), 1, Integer::sum);
+
+                if (response.statusCode() == Status.SERVICE_UNAVAILABLE.getStatusCode()) {
+                    assertEquals("1", response.header(HttpHeaders.RETRY_AFTER));
+                }
+            }
+
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Logger.getLogger(getClass()).infof("%d concurrent consume requests completed in %d ms: %s",
+                    requestCount, elapsedMs, statusCounts);
+
+            // Requests beyond the executor's capacity are rejected rather than queued indefinitely
+            assertTrue(statusCounts.containsKey(Status.OK.getStatusCode()));
+            assertTrue(Set.of(Status.OK.getStatusCode(), Status.SERVICE_UNAVAILABLE.getStatusCode())
+                    .containsAll(statusCounts.keySet()), () -> "Unexpected response status: " + statusCounts);
+        } finally {
+            clients.shutdownNow();
+        }
+
+        // Capacity is available again once the burst has been handled
+        whenRequesting(req -> req.get("", clusterId1, topicIds.get(topicName)))
+            .assertThat()
+            .statusCode(is(Status.OK.getStatusCode()))
+            .body("data", hasSize(4));
+    }
 }
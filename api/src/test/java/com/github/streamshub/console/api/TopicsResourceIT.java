@@ -664,6 +664,32 @@ class TopicsResourceIT {
             .body("data.attributes.visibility", everyItem(is(expectedVisibility)));
     }
 
+    @Test
+    void testListTopicsWithSubstringNameFilterPagedByName() {
+        String marker = UUID.randomUUID().toString().substring(0, 8);
+        List<String> matching = IntStream.range(0, 12)
+                .mapToObj(i -> "%02d-orders-%s".formatted(i, marker))
+                .toList();
+        List<String> others = IntStream.range(0, 4)
+                .mapToObj(i -> "%02d-payments-%s".formatted(i, marker))
+                .toList();
+
+        topicUtils.createTopics(clusterId1, Stream.concat(matching.stream(), others.stream()).toList(), 1);
+
+        whenRequesting(req -> req
+                .queryParam("filter[name]", "like,*orders-" + marker)
+                .queryParam("fields[topics]", "name,configs")
+                .queryParam("sort", "name")
+                .queryParam("page[size]", 5)
+                .get("", clusterId1))
+            .assertThat()
+            .statusCode(is(Status.OK.getStatusCode()))
+            .body("meta.page.total", is(matching.size()))
+            .body("data.size()", is(5))
+            .body("data.attributes.name", contains(matching.subList(0, 5).toArray(String[]::new)))
+            .body("data.attributes.configs", everyItem(notNullValue()));
+    }
+
     @Test
     void testListTopicsWithIdFilter() {
         List<String> topicNames = IntStream.range(0, 6)
@@ -0,0 +1,95 @@
+package com.github.streamshub.console.api.model;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.Uuid;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopicTest {
+
+    static final int PARTITION_COUNT = 10_000;
+    static final List<Node> NODES = IntStream.range(0, 6)
+            .mapToObj(id -> new Node(id, "broker-" + id, 9092))
+            .toList();
+
+    static Topic syntheticTopic(int partitionCount) {
+        var partitions = IntStream.range(0, partitionCount)
+                .mapToObj(p -> {
+                    List<Node> replicas = List.of(
+                            NODES.get(p % NODES.size()),
+                            NODES.get((p + 1) % NODES.size()),
+                            NODES.get((p + 2) % NODES.size()));
+                    return new TopicPartitionInfo(p, replicas.get(0), replicas, replicas);
+                })
+                .toList();
+
+        return Topic.fromTopicDescription(new TopicDescription("t1", false, partitions, null, Uuid.randomUuid()));
+    }
+
+    @Test
+    void testPartitionLookup() {
+        Topic topic = syntheticTopic(3);
+
+        assertEquals(2, topic.partition(2).map(PartitionInfo::getPartition).orElseThrow());
+        assertTrue(topic.partition(3).isEmpty());
+        assertTrue(topic.partition(-1).isEmpty());
+        assertTrue(new Topic("t2", false, Uuid.randomUuid().toString()).partition(0).isEmpty());
+    }
+
+    @Test
+    void testReplicaLookup() {
+        PartitionInfo partition = syntheticTopic(1).partition(0).orElseThrow();
+
+        assertEquals(1, partition.getReplica(1).map(PartitionReplica::nodeId).orElseThrow());
+        assertTrue(partition.getReplica(5).isEmpty());
+        assertTrue(partition.getReplica(null).isEmpty());
+    }
+
+    /**
+     * Locate every partition of a synthetic 10k-partition topic (as done when
+     * attaching offsets and log sizes) and verify that the partition list is
+     * read only while building the index, not by the lookups.
+     */
+    @Test
+    void testIndexedPartitionLookupLargeTopic() {
+        List<PartitionInfo> partitions = syntheticTopic(PARTITION_COUNT).partitions().getPrimary();
+        AtomicInteger reads = new AtomicInteger();
+        List<PartitionInfo> countingPartitions = new AbstractList<>() {
+            @Override
+            public PartitionInfo get(int index) {
+                reads.incrementAndGet();
+                return partitions.get(index);
+            }
+
+            @Override
+            public int size() {
+                return partitions.size();
+            }
+        };
+
+        Topic topic = new Topic("t1", false, Uuid.randomUuid().toString());
+        topic.attributes.setPartitions(Either.of(countingPartitions));
+
+        // Index built in a bounded number of passes over the list
+        assertTrue(reads.get() <= 2 * PARTITION_COUNT);
+        reads.set(0);
+
+        for (int p = 0; p < PARTITION_COUNT; p++) {
+            PartitionInfo found = topic.partition(p).orElseThrow();
+            assertSame(partitions.get(p), found);
+            assertEquals(found.getLeaderId(), found.getReplica(found.getLeaderId()).orElseThrow().nodeId());
+        }
+
+        assertEquals(0, reads.get());
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.streamshub.console.api.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.config.ConfigResource;
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.support.KafkaContext;
+import com.github.streamshub.console.api.support.TopicConfigCache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConfigServiceTest {
+
+    @Test
+    void testDescribeTopicConfigsCachedForSharedAdmin() {
+        Admin admin = mockDescribe("t1");
+        ConfigService service = service(true);
+
+        service.describeTopicConfigs(admin, List.of("t1")).toCompletableFuture().join();
+        var configs = service.describeTopicConfigs(admin, List.of("t1")).toCompletableFuture().join();
+
+        assertEquals("delete", configs.get("t1").getPrimary().get("cleanup.policy").getValue());
+        assertEquals(1, service.kafkaContext.topicConfigs().size());
+        verify(admin, times(1)).describeConfigs(anyCollection());
+    }
+
+    @Test
+    void testDescribeTopicConfigsNotCachedWithoutSharedAdmin() {
+        Admin admin = mockDescribe("t1");
+        ConfigService service = service(false);
+
+        service.describeTopicConfigs(admin, List.of("t1")).toCompletableFuture().join();
+        var configs = service.describeTopicConfigs(admin, List.of("t1")).toCompletableFuture().join();
+
+        assertEquals("delete", configs.get("t1").getPrimary().get("cleanup.policy").getValue());
+        assertEquals(0, service.kafkaContext.topicConfigs().size());
+        verify(admin, times(2)).describeConfigs(anyCollection());
+    }
+
+    static ConfigService service(boolean sharedAdmin) {
+        ConfigService service = new ConfigService();
+        service.kafkaContext = mock(KafkaContext.class);
+        service.topicConfigMaxAgeMs = 300_000;
+        service.topicConfigRefreshAfterMs = 30_000;
+
+        TopicConfigCache cache = new TopicConfigCache();
+        when(service.kafkaContext.topicConfigs()).thenReturn(cache);
+        when(service.kafkaContext.sharedAdmin()).thenReturn(sharedAdmin);
+
+        return service;
+    }
+
+    static Admin mockDescribe(String topicName) {
+        Admin admin = mock(Admin.class);
+        DescribeConfigsResult result = mock(DescribeConfigsResult.class);
+        Config config = new Config(List.of(new ConfigEntry("cleanup.policy", "delete")));
+
+        when(admin.describeConfigs(anyCollection())).thenReturn(result);
+        when(result.values()).thenReturn(Map.of(
+                new ConfigResource(ConfigResource.Type.TOPIC, topicName),
+                KafkaFuture.completedFuture(config)));
+
+        return admin;
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.streamshub.console.api.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.DescribeConsumerGroupsResult;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.errors.CoordinatorNotAvailableException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.model.ConsumerGroupEvent;
+import com.github.streamshub.console.api.support.AdminScheduler;
+import com.github.streamshub.console.api.support.ConsumerGroupRebalanceTracker;
+import com.github.streamshub.console.api.support.KafkaContext;
+
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConsumerGroupRebalanceMonitorTest {
+
+    ConsumerGroupRebalanceMonitor monitor;
+
+    @BeforeEach
+    void setup() {
+        monitor = new ConsumerGroupRebalanceMonitor();
+        monitor.logger = Logger.getLogger(ConsumerGroupRebalanceMonitor.class);
+    }
+
+    @Test
+    void testDescribeGroupsToleratesFailedGroup() {
+        Node node = new Node(0, "localhost", 9092);
+        ConsumerGroupDescription g1 = new ConsumerGroupDescription("g1", false, List.of(), "range",
+                ConsumerGroupState.STABLE, node);
+        KafkaFutureImpl<ConsumerGroupDescription> g2 = new KafkaFutureImpl<>();
+        g2.completeExceptionally(new CoordinatorNotAvailableException("Coordinator not available"));
+
+        Admin adminClient = mock(Admin.class);
+        when(adminClient.describeConsumerGroups(anyCollection())).thenReturn(new DescribeConsumerGroupsResult(Map.of(
+                "g1", KafkaFuture.completedFuture(g1),
+                "g2", g2)));
+
+        var described = monitor.describeGroups(adminClient, List.of("g1", "g2"))
+                .toCompletableFuture()
+                .join();
+
+        assertEquals(Map.of("g1", g1), described.groups());
+        assertEquals(Set.of("g2"), described.failed());
+    }
+
+    @Test
+    void testPollToleratesAdminFailure() {
+        ConsumerGroupRebalanceTracker tracker = new ConsumerGroupRebalanceTracker();
+        tracker.subscribe(event -> { });
+        KafkaContext kafkaContext = mock(KafkaContext.class);
+        when(kafkaContext.sharedAdmin()).thenReturn(true);
+        when(kafkaContext.consumerGroupRebalances()).thenReturn(tracker);
+
+        monitor.kafkaContexts = Map.of("c1", kafkaContext);
+        monitor.adminScheduler = mock(AdminScheduler.class);
+        when(monitor.adminScheduler.submit(any(), any(), any(), any()))
+            .thenThrow(new IllegalStateException("KafkaContext is closed"))
+            .thenReturn(CompletableFuture.completedStage(null));
+
+        monitor.poll();
+        assertTrue(monitor.polling.isEmpty());
+
+        // Polled again once the failure has been logged
+        monitor.poll();
+        verify(monitor.adminScheduler, times(2)).submit(any(), any(), any(), any());
+    }
+
+    @Test
+    void testEventsDroppedWithoutDemand() {
+        ConsumerGroupRebalanceTracker tracker = new ConsumerGroupRebalanceTracker();
+        KafkaContext kafkaContext = mock(KafkaContext.class);
+        when(kafkaContext.sharedAdmin()).thenReturn(true);
+        when(kafkaContext.consumerGroupRebalances()).thenReturn(tracker);
+
+        AssertSubscriber<ConsumerGroupEvent> subscriber = monitor.events(kafkaContext)
+                .subscribe()
+                .withSubscriber(AssertSubscriber.create(1));
+
+        assertTrue(tracker.hasSubscribers());
+
+        for (String groupId : List.of("g1", "g2", "g3")) {
+            tracker.publish(new ConsumerGroupEvent(ConsumerGroupEvent.STATE_CHANGED, null, groupId, null, "STABLE", null, null));
+        }
+
+        // Only the event with outstanding demand is delivered
+        assertEquals(List.of("g1"), subscriber.getItems().stream().map(ConsumerGroupEvent::groupId).toList());
+
+        subscriber.request(1);
+        tracker.publish(new ConsumerGroupEvent(ConsumerGroupEvent.STATE_CHANGED, null, "g4", null, "STABLE", null, null));
+        assertEquals(List.of("g1", "g4"), subscriber.getItems().stream().map(ConsumerGroupEvent::groupId).toList());
+
+        subscriber.cancel();
+        assertFalse(tracker.hasSubscribers());
+    }
+}
@@ -0,0 +1,369 @@
+package com.github.streamshub.console.api.service;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.DescribeConsumerGroupsResult;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsResult;
+import org.apache.kafka.clients.admin.ListConsumerGroupsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.Uuid;
+import org.apache.kafka.common.errors.GroupIdNotFoundException;
+import org.apache.kafka.common.errors.GroupNotEmptyException;
+import org.apache.kafka.common.errors.LeaderNotAvailableException;
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.model.ConsumerGroup;
+import com.github.streamshub.console.api.model.Either;
+import com.github.streamshub.console.api.model.OffsetReset;
+import com.github.streamshub.console.api.model.OffsetReset.PartitionOffsetReset;
+import com.github.streamshub.console.api.service.ConsumerGroupService.Stage;
+import com.github.streamshub.console.api.support.ConsumerGroupLag;
+import com.github.streamshub.console.api.support.ConsumerGroupLag.PartitionLag;
+import com.github.streamshub.console.api.support.ConsumerGroupMembershipIndex;
+import com.github.streamshub.console.api.support.KafkaContext;
+import com.github.streamshub.console.api.support.OffsetTimestampIndex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConsumerGroupServiceTest {
+
+    @Test
+    void testStagesForIncludes() {
+        assertEquals(EnumSet.noneOf(Stage.class), Stage.forIncludes(List.of(ConsumerGroup.Fields.STATE)));
+        assertEquals(EnumSet.of(Stage.DESCRIBE), Stage.forIncludes(List.of(ConsumerGroup.Fields.MEMBERS)));
+        assertEquals(EnumSet.allOf(Stage.class), Stage.forIncludes(List.of(ConsumerGroup.Fields.OFFSETS)));
+    }
+
+    @Test
+    void testCommittedOffsetsWithoutEndOffsets() {
+        Admin admin = mock(Admin.class);
+        ListConsumerGroupOffsetsResult offsetsResult = mock(ListConsumerGroupOffsetsResult.class);
+        TopicPartition partition = new TopicPartition("t1", 0);
+
+        when(admin.listConsumerGroupOffsets(anyMap())).thenReturn(offsetsResult);
+        when(offsetsResult.partitionsToOffsetAndMetadata("g1"))
+            .thenReturn(KafkaFuture.completedFuture(Map.of(partition, new OffsetAndMetadata(5))));
+
+        ConsumerGroup group = new ConsumerGroup("g1", false, "STABLE");
+
+        new ConsumerGroupService()
+            .fetchOffsets(admin, Map.of("g1", group), Map.of("t1", "t1-id"), EnumSet.of(Stage.DESCRIBE, Stage.COMMITTED_OFFSETS))
+            .join();
+
+        verify(admin, never()).listOffsets(anyMap());
+        verify(admin, never()).listOffsets(anyMap(), any());
+
+        var offset = group.getOffsets().get(0);
+        assertEquals("t1-id", offset.topicId());
+        assertEquals(5L, offset.offset().getPrimary());
+        assertNull(offset.logEndOffset());
+        assertNull(offset.lag());
+    }
+
+    @Test
+    void testSetSummary() {
+        TopicPartition t1p0 = new TopicPartition("t1", 0);
+        TopicPartition t1p1 = new TopicPartition("t1", 1);
+        var snapshot = new ConsumerGroupLag.Snapshot(1000,
+                Map.of("g1", Map.of(t1p0, new PartitionLag(5, 10), t1p1, new PartitionLag(2, 10))),
+                Map.of(t1p0, 10L, t1p1, 10L));
+        var index = new ConsumerGroupMembershipIndex();
+        index.update("g1", "STABLE", Set.of("t2-id"), 3, 0, 0);
+
+        ConsumerGroup stable = new ConsumerGroup("g1", false, "STABLE");
+        ConsumerGroup empty = new ConsumerGroup("g2", false, "EMPTY");
+
+        ConsumerGroupService.setSummary(stable, snapshot, index, Map.of("t2-id", "t2")::get);
+        ConsumerGroupService.setSummary(empty, snapshot, index, topicId -> null);
+
+        assertEquals(13L, stable.getTotalLag());
+        assertEquals(8L, stable.getMaxPartitionLag());
+        assertEquals(3, stable.getMemberCount());
+        assertEquals(Set.of("t1", "t2"), stable.getTopicNames());
+
+        assertNull(empty.getTotalLag());
+        assertEquals(0, empty.getMemberCount());
+        assertEquals(Set.of(), empty.getTopicNames());
+    }
+
+    @Test
+    void testListSnapshotUsesRecentSnapshot() {
+        var snapshot = new ConsumerGroupLag.Snapshot(System.currentTimeMillis(), Map.of(), Map.of());
+        ConsumerGroupService service = serviceWithLag(snapshot, true);
+
+        assertSame(snapshot, service.listSnapshot(List.of()).toCompletableFuture().join());
+        verify(service.lagMonitor, never()).refreshLag(any());
+        verify(service.lagMonitor, never()).calculateLag(any(KafkaContext.class), anyCollection());
+    }
+
+    @Test
+    void testListSnapshotRefreshesStaleSharedSnapshot() {
+        var stale = new ConsumerGroupLag.Snapshot(1000, Map.of(), Map.of());
+        var refreshed = new ConsumerGroupLag.Snapshot(System.currentTimeMillis(), Map.of(), Map.of());
+        ConsumerGroupService service = serviceWithLag(stale, true);
+        when(service.lagMonitor.refreshLag(service.kafkaContext)).thenReturn(CompletableFuture.completedStage(refreshed));
+
+        assertSame(refreshed, service.listSnapshot(List.of()).toCompletableFuture().join());
+        verify(service.lagMonitor, never()).calculateLag(any(KafkaContext.class), anyCollection());
+    }
+
+    @Test
+    void testListSnapshotCalculatesListedGroupsWithoutSharedAdmin() {
+        var calculated = new ConsumerGroupLag.Snapshot(System.currentTimeMillis(), Map.of(), Map.of());
+        ConsumerGroupService service = serviceWithLag(null, false);
+        when(service.lagMonitor.calculateLag(service.kafkaContext, List.of("g1", "g2")))
+            .thenReturn(CompletableFuture.completedStage(calculated));
+
+        var groups = List.of(new ConsumerGroup("g1", false, "STABLE"), new ConsumerGroup("g2", false, "EMPTY"));
+
+        assertSame(calculated, service.listSnapshot(groups).toCompletableFuture().join());
+        verify(service.lagMonitor, never()).refreshLag(any());
+    }
+
+    @Test
+    void testSetTimeLagFromSnapshot() {
+        TopicPartition t1p0 = new TopicPartition("t1", 0);
+        var snapshot = new ConsumerGroupLag.Snapshot(System.currentTimeMillis(),
+                Map.of("g1", Map.of(t1p0, new PartitionLag(10, 10))),
+                Map.of(t1p0, 10L));
+        ConsumerGroupService service = serviceWithLag(null, false);
+        when(service.kafkaContext.offsetTimestamps()).thenReturn(new OffsetTimestampIndex());
+
+        ConsumerGroup caughtUp = new ConsumerGroup("g1", false, "STABLE");
+        ConsumerGroup unknown = new ConsumerGroup("g2", false, "EMPTY");
+        service.setTimeLag(List.of(caughtUp, unknown), snapshot);
+
+        assertEquals(0L, caughtUp.getTimeLag());
+        assertNull(unknown.getTimeLag());
+    }
+
+    @Test
+    void testMembershipIndexPerRequestWithoutSharedAdmin() {
+        Admin admin = mock(Admin.class);
+        ListConsumerGroupsResult listResult = mock(ListConsumerGroupsResult.class);
+        when(admin.listConsumerGroups(any())).thenReturn(listResult);
+        when(listResult.valid()).thenReturn(KafkaFuture.completedFuture(List.of()));
+
+        ConsumerGroupService service = serviceWithLag(null, false);
+        when(service.kafkaContext.admin()).thenReturn(admin);
+
+        var index = service.membershipIndex().toCompletableFuture().join();
+
+        assertEquals(Map.of(), index.groupsByTopic(List.of("t1-id")));
+        verify(service.kafkaContext, never()).consumerGroupMembership();
+    }
+
+    @Test
+    void testDescribeMembershipSkipsInactiveGroups() {
+        Admin admin = mock(Admin.class);
+        ConsumerGroupService service = serviceWithLag(null, false);
+
+        var index = service.describeMembership(admin, List.of(new ConsumerGroup("g1", false, "EMPTY")))
+                .toCompletableFuture()
+                .join();
+
+        assertNull(index.memberCount("g1"));
+        verify(admin, never()).describeConsumerGroups(anyCollection());
+        verify(admin, never()).describeConsumerGroups(anyCollection(), any());
+    }
+
+    @Test
+    void testAssertConsumerGroupExistsDescribesOnlyTheGroup() {
+        Admin admin = mockDescribe("g1", ConsumerGroupState.STABLE);
+
+        new ConsumerGroupService().assertConsumerGroupExists(admin, "g1").toCompletableFuture().join();
+
+        verify(admin).describeConsumerGroups(List.of("g1"));
+        verify(admin, never()).listConsumerGroups();
+        verify(admin, never()).listConsumerGroups(any());
+    }
+
+    @Test
+    void testAssertConsumerGroupExistsDeadGroupNotFound() {
+        Admin admin = mockDescribe("g1", ConsumerGroupState.DEAD);
+
+        var result = new ConsumerGroupService().assertConsumerGroupExists(admin, "g1").toCompletableFuture();
+        var thrown = assertThrows(CompletionException.class, result::join);
+
+        assertInstanceOf(GroupIdNotFoundException.class, thrown.getCause());
+    }
+
+    @Test
+    void testPlanOffsetResetsByDelta() {
+        TopicPartition p0 = new TopicPartition("t1", 0);
+        TopicPartition p1 = new TopicPartition("t1", 1);
+        TopicDescription topic = topicDescription("t1", 2);
+
+        var target = ConsumerGroupService.ResetTarget.of(new OffsetReset(List.of("g1"), null, null, -50L, null));
+        var listed = new ConsumerGroupService.ListedOffsets(target.specs());
+        OffsetSpec earliest = target.specs().get(0);
+        OffsetSpec latest = target.specs().get(1);
+
+        for (TopicPartition partition : List.of(p0, p1)) {
+            listed.accept(partition, earliest, new ListOffsetsResultInfo(10, -1, Optional.empty()), null);
+            listed.accept(partition, latest, new ListOffsetsResultInfo(200, -1, Optional.empty()), null);
+        }
+
+        Map<String, Either<ConsumerGroupState, Throwable>> states = Map.of(
+                "g1", Either.of(ConsumerGroupState.EMPTY),
+                "g2", Either.of(ConsumerGroupState.STABLE),
+                "g3", Either.of(ConsumerGroupState.DEAD));
+        Map<String, Either<Map<TopicPartition, OffsetAndMetadata>, Throwable>> committed = Map.of(
+                "g1", Either.of(Map.of(p0, new OffsetAndMetadata(40), p1, new OffsetAndMetadata(100))),
+                "g2", Either.of(Map.of(p1, new OffsetAndMetadata(100))),
+                "g3", Either.of(Map.of()));
+
+        var plan = ConsumerGroupService.planOffsetResets(List.of("g1", "g2", "g3"), false,
+                states, committed, Map.of("t1", topic), target, listed);
+
+        var g1 = plan.get(0);
+        assertNull(g1.error());
+        // Limited to the earliest offset
+        assertEquals(new PartitionOffsetReset(topic.topicId().toString(), "t1", 0, 40L, 10, -30L), g1.partitions().get(0));
+        assertEquals(new PartitionOffsetReset(topic.topicId().toString(), "t1", 1, 100L, 50, -50L), g1.partitions().get(1));
+
+        var g2 = plan.get(1);
+        assertEquals(1, g2.partitions().size());
+        assertInstanceOf(GroupNotEmptyException.class, g2.error().getCause());
+
+        var g3 = plan.get(2);
+        assertNull(g3.partitions());
+        assertInstanceOf(GroupIdNotFoundException.class, g3.error().getCause());
+    }
+
+    @Test
+    void testPlanOffsetResetsAllPartitionsByTimestamp() {
+        TopicPartition p0 = new TopicPartition("t1", 0);
+        TopicPartition p1 = new TopicPartition("t1", 1);
+        TopicDescription topic = topicDescription("t1", 2);
+
+        var target = ConsumerGroupService.ResetTarget.of(new OffsetReset(List.of("g1"), List.of(topic.topicId().toString()),
+                Either.ofAlternate("2024-01-01T00:00:00Z"), null, null));
+        var listed = new ConsumerGroupService.ListedOffsets(target.specs());
+        OffsetSpec timestamp = target.specs().get(0);
+        OffsetSpec latest = target.specs().get(1);
+
+        listed.accept(p0, timestamp, new ListOffsetsResultInfo(25, 1000, Optional.empty()), null);
+        listed.accept(p0, latest, new ListOffsetsResultInfo(90, -1, Optional.empty()), null);
+        // No record at or after the timestamp
+        listed.accept(p1, timestamp, new ListOffsetsResultInfo(-1, -1, Optional.empty()), null);
+        listed.accept(p1, latest, new ListOffsetsResultInfo(70, -1, Optional.empty()), null);
+
+        Map<String, Either<ConsumerGroupState, Throwable>> states = Map.of("g1", Either.of(ConsumerGroupState.EMPTY));
+        Map<String, Either<Map<TopicPartition, OffsetAndMetadata>, Throwable>> committed = Map.of("g1", Either.of(Map.of()));
+
+        var plan = ConsumerGroupService.planOffsetResets(List.of("g1"), true,
+                states, committed, Map.of("t1", topic), target, listed);
+
+        var g1 = plan.get(0);
+        assertNull(g1.error());
+        // Partition without a record at or after the timestamp reset to its end offset
+        assertEquals(List.of(
+                new PartitionOffsetReset(topic.topicId().toString(), "t1", 0, null, 25, null),
+                new PartitionOffsetReset(topic.topicId().toString(), "t1", 1, null, 70, null)),
+                g1.partitions());
+
+        listed.accept(p1, null, null, new LeaderNotAvailableException("No leader available"));
+        plan = ConsumerGroupService.planOffsetResets(List.of("g1"), true,
+                states, committed, Map.of("t1", topic), target, listed);
+
+        assertInstanceOf(LeaderNotAvailableException.class, plan.get(0).error().getCause());
+    }
+
+    @Test
+    void testResetTargetShiftBy() {
+        TopicPartition p0 = new TopicPartition("t1", 0);
+        var target = ConsumerGroupService.ResetTarget.of(new OffsetReset(List.of("g1"), null,
+                Either.ofAlternate("shift-by:-50"), null, null));
+        var listed = new ConsumerGroupService.ListedOffsets(target.specs());
+
+        listed.accept(p0, target.specs().get(0), new ListOffsetsResultInfo(10, -1, Optional.empty()), null);
+        listed.accept(p0, target.specs().get(1), new ListOffsetsResultInfo(200, -1, Optional.empty()), null);
+
+        assertEquals(150L, target.function().apply(p0, 200L, listed));
+        // Limited to the earliest offset
+        assertEquals(10L, target.function().apply(p0, 40L, listed));
+        // Nothing to shift without a committed offset
+        assertNull(target.function().apply(p0, null, listed));
+    }
+
+    @Test
+    void testResetTargetDeltaDoesNotOverflow() {
+        TopicPartition p0 = new TopicPartition("t1", 0);
+        var target = ConsumerGroupService.ResetTarget.of(new OffsetReset(List.of("g1"), null,
+                null, Long.MAX_VALUE, null));
+        var listed = new ConsumerGroupService.ListedOffsets(target.specs());
+
+        listed.accept(p0, target.specs().get(0), new ListOffsetsResultInfo(10, -1, Optional.empty()), null);
+        listed.accept(p0, target.specs().get(1), new ListOffsetsResultInfo(200, -1, Optional.empty()), null);
+
+        // Limited to the latest offset rather than wrapping to a negative offset
+        assertEquals(200L, target.function().apply(p0, 150L, listed));
+    }
+
+    static TopicDescription topicDescription(String name, int partitionCount) {
+        Node node = new Node(0, "localhost", 9092);
+        List<TopicPartitionInfo> partitions = IntStream.range(0, partitionCount)
+                .mapToObj(p -> new TopicPartitionInfo(p, node, List.of(node), List.of(node)))
+                .toList();
+
+        return new TopicDescription(name, false, partitions, Set.of(), Uuid.randomUuid());
+    }
+
+    static ConsumerGroupService serviceWithLag(ConsumerGroupLag.Snapshot snapshot, boolean sharedAdmin) {
+        ConsumerGroupLag lag = new ConsumerGroupLag();
+
+        if (snapshot != null) {
+            lag.publish(snapshot);
+        }
+
+        ConsumerGroupService service = new ConsumerGroupService();
+        service.kafkaContext = mock(KafkaContext.class);
+        service.lagMonitor = mock(ConsumerGroupLagMonitor.class);
+        service.summaryMaxAgeMs = 30_000;
+        when(service.kafkaContext.consumerGroupLag()).thenReturn(lag);
+        when(service.kafkaContext.sharedAdmin()).thenReturn(sharedAdmin);
+
+        return service;
+    }
+
+    static Admin mockDescribe(String groupId, ConsumerGroupState state) {
+        Admin admin = mock(Admin.class);
+        DescribeConsumerGroupsResult describeResult = mock(DescribeConsumerGroupsResult.class);
+        ConsumerGroupDescription description = mock(ConsumerGroupDescription.class);
+
+        when(admin.describeConsumerGroups(anyCollection())).thenReturn(describeResult);
+        when(describeResult.describedGroups()).thenReturn(Map.of(groupId, KafkaFuture.completedFuture(description)));
+        when(description.state()).thenReturn(state);
+
+        return admin;
+    }
+}
@@ -0,0 +1,167 @@
+package com.github.streamshub.console.api.support;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.config.SaslConfigs;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class AdminClientCacheTest {
+
+    static final Map<String, Object> USER1 = Map.of("bootstrap.servers", "kafka:9092", SaslConfigs.SASL_JAAS_CONFIG, "user1");
+    static final Map<String, Object> USER2 = Map.of("bootstrap.servers", "kafka:9092", SaslConfigs.SASL_JAAS_CONFIG, "user2");
+
+    AdminClientCache cache;
+    AtomicLong now;
+    List<Admin> created;
+    Function<Map<String, Object>, Admin> builder;
+
+    @BeforeEach
+    void setup() {
+        now = new AtomicLong(1_000_000);
+        created = new ArrayList<>();
+        builder = configs -> {
+            Admin admin = Mockito.mock(Admin.class);
+            created.add(admin);
+            return admin;
+        };
+
+        cache = new AdminClientCache();
+        cache.logger = Logger.getLogger(AdminClientCache.class);
+        cache.maxSize = 2;
+        cache.idleTimeoutMs = 60_000;
+        cache.maxLifetimeMs = 600_000;
+        cache.tokenExpiryMarginMs = 10_000;
+        cache.clock = now::get;
+    }
+
+    static String jwt(long expirySeconds) {
+        String claims = "{\"sub\":\"user1\",\"exp\":" + expirySeconds + "}";
+        return "e30." + Base64.getUrlEncoder().withoutPadding().encodeToString(claims.getBytes(StandardCharsets.UTF_8)) + ".sig";
+    }
+
+    @Test
+    void testClientSharedBySameCredentials() {
+        var lease1 = cache.acquire("c1", USER1, builder);
+        var lease2 = cache.acquire("c1", Map.copyOf(USER1), builder);
+        var lease3 = cache.acquire("c1", USER2, builder);
+
+        assertSame(lease1.admin(), lease2.admin());
+        assertNotSame(lease1.admin(), lease3.admin());
+        assertEquals(2, created.size());
+
+        lease1.release();
+        lease2.release();
+        verify(lease1.admin(), never()).close();
+    }
+
+    @Test
+    void testIdleClientClosed() {
+        var lease = cache.acquire("c1", USER1, builder);
+        now.addAndGet(120_000);
+        cache.evict(now.get());
+
+        // Leased clients remain cached
+        assertEquals(1, cache.size());
+
+        lease.release();
+        now.addAndGet(120_000);
+        cache.evict(now.get());
+
+        assertEquals(0, cache.size());
+        verify(lease.admin()).close();
+    }
+
+    @Test
+    void testRemovedClientClosedWhenReleased() {
+        var lease = cache.acquire("c1", USER1, builder);
+        cache.invalidate("c1");
+
+        verify(lease.admin(), never()).close();
+        lease.release();
+        verify(lease.admin()).close();
+
+        assertNotSame(lease.admin(), cache.acquire("c1", USER1, builder).admin());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEvicted() {
+        cache.acquire("c1", USER1, builder).release();
+        now.incrementAndGet();
+        cache.acquire("c1", USER2, builder).release();
+        now.incrementAndGet();
+        cache.acquire("c2", USER1, builder).release();
+
+        assertEquals(2, cache.size());
+        verify(created.get(0)).close();
+    }
+
+    @Test
+    void testClientReplacedWhenTokenExpires() {
+        long expiry = now.get() / 1000 + 60;
+        Map<String, Object> configs = Map.of(SaslConfigs.SASL_JAAS_CONFIG,
+                "OAuthBearerLoginModule required oauth.access.token=\"" + jwt(expiry) + "\";");
+
+        var lease1 = cache.acquire("c1", configs, builder);
+        lease1.release();
+
+        // Within the expiry margin
+        now.addAndGet(55_000);
+        cache.evict(now.get());
+
+        assertEquals(0, cache.size());
+        verify(lease1.admin()).close();
+
+        // Expiring too soon to be cached, closed when released
+        var lease2 = cache.acquire("c1", configs, builder);
+        assertNotSame(lease1.admin(), lease2.admin());
+        assertEquals(0, cache.size());
+
+        lease2.release();
+        verify(lease2.admin()).close();
+    }
+
+    @Test
+    void testTokenExpiry() {
+        assertEquals(1_700_000_000_000L, AdminClientCache.tokenExpiry(Map.of(SaslConfigs.SASL_JAAS_CONFIG,
+                "OAuthBearerLoginModule required oauth.access.token=\"" + jwt(1_700_000_000L) + "\";")));
+        assertNull(AdminClientCache.tokenExpiry(Map.of(SaslConfigs.SASL_JAAS_CONFIG,
+                "ScramLoginModule required username=\"u\" password=\"p\";")));
+        assertNull(AdminClientCache.tokenExpiry(Map.of()));
+    }
+
+    @Test
+    void testFingerprintIndependentOfOrder() {
+        assertEquals(AdminClientCache.fingerprint(Map.of("a", "1", "b", "2")),
+                AdminClientCache.fingerprint(Map.of("b", "2", "a", "1")));
+        assertNotEquals(AdminClientCache.fingerprint(USER1), AdminClientCache.fingerprint(USER2));
+    }
+
+    @Test
+    void testCacheDisabled() {
+        cache.maxSize = 0;
+        var lease = cache.acquire("c1", USER1, builder);
+        lease.release();
+        lease.release();
+
+        verify(lease.admin()).close();
+        assertEquals(0, cache.size());
+    }
+}
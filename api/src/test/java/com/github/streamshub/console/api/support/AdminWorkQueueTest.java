@@ -0,0 +1,168 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.support.AdminWorkQueue.Limits;
+import com.github.streamshub.console.api.support.AdminWorkQueue.Priority;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdminWorkQueueTest {
+
+    static final Limits LIMITS = new Limits(2, 1, 1, 1, 3, 4, 10_000);
+
+    AtomicLong clock;
+    AtomicInteger interactiveLoad;
+    List<Runnable> wakeUps;
+    AdminWorkQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000);
+        interactiveLoad = new AtomicInteger();
+        wakeUps = new ArrayList<>();
+        queue = new AdminWorkQueue(interactiveLoad::get, clock::get, delayMs -> wakeUps::add);
+    }
+
+    void wakeUp() {
+        List<Runnable> pending = new ArrayList<>(wakeUps);
+        wakeUps.clear();
+        pending.forEach(Runnable::run);
+    }
+
+    static CompletionStage<String> work(CompletableFuture<String> pending, AtomicInteger started) {
+        started.incrementAndGet();
+        return pending;
+    }
+
+    @Test
+    void testBackgroundWorkRateLimited() {
+        AtomicInteger started = new AtomicInteger();
+
+        var first = queue.submit(Priority.BACKGROUND, LIMITS,
+                () -> work(CompletableFuture.completedFuture("first"), started));
+        var second = queue.submit(Priority.BACKGROUND, LIMITS,
+                () -> work(CompletableFuture.completedFuture("second"), started));
+
+        assertEquals("first", first.toCompletableFuture().join());
+        assertEquals(1, started.get());
+        assertEquals(1, queue.queued(Priority.BACKGROUND));
+        assertEquals(1, wakeUps.size());
+
+        clock.addAndGet(1_000);
+        wakeUp();
+
+        assertEquals("second", second.toCompletableFuture().join());
+        assertEquals(0, queue.queued(Priority.BACKGROUND));
+    }
+
+    @Test
+    void testBackgroundPreferredToBulk() {
+        AtomicInteger started = new AtomicInteger();
+        Limits limits = new Limits(1, 10, 10, 5, 3, 4, 10_000);
+        CompletableFuture<String> running = new CompletableFuture<>();
+        List<String> order = new ArrayList<>();
+
+        queue.submit(Priority.BULK, limits, () -> work(running, started));
+        queue.submit(Priority.BULK, limits, () -> {
+            order.add("bulk");
+            return work(CompletableFuture.completedFuture("bulk"), started);
+        });
+        queue.submit(Priority.BACKGROUND, limits, () -> {
+            order.add("bg");
+            return work(CompletableFuture.completedFuture("bg"), started);
+        });
+
+        assertEquals(1, queue.inFlight());
+        running.complete("first");
+
+        assertEquals(List.of("bg", "bulk"), order);
+        assertEquals(0, queue.inFlight());
+    }
+
+    @Test
+    void testInteractiveLoadHoldsBackgroundAndPreemptsBulk() {
+        AtomicInteger started = new AtomicInteger();
+        interactiveLoad.set(3);
+
+        var background = queue.submit(Priority.BACKGROUND, LIMITS,
+                () -> work(CompletableFuture.completedFuture("bg"), started));
+        var bulk = queue.submit(Priority.BULK, LIMITS,
+                () -> work(CompletableFuture.completedFuture("bulk"), started));
+
+        assertEquals(0, started.get());
+        assertRejected(bulk);
+        assertFalse(background.toCompletableFuture().isDone());
+        assertEquals(1, queue.queued(Priority.BACKGROUND));
+
+        // Requests to the cluster complete
+        interactiveLoad.set(0);
+        wakeUp();
+
+        assertEquals("bg", background.toCompletableFuture().join());
+    }
+
+    @Test
+    void testQueuedWorkExpires() {
+        AtomicInteger started = new AtomicInteger();
+        interactiveLoad.set(3);
+
+        var background = queue.submit(Priority.BACKGROUND, LIMITS,
+                () -> work(CompletableFuture.completedFuture("bg"), started));
+
+        clock.addAndGet(LIMITS.maxWaitMs() + 1);
+        wakeUp();
+
+        assertRejected(background);
+        assertEquals(0, started.get());
+        assertEquals(0, queue.queued(Priority.BACKGROUND));
+    }
+
+    @Test
+    void testQueueBounded() {
+        AtomicInteger started = new AtomicInteger();
+        interactiveLoad.set(3);
+
+        for (int i = 0; i < LIMITS.maxQueued(); i++) {
+            queue.submit(Priority.BACKGROUND, LIMITS, () -> work(new CompletableFuture<>(), started));
+        }
+
+        var rejected = queue.submit(Priority.BACKGROUND, LIMITS,
+                () -> work(new CompletableFuture<>(), started));
+
+        assertRejected(rejected);
+        assertEquals(LIMITS.maxQueued(), queue.queued(Priority.BACKGROUND));
+    }
+
+    @Test
+    void testWorkFailureCompletesResult() {
+        var result = queue.submit(Priority.BACKGROUND, LIMITS, () -> {
+            throw new IllegalStateException("KafkaContext is closed");
+        });
+
+        var error = assertThrows(ExecutionException.class, () -> result.toCompletableFuture().get());
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertEquals(0, queue.inFlight());
+    }
+
+    static void assertRejected(CompletionStage<?> result) {
+        var future = result.toCompletableFuture();
+        assertTrue(future.isCompletedExceptionally());
+        var error = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(RejectedExecutionException.class, error.getCause());
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.streamshub.console.api.support;
+
+import java.security.Principal;
+import java.util.Arrays;
+
+import jakarta.ws.rs.container.ResourceInfo;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.ConsumerGroupEventsResource;
+import com.github.streamshub.console.api.RecordsResource;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.web.RoutingContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ClusterBulkheadFilterTest {
+
+    @Test
+    void testEventStreamExempt() throws Exception {
+        assertTrue(ClusterBulkheadFilter.isEventStream(resourceInfo(ConsumerGroupEventsResource.class, "streamEvents")));
+        assertFalse(ClusterBulkheadFilter.isEventStream(resourceInfo(RecordsResource.class, "consumeRecords")));
+    }
+
+    @Test
+    void testUserKeyFromPrincipal() {
+        SecurityIdentity identity = mock(SecurityIdentity.class);
+        Principal principal = () -> "alice";
+        when(identity.isAnonymous()).thenReturn(false);
+        when(identity.getPrincipal()).thenReturn(principal);
+
+        assertEquals("user:alice", ClusterBulkheadFilter.userKey(identity, routingContext("10.0.0.1")));
+    }
+
+    @Test
+    void testUserKeyFromRemoteAddressWhenAnonymous() {
+        SecurityIdentity identity = mock(SecurityIdentity.class);
+        when(identity.isAnonymous()).thenReturn(true);
+
+        assertEquals("addr:10.0.0.1", ClusterBulkheadFilter.userKey(identity, routingContext("10.0.0.1")));
+        assertEquals("anonymous", ClusterBulkheadFilter.userKey(identity, routingContext(null)));
+    }
+
+    static ResourceInfo resourceInfo(Class<?> resourceClass, String methodName) {
+        ResourceInfo resourceInfo = mock(ResourceInfo.class);
+        doReturn(Arrays.stream(resourceClass.getMethods())
+                .filter(m -> m.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow())
+            .when(resourceInfo).getResourceMethod();
+        return resourceInfo;
+    }
+
+    static RoutingContext routingContext(String remoteHost) {
+        HttpServerRequest request = mock(HttpServerRequest.class);
+        when(request.remoteAddress()).thenReturn(remoteHost != null ? SocketAddress.inetSocketAddress(0, remoteHost) : null);
+        RoutingContext routingContext = mock(RoutingContext.class);
+        when(routingContext.request()).thenReturn(request);
+        return routingContext;
+    }
+}
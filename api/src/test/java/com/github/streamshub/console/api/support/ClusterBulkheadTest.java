@@ -0,0 +1,115 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.support.ClusterBulkhead.Permit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClusterBulkheadTest {
+
+    static final long LONG_WAIT = 60_000;
+
+    ClusterBulkhead bulkhead = new ClusterBulkhead();
+
+    CompletableFuture<Permit> acquire(String user) {
+        return bulkhead.acquire(user, 2, 4, 2, LONG_WAIT);
+    }
+
+    @Test
+    void testPermitsGrantedUpToLimit() {
+        var first = acquire("alice");
+        var second = acquire("bob");
+        var third = acquire("alice");
+
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+        assertFalse(third.isDone());
+        assertEquals(2, bulkhead.inFlight());
+        assertEquals(1, bulkhead.waiting());
+
+        first.join().release();
+        // Releasing twice has no effect
+        first.join().release();
+
+        assertTrue(third.isDone());
+        assertEquals(2, bulkhead.inFlight());
+        assertEquals(0, bulkhead.waiting());
+
+        second.join().release();
+        third.join().release();
+        assertEquals(0, bulkhead.inFlight());
+    }
+
+    @Test
+    void testWaitingUsersServedInTurn() {
+        List<Permit> running = new ArrayList<>(List.of(acquire("alice").join(), acquire("alice").join()));
+        var alice1 = acquire("alice");
+        var alice2 = acquire("alice");
+        var bob1 = acquire("bob");
+        var carol1 = acquire("carol");
+
+        running.remove(0).release();
+        assertTrue(alice1.isDone());
+
+        running.remove(0).release();
+        assertTrue(bob1.isDone());
+        assertFalse(alice2.isDone());
+
+        alice1.join().release();
+        assertTrue(carol1.isDone());
+        assertFalse(alice2.isDone());
+
+        bob1.join().release();
+        assertTrue(alice2.isDone());
+        assertEquals(0, bulkhead.waiting());
+    }
+
+    @Test
+    void testWaitingBounded() {
+        acquire("alice");
+        acquire("bob");
+        acquire("alice");
+        acquire("alice");
+
+        var aliceRejected = acquire("alice");
+        assertRejected(aliceRejected);
+
+        acquire("bob");
+        acquire("carol");
+
+        var daveRejected = acquire("dave");
+        assertRejected(daveRejected);
+        assertEquals(4, bulkhead.waiting());
+    }
+
+    @Test
+    void testWaitTimesOut() throws Exception {
+        var running = bulkhead.acquire("alice", 1, 4, 2, LONG_WAIT);
+        var timedOut = bulkhead.acquire("bob", 1, 4, 2, 10);
+
+        var error = assertThrows(ExecutionException.class, () -> timedOut.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, error.getCause());
+        assertEquals(0, bulkhead.waiting());
+
+        running.join().release();
+        assertEquals(0, bulkhead.inFlight());
+    }
+
+    static void assertRejected(CompletableFuture<Permit> permit) {
+        assertTrue(permit.isCompletedExceptionally());
+        var error = assertThrows(ExecutionException.class, permit::get);
+        assertInstanceOf(RejectedExecutionException.class, error.getCause());
+    }
+}
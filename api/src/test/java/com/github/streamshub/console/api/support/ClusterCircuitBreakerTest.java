@@ -0,0 +1,63 @@
+package com.github.streamshub.console.api.support;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.support.ClusterCircuitBreaker.State;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClusterCircuitBreakerTest {
+
+    @Test
+    void testOpensAfterConsecutiveTimeouts() {
+        ClusterCircuitBreaker breaker = new ClusterCircuitBreaker();
+
+        breaker.recordTimeout(1000, 3);
+        breaker.recordTimeout(2000, 3);
+        breaker.recordSuccess();
+        breaker.recordTimeout(3000, 3);
+        breaker.recordTimeout(4000, 3);
+        assertEquals(State.CLOSED, breaker.state());
+        assertTrue(breaker.allowRequest(4000, 30_000));
+
+        breaker.recordTimeout(5000, 3);
+        assertEquals(State.OPEN, breaker.state());
+        assertFalse(breaker.allowRequest(6000, 30_000));
+    }
+
+    @Test
+    void testSingleTrialAfterRetryInterval() {
+        ClusterCircuitBreaker breaker = new ClusterCircuitBreaker();
+        breaker.recordTimeout(1000, 1);
+
+        assertFalse(breaker.allowRequest(30_999, 30_000));
+        assertTrue(breaker.allowRequest(31_000, 30_000));
+        assertEquals(State.HALF_OPEN, breaker.state());
+        // Trial in progress
+        assertFalse(breaker.allowRequest(31_001, 30_000));
+
+        // Failed trial re-opens the circuit
+        breaker.recordTimeout(36_000, 1);
+        assertEquals(State.OPEN, breaker.state());
+        assertFalse(breaker.allowRequest(37_000, 30_000));
+
+        assertTrue(breaker.allowRequest(66_000, 30_000));
+        breaker.recordSuccess();
+        assertEquals(State.CLOSED, breaker.state());
+        assertTrue(breaker.allowRequest(66_001, 30_000));
+    }
+
+    @Test
+    void testMeanLatency() {
+        ClusterCircuitBreaker breaker = new ClusterCircuitBreaker();
+        assertTrue(Double.isNaN(breaker.meanLatencyMs()));
+
+        breaker.recordLatency(100);
+        assertEquals(100, breaker.meanLatencyMs(), 0.001);
+
+        breaker.recordLatency(600);
+        assertEquals(200, breaker.meanLatencyMs(), 0.001);
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.UriInfo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.support.ClusterCircuitBreaker.State;
+
+import io.vertx.ext.web.RoutingContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ClusterCircuitFilterTest {
+
+    ClusterCircuitFilter filter;
+    ClusterCircuitBreaker breaker;
+    Map<String, Object> routingData;
+
+    @BeforeEach
+    void setup() {
+        breaker = new ClusterCircuitBreaker();
+        KafkaContext kafkaContext = mock(KafkaContext.class);
+        when(kafkaContext.circuitBreaker()).thenReturn(breaker);
+
+        routingData = new HashMap<>();
+        RoutingContext routingContext = mock(RoutingContext.class);
+        when(routingContext.get(anyString())).then(args -> routingData.get(args.getArgument(0, String.class)));
+
+        filter = new ClusterCircuitFilter();
+        filter.kafkaContexts = Map.of("c1", kafkaContext);
+        filter.routingContext = routingContext;
+        filter.failureThreshold = 1;
+        filter.retryIntervalMs = 0;
+
+        // Open the circuit and admit a trial request
+        breaker.recordTimeout(System.currentTimeMillis(), 1);
+    }
+
+    @Test
+    void testResponseWithoutClusterAccessIgnored() throws Exception {
+        // e.g. a request rejected by validation
+        complete(400);
+        assertEquals(State.HALF_OPEN, breaker.state());
+
+        // Successful, but served without the cluster
+        complete(200);
+        assertEquals(State.HALF_OPEN, breaker.state());
+        assertTrue(Double.isNaN(breaker.meanLatencyMs()));
+    }
+
+    @Test
+    void testSuccessfulResponseFromClusterClosesCircuit() throws Exception {
+        routingData.put(ClusterCircuitFilter.CLUSTER_ACCESSED, Boolean.TRUE);
+
+        complete(404);
+        assertEquals(State.HALF_OPEN, breaker.state());
+
+        complete(200);
+        assertEquals(State.CLOSED, breaker.state());
+        assertFalse(Double.isNaN(breaker.meanLatencyMs()));
+    }
+
+    @Test
+    void testTimeoutReopensCircuit() throws Exception {
+        routingData.put(ClusterCircuitFilter.CLUSTER_ACCESSED, Boolean.TRUE);
+
+        complete(504);
+        assertEquals(State.OPEN, breaker.state());
+    }
+
+    void complete(int status) throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        UriInfo uriInfo = mock(UriInfo.class);
+        when(uriInfo.getPathParameters()).thenReturn(new MultivaluedHashMap<>(Map.of("clusterId", "c1")));
+
+        ContainerRequestContext requestContext = mock(ContainerRequestContext.class);
+        when(requestContext.getUriInfo()).thenReturn(uriInfo);
+        when(requestContext.getProperty(anyString())).then(args -> properties.get(args.getArgument(0, String.class)));
+        doAnswer(args -> properties.put(args.getArgument(0), args.getArgument(1)))
+            .when(requestContext).setProperty(anyString(), any());
+
+        ContainerResponseContext responseContext = mock(ContainerResponseContext.class);
+        when(responseContext.getStatus()).thenReturn(status);
+
+        filter.filter(requestContext);
+        filter.filter(requestContext, responseContext);
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsLast;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ComparatorBuilderTest {
+
+    record Item(String id, Integer size) {
+    }
+
+    final Map<String, Map<Boolean, Comparator<Item>>> comparators = ComparatorBuilder.bidirectional(Map.of(
+            "id", comparing(Item::id),
+            "size", comparing(Item::size, nullsLast(naturalOrder()))));
+
+    final ComparatorBuilder<Item> builder = new ComparatorBuilder<>(
+            (field, desc) -> comparators.containsKey(field) ? comparators.get(field).get(desc) : null,
+            comparators.get("id").get(false));
+
+    final List<Item> items = List.of(
+            new Item("c", 2),
+            new Item("a", null),
+            new Item("d", 1),
+            new Item("b", 2));
+
+    @Test
+    void testFromSortOrdersByRequestedFieldsThenDefault() {
+        Comparator<Item> comparator = builder.fromSort(List.of("-size", "unknown"));
+        List<Item> actual = items.stream().sorted(comparator).toList();
+
+        assertEquals(List.of("a", "b", "c", "d"), actual.stream().map(Item::id).toList());
+
+        comparator = builder.fromSort(List.of("size"));
+        actual = items.stream().sorted(comparator).toList();
+
+        assertEquals(List.of("d", "b", "c", "a"), actual.stream().map(Item::id).toList());
+    }
+
+    @Test
+    void testDefaultComparatorWhenNoSort() {
+        Comparator<Item> comparator = builder.fromSort(List.of());
+        List<Item> actual = items.stream().sorted(comparator).toList();
+
+        assertEquals(List.of("a", "b", "c", "d"), actual.stream().map(Item::id).toList());
+    }
+
+    @Test
+    void testKnownSortKeys() {
+        assertEquals(List.of("-size", "id"), builder.knownSortKeys(List.of("-size", "unknown", "id")));
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConcurrencyLimiterTest {
+
+    @Test
+    void testLimitConcurrencyBoundsInFlightRequests() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+
+        List<Supplier<CompletionStage<Void>>> requests = IntStream.range(0, 7)
+            .<Supplier<CompletionStage<Void>>>mapToObj(i -> () -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                CompletableFuture<Void> request = new CompletableFuture<>();
+                pending.add(request);
+                return request.whenComplete((nothing, error) -> inFlight.decrementAndGet());
+            })
+            .toList();
+
+        var result = ConcurrencyLimiter.limitConcurrency(requests, 2).toCompletableFuture();
+
+        // Completing a request starts the next request of its lane, adding to the list
+        for (int i = 0; i < pending.size(); i++) {
+            pending.get(i).complete(null);
+        }
+
+        result.get(5, TimeUnit.SECONDS);
+        assertEquals(7, pending.size());
+        assertEquals(2, maxInFlight.get());
+    }
+
+    @Test
+    void testLimitConcurrencyContinuesAfterFailure() {
+        AtomicInteger started = new AtomicInteger();
+
+        List<Supplier<CompletionStage<Void>>> requests = IntStream.range(0, 5)
+            .<Supplier<CompletionStage<Void>>>mapToObj(i -> () -> {
+                started.incrementAndGet();
+                if (i == 0) {
+                    throw new IllegalStateException("thrown");
+                }
+                if (i == 2) {
+                    return CompletableFuture.failedFuture(new IllegalStateException("failed"));
+                }
+                return CompletableFuture.completedFuture(null);
+            })
+            .toList();
+
+        var result = ConcurrencyLimiter.limitConcurrency(requests, 2).toCompletableFuture();
+
+        var error = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertEquals("thrown", error.getCause().getMessage());
+        assertEquals(5, started.get());
+    }
+}
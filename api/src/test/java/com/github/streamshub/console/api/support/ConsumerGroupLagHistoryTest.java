@@ -0,0 +1,123 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.model.LagHistory;
+import com.github.streamshub.console.api.support.ConsumerGroupLag.PartitionLag;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsumerGroupLagHistoryTest {
+
+    static final TopicPartition T1P0 = new TopicPartition("t1", 0);
+    static final TopicPartition T1P1 = new TopicPartition("t1", 1);
+
+    static ConsumerGroupLag.Snapshot snapshot(long timestamp, Map<String, Map<TopicPartition, PartitionLag>> groups) {
+        return new ConsumerGroupLag.Snapshot(timestamp, groups, Map.of());
+    }
+
+    @Test
+    void testRingRetainsMostRecentSamples() {
+        ConsumerGroupLagHistory history = new ConsumerGroupLagHistory();
+
+        for (int i = 1; i <= 5; i++) {
+            history.record(snapshot(i * 1000L, Map.of("g1", Map.of(T1P0, new PartitionLag(i * 10L, i * 20L)))), 3, 100);
+        }
+
+        var samples = history.history("g1").get(T1P0);
+        assertArrayEquals(new long[] { 3000, 4000, 5000 }, samples.timestamps());
+        assertArrayEquals(new long[] { 30, 40, 50 }, samples.committedOffsets());
+        assertArrayEquals(new long[] { 60, 80, 100 }, samples.endOffsets());
+    }
+
+    @Test
+    void testUnsampledGroupsAndPartitionsRemoved() {
+        ConsumerGroupLagHistory history = new ConsumerGroupLagHistory();
+
+        history.record(snapshot(1000, Map.of(
+                "g1", Map.of(T1P0, new PartitionLag(0, 0), T1P1, new PartitionLag(0, 0)),
+                "g2", Map.of(T1P0, new PartitionLag(0, 0)))), 10, 100);
+        history.record(snapshot(2000, Map.of(
+                "g1", Map.of(T1P1, new PartitionLag(0, 0)))), 10, 100);
+
+        assertEquals(1, history.size());
+        assertEquals(List.of(T1P1), List.copyOf(history.history("g1").keySet()));
+        assertTrue(history.history("g2").isEmpty());
+    }
+
+    @Test
+    void testTrackedGroupsLimited() {
+        ConsumerGroupLagHistory history = new ConsumerGroupLagHistory();
+
+        history.record(snapshot(1000, Map.of(
+                "g2", Map.of(T1P0, new PartitionLag(0, 0)),
+                "g3", Map.of(T1P0, new PartitionLag(0, 0)))), 10, 2);
+        history.record(snapshot(2000, Map.of(
+                "g1", Map.of(T1P0, new PartitionLag(0, 0)),
+                "g2", Map.of(T1P0, new PartitionLag(0, 0)),
+                "g3", Map.of(T1P0, new PartitionLag(0, 0)))), 10, 2);
+
+        // Tracked groups are retained in preference to new groups
+        assertTrue(history.history("g1").isEmpty());
+        assertEquals(2, history.history("g2").get(T1P0).size());
+
+        history.record(snapshot(3000, Map.of(
+                "g1", Map.of(T1P0, new PartitionLag(0, 0)),
+                "g3", Map.of(T1P0, new PartitionLag(0, 0)))), 10, 2);
+
+        assertEquals(1, history.history("g1").get(T1P0).size());
+        assertEquals(2, history.size());
+    }
+
+    @Test
+    void testRatesAndCatchUpTime() {
+        ConsumerGroupLagHistory history = new ConsumerGroupLagHistory();
+
+        // Consuming 100/s while 50/s are produced, lag of 500 at the last sample
+        for (int i = 0; i <= 10; i++) {
+            history.record(snapshot(i * 1000L, Map.of("g1", Map.of(
+                    T1P0, new PartitionLag(i * 100L, 1000 + i * 50L),
+                    T1P1, new PartitionLag(i * 20L, 200)))), 20, 100);
+        }
+
+        LagHistory result = LagHistory.fromSamples(history.history("g1"), Map.of("t1", "t1-id"), 4);
+        var p0 = result.getPartitions().get(0);
+        var p1 = result.getPartitions().get(1);
+
+        assertEquals("t1-id", p0.topicId());
+        assertEquals(500, p0.lag());
+        assertEquals(100d, p0.consumptionRate());
+        assertEquals(50d, p0.productionRate());
+        assertEquals(10_000L, p0.catchUpTime());
+        assertEquals(4, p0.samples().size());
+        assertEquals(10_000L, p0.samples().get(3).timestamp().toEpochMilli());
+        assertEquals(500, p0.samples().get(3).lag());
+
+        // Partition 1 fully consumed
+        assertEquals(0L, p1.catchUpTime());
+
+        assertEquals(500, result.getLag());
+        assertEquals(120d, result.getConsumptionRate());
+        assertEquals(50d, result.getProductionRate());
+        assertEquals(7_143L, result.getCatchUpTime());
+    }
+
+    @Test
+    void testNoRatesFromSingleSample() {
+        ConsumerGroupLagHistory history = new ConsumerGroupLagHistory();
+        history.record(snapshot(1000, Map.of("g1", Map.of(T1P0, new PartitionLag(5, 10)))), 10, 100);
+
+        LagHistory result = LagHistory.fromSamples(history.history("g1"), Map.of(), 10);
+
+        assertNull(result.getConsumptionRate());
+        assertNull(result.getCatchUpTime());
+        assertEquals(5, result.getLag());
+    }
+}
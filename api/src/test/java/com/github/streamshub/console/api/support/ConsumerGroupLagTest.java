@@ -0,0 +1,74 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.support.ConsumerGroupLag.PartitionLag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsumerGroupLagTest {
+
+    static final TopicPartition T1P0 = new TopicPartition("t1", 0);
+    static final TopicPartition T1P1 = new TopicPartition("t1", 1);
+    static final TopicPartition T2P0 = new TopicPartition("t2", 0);
+
+    @Test
+    void testSnapshotTotals() {
+        var snapshot = new ConsumerGroupLag.Snapshot(1000,
+                Map.of(
+                    "g1", Map.of(
+                        T1P0, new PartitionLag(10, 15),
+                        T1P1, new PartitionLag(20, 20),
+                        T2P0, new PartitionLag(0, 7)),
+                    "g2", Map.of(
+                        // Committed ahead of the (older) end offset does not give negative lag
+                        T2P0, new PartitionLag(8, 7))),
+                Map.of(T1P0, 15L, T1P1, 20L, T2P0, 7L));
+
+        assertEquals(OptionalLong.of(12), snapshot.groupLag("g1"));
+        assertEquals(OptionalLong.of(7), snapshot.maxPartitionLag("g1"));
+        assertEquals(Map.of("t1", 5L, "t2", 7L), snapshot.topicLag("g1"));
+        assertEquals(OptionalLong.of(0), snapshot.groupLag("g2"));
+        assertEquals(OptionalLong.empty(), snapshot.groupLag("g3"));
+        assertEquals(OptionalLong.of(7), snapshot.endOffset(T2P0));
+    }
+
+    @Test
+    void testCurrentSnapshotAge() {
+        ConsumerGroupLag lag = new ConsumerGroupLag();
+        assertTrue(lag.current().isEmpty());
+
+        lag.publish(new ConsumerGroupLag.Snapshot(1000, Map.of(), Map.of()));
+
+        assertTrue(lag.current(1000).isPresent());
+        assertFalse(lag.current(1001).isPresent());
+    }
+
+    @Test
+    void testSingleRefresh() {
+        ConsumerGroupLag lag = new ConsumerGroupLag();
+        CompletableFuture<ConsumerGroupLag.Snapshot> pending = new CompletableFuture<>();
+        var snapshot = new ConsumerGroupLag.Snapshot(1000, Map.of(), Map.of());
+
+        var first = lag.refresh(() -> pending);
+        var second = lag.refresh(() -> CompletableFuture.completedFuture(null));
+
+        assertSame(first, second);
+        assertTrue(lag.current().isEmpty());
+
+        pending.complete(snapshot);
+
+        assertSame(snapshot, first.join());
+        assertSame(snapshot, lag.current().get());
+        assertNotSame(first, lag.refresh(() -> CompletableFuture.completedFuture(snapshot)));
+    }
+}
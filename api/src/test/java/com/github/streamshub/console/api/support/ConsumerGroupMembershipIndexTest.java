@@ -0,0 +1,124 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsumerGroupMembershipIndexTest {
+
+    ConsumerGroupMembershipIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new ConsumerGroupMembershipIndex();
+        index.update("g1", "STABLE", Set.of("t1", "t2"), 2, 100, 0);
+        index.update("g2", "STABLE", Set.of("t2"), 1, 100, 0);
+        index.markRefreshed(100, 0);
+    }
+
+    @Test
+    void testGroupsByTopic() {
+        assertEquals(Map.of("t1", List.of("g1"), "t2", List.of("g1", "g2")),
+                index.groupsByTopic(List.of("t1", "t2", "t3")));
+    }
+
+    @Test
+    void testReconcileDetectsChanges() {
+        List<String> changed = index.reconcile(Map.of(
+                "g1", "STABLE",
+                "g2", "PREPARING_REBALANCE",
+                "g3", "STABLE"), 50);
+
+        assertEquals(Set.of("g2", "g3"), Set.copyOf(changed));
+        // Groups described before the stale time are always described again
+        assertEquals(Set.of("g1", "g2"), Set.copyOf(index.reconcile(Map.of("g1", "STABLE", "g2", "STABLE"), 150)));
+    }
+
+    @Test
+    void testReconcileRemovesUnlistedGroups() {
+        assertEquals(List.of(), index.reconcile(Map.of("g2", "STABLE"), 50));
+        assertEquals(Map.of("t2", List.of("g2")), index.groupsByTopic(List.of("t1", "t2")));
+        assertEquals(Set.of(), index.topics("g1"));
+    }
+
+    @Test
+    void testUpdateReplacesTopics() {
+        index.update("g1", "STABLE", Set.of("t3"), 3, 200, 0);
+
+        assertEquals(Map.of("t2", List.of("g2"), "t3", List.of("g1")),
+                index.groupsByTopic(List.of("t1", "t2", "t3")));
+        assertEquals(3, index.memberCount("g1"));
+        assertNull(index.memberCount("g3"));
+    }
+
+    @Test
+    void testInvalidateRequiresRefresh() {
+        assertTrue(index.isRefreshedSince(100));
+        assertFalse(index.isRefreshedSince(101));
+
+        index.invalidate("g2");
+
+        assertFalse(index.isRefreshedSince(0));
+        assertEquals(List.of("g2"), index.reconcile(Map.of("g1", "STABLE", "g2", "STABLE"), 50));
+    }
+
+    @Test
+    void testInvalidateDuringRefresh() {
+        long generation = index.generation();
+
+        // Group invalidated while the refresh describing it is in progress
+        index.invalidate("g2");
+        index.update("g2", "STABLE", Set.of("t2"), 1, 200, generation);
+        index.markRefreshed(200, generation);
+
+        assertFalse(index.isRefreshedSince(0));
+        assertEquals(Map.of("t2", List.of("g1")), index.groupsByTopic(List.of("t2")));
+        assertEquals(List.of("g2"), index.reconcile(Map.of("g1", "STABLE", "g2", "STABLE"), 50));
+
+        // The next refresh restores the group
+        generation = index.generation();
+        index.update("g2", "STABLE", Set.of("t2"), 1, 300, generation);
+        index.markRefreshed(300, generation);
+
+        assertTrue(index.isRefreshedSince(300));
+        assertEquals(Map.of("t2", List.of("g1", "g2")), index.groupsByTopic(List.of("t2")));
+    }
+
+    @Test
+    void testConcurrentRefreshShared() {
+        AtomicInteger refreshes = new AtomicInteger();
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+
+        CompletableFuture<Void> first = index.refresh(() -> {
+            refreshes.incrementAndGet();
+            return pending;
+        });
+        CompletableFuture<Void> second = index.refresh(() -> {
+            refreshes.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        });
+
+        assertSame(first, second);
+        assertFalse(first.isDone());
+
+        pending.complete(null);
+        assertTrue(first.isDone());
+
+        index.refresh(() -> {
+            refreshes.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        });
+        assertEquals(2, refreshes.get());
+    }
+}
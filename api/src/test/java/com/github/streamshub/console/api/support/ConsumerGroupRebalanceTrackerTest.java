@@ -0,0 +1,110 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.model.ConsumerGroupEvent;
+import com.github.streamshub.console.api.support.ConsumerGroupRebalanceTracker.Change;
+import com.github.streamshub.console.api.support.ConsumerGroupRebalanceTracker.GroupFingerprint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsumerGroupRebalanceTrackerTest {
+
+    static final TopicPartition T1P0 = new TopicPartition("t1", 0);
+    static final TopicPartition T1P1 = new TopicPartition("t1", 1);
+    static final TopicPartition T2P0 = new TopicPartition("t2", 0);
+
+    static long assignment(TopicPartition... partitions) {
+        return ConsumerGroupRebalanceTracker.assignmentFingerprint(List.of(partitions));
+    }
+
+    @Test
+    void testFirstUpdateEstablishesBaseline() {
+        ConsumerGroupRebalanceTracker tracker = new ConsumerGroupRebalanceTracker();
+
+        var changes = tracker.update(Map.of("g1", new GroupFingerprint("STABLE", Map.of("m1", assignment(T1P0)))));
+
+        assertTrue(changes.isEmpty());
+        assertTrue(tracker.update(Map.of("g1", new GroupFingerprint("STABLE", Map.of("m1", assignment(T1P0))))).isEmpty());
+    }
+
+    @Test
+    void testRebalanceChangesDetected() {
+        ConsumerGroupRebalanceTracker tracker = new ConsumerGroupRebalanceTracker();
+
+        tracker.update(Map.of(
+                "g1", new GroupFingerprint("STABLE", Map.of("m1", assignment(T1P0, T1P1))),
+                "g2", new GroupFingerprint("STABLE", Map.of("m3", assignment(T2P0)))));
+
+        var changes = tracker.update(Map.of(
+                "g1", new GroupFingerprint("COMPLETING_REBALANCE", Map.of(
+                        "m1", assignment(T1P0),
+                        "m2", assignment(T1P1))),
+                "g3", new GroupFingerprint("EMPTY", Map.of())));
+
+        assertEquals(5, changes.size());
+        assertTrue(changes.contains(new Change("g1", ConsumerGroupEvent.STATE_CHANGED, "STABLE", "COMPLETING_REBALANCE", null)));
+        assertTrue(changes.contains(new Change("g1", ConsumerGroupEvent.ASSIGNMENT_CHANGED, null, null, "m1")));
+        assertTrue(changes.contains(new Change("g1", ConsumerGroupEvent.MEMBER_JOINED, null, null, "m2")));
+        assertTrue(changes.contains(new Change("g2", ConsumerGroupEvent.STATE_CHANGED, "STABLE", "DEAD", null)));
+        assertTrue(changes.contains(new Change("g3", ConsumerGroupEvent.STATE_CHANGED, null, "EMPTY", null)));
+
+        changes = tracker.update(Map.of(
+                "g1", new GroupFingerprint("STABLE", Map.of("m2", assignment(T1P1, T1P0))),
+                "g3", new GroupFingerprint("EMPTY", Map.of())));
+
+        assertEquals(3, changes.size());
+        assertTrue(changes.contains(new Change("g1", ConsumerGroupEvent.STATE_CHANGED, "COMPLETING_REBALANCE", "STABLE", null)));
+        assertTrue(changes.contains(new Change("g1", ConsumerGroupEvent.MEMBER_LEFT, null, null, "m1")));
+        assertTrue(changes.contains(new Change("g1", ConsumerGroupEvent.ASSIGNMENT_CHANGED, null, null, "m2")));
+    }
+
+    @Test
+    void testUnknownGroupsRetained() {
+        ConsumerGroupRebalanceTracker tracker = new ConsumerGroupRebalanceTracker();
+
+        tracker.update(Map.of("g1", new GroupFingerprint("STABLE", Map.of("m1", assignment(T1P0)))));
+
+        // g1 could not be described, so its members are unknown rather than gone
+        var changes = tracker.update(Map.of("g1", new GroupFingerprint("STABLE", Map.of())), Set.of("g1"));
+        assertTrue(changes.isEmpty());
+
+        changes = tracker.update(Map.of("g1", new GroupFingerprint("STABLE", Map.of("m1", assignment(T1P1)))));
+        assertEquals(List.of(new Change("g1", ConsumerGroupEvent.ASSIGNMENT_CHANGED, null, null, "m1")), changes);
+    }
+
+    @Test
+    void testAssignmentFingerprintIgnoresOrder() {
+        assertEquals(assignment(T1P0, T1P1, T2P0), assignment(T2P0, T1P0, T1P1));
+        assertNotEquals(assignment(T1P0), assignment(T1P1));
+        assertNotEquals(assignment(), assignment(T1P0));
+    }
+
+    @Test
+    void testLastUnsubscribeResetsBaseline() {
+        ConsumerGroupRebalanceTracker tracker = new ConsumerGroupRebalanceTracker();
+        List<ConsumerGroupEvent> received = new ArrayList<>();
+
+        Runnable unsubscribe = tracker.subscribe(received::add);
+        assertTrue(tracker.hasSubscribers());
+
+        tracker.update(Map.of("g1", new GroupFingerprint("STABLE", Map.of())));
+        tracker.publish(new ConsumerGroupEvent(ConsumerGroupEvent.STATE_CHANGED, null, "g1", null, "STABLE", null, null));
+        assertEquals(1, received.size());
+
+        unsubscribe.run();
+        assertFalse(tracker.hasSubscribers());
+
+        // Changes while unsubscribed are not reported
+        assertTrue(tracker.update(Map.of("g1", new GroupFingerprint("EMPTY", Map.of()))).isEmpty());
+    }
+}
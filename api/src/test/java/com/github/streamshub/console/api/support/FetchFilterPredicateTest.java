@@ -0,0 +1,113 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.github.streamshub.console.api.model.FetchFilter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FetchFilterPredicateTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "'eq,topic-a'       , topic-a   , true",
+        "'eq,topic-a'       , topic-b   , false",
+        "'neq,topic-a'      , topic-b   , true",
+        "'neq,topic-a'      , topic-a   , false",
+        "'in,topic-a'       , topic-a   , true",
+        "'in,a,b,c'         , b         , true",
+        "'in,a,b,c'         , d         , false",
+        "'like,topic-*'     , topic-a   , true",
+        "'like,topic-*'     , my-topic  , false",
+        "'like,*-a'         , topic-a   , true",
+        "'like,*-a'         , topic-ab  , false",
+        "'like,*pic*'       , topic-a   , true",
+        "'like,*pic*'       , tonic-a   , false",
+        "'like,*'           , anything  , true",
+        "'like,topic-a'     , topic-a   , true",
+        "'like,topic-a'     , topic-ab  , false",
+        "'like,t?pic.*'     , topic.a   , true",
+        "'like,t?pic.*'     , topicXa   , false",
+        "'re,^top.c-[ab]$'  , topic-b   , true",
+        "'re,^top.c-[ab]$'  , topic-c   , false",
+        "'re,a{1,2}'        , xaax      , true",
+        "'unknown,topic-a'  , topic-a   , false",
+    })
+    void testStringOperators(String filter, String value, boolean expected) {
+        var predicate = new FetchFilterPredicate<String, String>(FetchFilter.valueOf(filter), Function.identity());
+        assertEquals(expected, predicate.test(value));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'gte,10', 10, true",
+        "'gte,10',  9, false",
+        "'gt,10' , 10, false",
+        "'gt,10' , 11, true",
+        "'lte,10', 10, true",
+        "'lte,10', 11, false",
+        "'lt,10' , 10, false",
+        "'lt,10' ,  9, true",
+    })
+    void testComparisonOperators(String filter, long value, boolean expected) {
+        var predicate = new FetchFilterPredicate<Long, Long>(FetchFilter.valueOf(filter), Long::valueOf, Function.identity());
+        assertEquals(expected, predicate.test(value));
+    }
+
+    @Test
+    void testNullFieldExcluded() {
+        var predicate = new FetchFilterPredicate<String, String>(FetchFilter.valueOf("like,topic-*"), Function.identity());
+        assertFalse(predicate.test(null));
+    }
+
+    @Test
+    void testAnyMatchMultiValuedField() {
+        var predicate = FetchFilterPredicate.<List<String>>anyMatch("filter[topic]",
+                FetchFilter.valueOf("like,orders-*"), Function.identity());
+
+        assertTrue(predicate.test(List.of("payments", "orders-eu")));
+        assertFalse(predicate.test(List.of("payments")));
+        assertFalse(predicate.test(List.of()));
+        assertFalse(predicate.test(null));
+        assertEquals("filter[topic]", predicate.name());
+    }
+
+    @Test
+    void testFiltersOrderedByCost() {
+        var regex = new FetchFilterPredicate<String, String>(FetchFilter.valueOf("re,^a"), Function.identity());
+        var prefix = new FetchFilterPredicate<String, String>(FetchFilter.valueOf("like,a*"), Function.identity());
+        var equality = new FetchFilterPredicate<String, String>(FetchFilter.valueOf("in,a,b"), Function.identity());
+
+        var compiled = ListRequestContext.compileFilters(List.of(regex, prefix, equality));
+
+        assertEquals(List.of(equality, prefix, regex), List.of(compiled));
+        assertTrue(FetchFilter.valueOf("re,a{1,2}").isValidPattern());
+        assertFalse(FetchFilter.valueOf("re,a{1,").isValidPattern());
+        assertFalse(FetchFilter.valueOf("re," + "a".repeat(FetchFilter.MAX_PATTERN_LENGTH + 1)).isValidPattern());
+    }
+
+    @Test
+    void testCostComputedFromOperator() {
+        assertEquals(FetchFilterPredicate.COST_EQUALITY, FetchFilterPredicate.cost("in", List.of("a")));
+        assertEquals(FetchFilterPredicate.COST_COMPARISON, FetchFilterPredicate.cost("gte", List.of(1)));
+        assertEquals(FetchFilterPredicate.COST_LITERAL, FetchFilterPredicate.cost("like", List.of("a*")));
+        assertEquals(FetchFilterPredicate.COST_PATTERN, FetchFilterPredicate.cost("like", List.of("a?b")));
+        assertEquals(FetchFilterPredicate.COST_PATTERN, FetchFilterPredicate.cost("re", List.of("a")));
+    }
+
+    @Test
+    void testBacktrackingPatternStopsAtStepLimit() {
+        var predicate = new FetchFilterPredicate<String, String>(FetchFilter.valueOf("re,^(a+)+$"), Function.identity());
+
+        assertTrue(predicate.test("aaaa"));
+        // Catastrophic backtracking without the limit
+        assertFalse(predicate.test("a".repeat(64) + "!"));
+    }
+}
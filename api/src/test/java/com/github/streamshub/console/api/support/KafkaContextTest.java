@@ -0,0 +1,84 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.KafkaException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class KafkaContextTest {
+
+    @Test
+    void testSharedAdminCreatedOnFirstUse() {
+        Admin admin = mock(Admin.class);
+        AtomicInteger created = new AtomicInteger();
+        KafkaContext ctx = new KafkaContext(null, null, Map.of(), () -> {
+            created.incrementAndGet();
+            return admin;
+        }, null);
+
+        assertTrue(ctx.sharedAdmin());
+        assertFalse(ctx.adminInitialized());
+        assertEquals(0, created.get());
+
+        assertSame(admin, ctx.admin());
+        assertSame(admin, ctx.admin());
+        assertTrue(ctx.adminInitialized());
+        assertEquals(1, created.get());
+
+        ctx.close();
+        verify(admin).close();
+    }
+
+    @Test
+    void testClosedBeforeFirstUse() {
+        AtomicInteger created = new AtomicInteger();
+        KafkaContext ctx = new KafkaContext(null, null, Map.of(), () -> {
+            created.incrementAndGet();
+            return mock(Admin.class);
+        }, null);
+
+        ctx.close();
+
+        assertThrows(IllegalStateException.class, ctx::admin);
+        assertEquals(0, created.get());
+    }
+
+    @Test
+    void testFailureRecordedAndRetried() {
+        Admin admin = mock(Admin.class);
+        AtomicInteger attempts = new AtomicInteger();
+        KafkaContext ctx = new KafkaContext(null, null, Map.of(), () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new KafkaException("bootstrap failed");
+            }
+            return admin;
+        }, null);
+
+        assertThrows(KafkaException.class, ctx::admin);
+        assertFalse(ctx.adminInitialized());
+        assertEquals("bootstrap failed", ctx.adminFailure().getMessage());
+
+        assertSame(admin, ctx.admin());
+        assertNull(ctx.adminFailure());
+    }
+
+    @Test
+    void testNoSharedAdmin() {
+        KafkaContext ctx = new KafkaContext(null, null, Map.of(), null, null);
+
+        assertFalse(ctx.sharedAdmin());
+        assertNull(ctx.admin());
+        assertEquals("per-request", KafkaContextReadinessCheck.state(ctx));
+    }
+}
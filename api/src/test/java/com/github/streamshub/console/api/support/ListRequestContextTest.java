@@ -0,0 +1,78 @@
+package com.github.streamshub.console.api.support;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.github.streamshub.console.api.model.ListFetchParams;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ListRequestContextTest {
+
+    static final ComparatorBuilder<Integer> COMPARATOR_BUILDER =
+            new ComparatorBuilder<>((field, descending) -> null, Comparator.<Integer>naturalOrder());
+
+    static ListRequestContext<Integer> newContext(int pageSize, Integer after, Integer before) {
+        ListFetchParams params = mock(ListFetchParams.class);
+        when(params.getSortEntries()).thenReturn(Collections.emptyList());
+        when(params.getSortNames()).thenReturn(Collections.emptyList());
+        when(params.getPageSize()).thenReturn(pageSize);
+        when(params.getPageAfter()).thenReturn(cursor(after));
+        when(params.getPageBefore()).thenReturn(cursor(before));
+
+        return new ListRequestContext<>(COMPARATOR_BUILDER,
+                URI.create("http://localhost/api/items"),
+                params,
+                json -> json == null ? null : json.getInt("value"));
+    }
+
+    static JsonObject cursor(Integer value) {
+        return value == null ? null : Json.createObjectBuilder().add("value", value).build();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "10,   ,   ",
+        "10,  4,   ",
+        "10,   , 20",
+        "10,  4,  9",
+        "10,  4, 20",
+        "10, 30,   ",
+        " 7, 20,   ",
+        " 7,   ,  3",
+    })
+    void testSelectPageMatchesSortedStream(int pageSize, Integer after, Integer before) {
+        List<Integer> items = new ArrayList<>(IntStream.range(0, 25).boxed().toList());
+        Collections.shuffle(items, new Random(pageSize));
+
+        ListRequestContext<Integer> expectedContext = newContext(pageSize, after, before);
+        List<Integer> expected = items.stream()
+                .map(expectedContext::tally)
+                .filter(expectedContext::betweenCursors)
+                .sorted(expectedContext.getSortComparator())
+                .dropWhile(expectedContext::beforePageBegin)
+                .takeWhile(expectedContext::pageCapacityAvailable)
+                .toList();
+
+        ListRequestContext<Integer> actualContext = newContext(pageSize, after, before);
+        List<Integer> actual = actualContext.selectPage(items.stream());
+
+        assertEquals(expected, actual);
+        assertEquals(expectedContext.buildPageMeta(), actualContext.buildPageMeta());
+        assertEquals(expectedContext.buildPageLinks((item, sort) -> String.valueOf(item)),
+                actualContext.buildPageLinks((item, sort) -> String.valueOf(item)));
+    }
+}
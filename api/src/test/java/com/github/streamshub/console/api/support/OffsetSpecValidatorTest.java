@@ -0,0 +1,63 @@
+package com.github.streamshub.console.api.support;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OffsetSpecValidatorTest {
+
+    KafkaOffsetSpec.Validator target;
+    KafkaResetOffsetSpec.Validator resetTarget;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        target = new KafkaOffsetSpec.Validator();
+        resetTarget = new KafkaResetOffsetSpec.Validator();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "                               , true , true",
+        "'earliest'                     , true , true",
+        "'2024-01-01T00:00:00Z'         , true , true",
+        "'shift-by:-100'                , false, true",
+        "'shift-by:25'                  , false, true",
+        "'shift-by:'                    , false, false",
+        "'shift-by:ten'                 , false, false",
+        "'shift-by:9223372036854775808' , false, false",
+        "'duration:PT1H'                , false, true",
+        "'duration:P1DT30M'             , false, true",
+        "'duration:-PT1H'               , false, false",
+        "'duration:PT2562047788015215H' , false, false",
+        "'duration:1h'                  , false, false",
+        "'yesterday'                    , false, false"
+    })
+    void testIsValid(String value, boolean expectedResult, boolean expectedResetResult) {
+        assertEquals(expectedResult, target.isValid(value, null));
+        assertEquals(expectedResetResult, resetTarget.isValid(value, null));
+    }
+
+    @Test
+    void testRelativeSpecs() {
+        assertEquals(OptionalLong.of(-100), KafkaResetOffsetSpec.Relative.shiftBy("shift-by:-100"));
+        assertEquals(OptionalLong.empty(), KafkaResetOffsetSpec.Relative.shiftBy("latest"));
+        assertEquals(Optional.of(Duration.ofMinutes(90)), KafkaResetOffsetSpec.Relative.duration("duration:PT1H30M"));
+        assertEquals(Optional.empty(), KafkaResetOffsetSpec.Relative.duration("shift-by:1"));
+        // Reaches back before the epoch
+        assertEquals(Optional.empty(), KafkaResetOffsetSpec.Relative.duration("duration:P100000D"));
+    }
+
+    @Test
+    void testShiftSaturates() {
+        assertEquals(150, KafkaResetOffsetSpec.Relative.shift(200, -50));
+        assertEquals(Long.MAX_VALUE, KafkaResetOffsetSpec.Relative.shift(200, Long.MAX_VALUE));
+        assertEquals(Long.MIN_VALUE, KafkaResetOffsetSpec.Relative.shift(-200, Long.MIN_VALUE));
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffsetTimestampIndexTest {
+
+    static final TopicPartition PARTITION = new TopicPartition("t1", 0);
+
+    OffsetTimestampIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new OffsetTimestampIndex(8, 20);
+    }
+
+    @Test
+    void testEstimateInterpolated() {
+        index.record(PARTITION, 100, 1_000);
+        index.record(PARTITION, 200, 2_000);
+
+        // Record 149 is the 50th of the 100 records written between the samples
+        assertEquals(OptionalLong.of(1_500), index.estimate(PARTITION, 149));
+        assertEquals(OptionalLong.of(2_000), index.estimate(PARTITION, 199));
+        // Not yet written when the latest sample was taken
+        assertEquals(OptionalLong.empty(), index.estimate(PARTITION, 200));
+    }
+
+    @Test
+    void testEstimateExtrapolated() {
+        index.record(PARTITION, 100, 1_000);
+        assertEquals(OptionalLong.empty(), index.estimate(PARTITION, 49));
+
+        index.record(PARTITION, 200, 2_000);
+        assertEquals(OptionalLong.of(500), index.estimate(PARTITION, 49));
+    }
+
+    @Test
+    void testTimeLag() {
+        index.record(PARTITION, 100, 1_000);
+        index.record(PARTITION, 200, 2_000);
+
+        assertEquals(OptionalLong.of(0), index.timeLag(PARTITION, 250, 250, 5_000));
+        assertEquals(OptionalLong.of(3_500), index.timeLag(PARTITION, 149, 250, 5_000));
+        assertEquals(OptionalLong.empty(), index.timeLag(new TopicPartition("t2", 0), 149, 250, 5_000));
+    }
+
+    @Test
+    void testUnchangedEndOffsetKeepsEarliestSample() {
+        index.record(PARTITION, 100, 1_000);
+        index.record(PARTITION, 200, 2_000);
+        index.record(PARTITION, 200, 3_000);
+
+        assertEquals(OptionalLong.of(2_000), index.estimate(PARTITION, 199));
+    }
+
+    @Test
+    void testTruncatedLogResetsSamples() {
+        index.record(PARTITION, 100, 1_000);
+        index.record(PARTITION, 200, 2_000);
+        index.record(PARTITION, 10, 3_000);
+
+        assertEquals(OptionalLong.empty(), index.estimate(PARTITION, 5));
+        assertEquals(OptionalLong.empty(), index.estimate(PARTITION, 150));
+    }
+
+    @Test
+    void testThinningRetainsOldestSample() {
+        for (int i = 1; i <= 20; i++) {
+            index.record(PARTITION, i * 100L, i * 1_000L);
+        }
+
+        assertEquals(OptionalLong.of(1_000), index.estimate(PARTITION, 99));
+        assertEquals(OptionalLong.of(20_000), index.estimate(PARTITION, 1_999));
+        // Constant rate, so estimates between retained samples remain exact
+        assertEquals(OptionalLong.of(10_500), index.estimate(PARTITION, 1_049));
+    }
+
+    @Test
+    void testRetainAll() {
+        index.record(PARTITION, 100, 1_000);
+        index.record(new TopicPartition("t2", 0), 100, 1_000);
+
+        index.retainAll(List.of(PARTITION));
+
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testLeastRecentPartitionsEvicted() {
+        for (int i = 0; i < 20; i++) {
+            TopicPartition partition = new TopicPartition("t" + i, 0);
+            index.record(partition, 100, 1_000 + i);
+            index.record(partition, 200, 2_000 + i);
+        }
+        // Sampled again, now the most recent
+        index.record(new TopicPartition("t0", 0), 300, 3_000);
+
+        index.record(new TopicPartition("new", 0), 100, 4_000);
+
+        // A tenth of the limit evicted to make room
+        assertEquals(19, index.size());
+        assertTrue(index.estimate(new TopicPartition("t0", 0), 149).isPresent());
+        assertTrue(index.estimate(new TopicPartition("t1", 0), 149).isEmpty());
+        assertTrue(index.estimate(new TopicPartition("t2", 0), 149).isEmpty());
+        assertTrue(index.estimate(new TopicPartition("t3", 0), 149).isPresent());
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartitionRequestBatcherTest {
+
+    @Test
+    void testChunkSplitsEntries() {
+        List<Integer> entries = IntStream.range(0, 10).boxed().toList();
+        var chunks = PartitionRequestBatcher.chunk(entries, 4);
+
+        assertEquals(List.of(List.of(0, 1, 2, 3), List.of(4, 5, 6, 7), List.of(8, 9)), chunks);
+    }
+
+    @Test
+    void testChunkSmallerThanLimit() {
+        List<Integer> entries = List.of(1, 2, 3);
+        assertEquals(List.of(entries), PartitionRequestBatcher.chunk(entries, 4));
+    }
+
+    @Test
+    void testGroupByLeader() {
+        TopicPartition t0 = new TopicPartition("t", 0);
+        TopicPartition t1 = new TopicPartition("t", 1);
+        TopicPartition t2 = new TopicPartition("t", 2);
+
+        var grouped = PartitionRequestBatcher.groupByLeader(Map.of(t0, 1, t1, 2, t2, 1));
+
+        assertEquals(List.of(1, 2), new ArrayList<>(grouped.keySet()));
+        assertEquals(2, grouped.get(1).size());
+        assertTrue(grouped.get(1).containsAll(List.of(t0, t2)));
+        assertEquals(List.of(t1), grouped.get(2));
+    }
+}
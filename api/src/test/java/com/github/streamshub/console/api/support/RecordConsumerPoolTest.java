@@ -0,0 +1,119 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class RecordConsumerPoolTest {
+
+    AtomicLong now = new AtomicLong(1000);
+    List<Consumer<byte[], byte[]>> created = new ArrayList<>();
+    RecordConsumerPool pool;
+
+    @BeforeEach
+    void setup() {
+        pool = new RecordConsumerPool("test", this::newConsumer, 1, 1, 60_000, now::get);
+    }
+
+    @SuppressWarnings("unchecked")
+    synchronized Consumer<byte[], byte[]> newConsumer() {
+        Consumer<byte[], byte[]> consumer = mock(Consumer.class);
+        created.add(consumer);
+        return consumer;
+    }
+
+    @Test
+    void testConsumerReusedOnItsPollerThread() throws Exception {
+        String thread1 = pool.execute(c -> Thread.currentThread().getName()).toCompletableFuture().get(5, TimeUnit.SECONDS);
+        var consumer1 = pool.execute(c -> c).toCompletableFuture().get(5, TimeUnit.SECONDS);
+        String thread2 = pool.execute(c -> Thread.currentThread().getName()).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, created.size());
+        assertSame(created.get(0), consumer1);
+        assertTrue(thread1.startsWith("console-consumer-test-"));
+        assertEquals(thread1, thread2);
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    void testTasksWaitThenRejected() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        var running = pool.execute(c -> {
+            await(release);
+            return "first";
+        }).toCompletableFuture();
+        var queued = pool.execute(c -> "second").toCompletableFuture();
+        var rejected = pool.execute(c -> "third").toCompletableFuture();
+
+        var error = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(RejectedExecutionException.class, error.getCause());
+
+        release.countDown();
+        assertEquals("first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("second", queued.get(5, TimeUnit.SECONDS));
+        assertEquals(1, created.size());
+    }
+
+    @Test
+    void testFailedConsumerDiscarded() throws Exception {
+        var failed = pool.execute(c -> {
+            throw new IllegalStateException("broken");
+        }).toCompletableFuture();
+
+        assertThrows(CompletionException.class, failed::join);
+        verify(created.get(0), timeout(5000)).close();
+
+        var consumer = pool.execute(c -> c).toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertEquals(2, created.size());
+        assertNotEquals(created.get(0), consumer);
+    }
+
+    @Test
+    void testIdleConsumerClosed() throws Exception {
+        pool.execute(c -> c).toCompletableFuture().get(5, TimeUnit.SECONDS);
+        now.addAndGet(60_000);
+
+        pool.execute(c -> c).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        verify(created.get(0), timeout(5000)).close();
+        assertEquals(2, created.size());
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    void testClosedPoolRejectsTasks() throws Exception {
+        pool.execute(c -> c).toCompletableFuture().get(5, TimeUnit.SECONDS);
+        pool.close();
+
+        verify(created.get(0), timeout(5000)).close();
+        var error = assertThrows(CompletionException.class, pool.execute(c -> c).toCompletableFuture()::join);
+        assertInstanceOf(RejectedExecutionException.class, error.getCause());
+    }
+
+    static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
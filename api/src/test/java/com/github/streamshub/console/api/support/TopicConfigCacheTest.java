@@ -0,0 +1,94 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.model.ConfigEntry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopicConfigCacheTest {
+
+    static ConfigEntry entry(String name, String value, String source) {
+        ConfigEntry entry = new ConfigEntry();
+        entry.setName(name);
+        entry.setValue(value);
+        entry.setSource(source);
+        entry.setType("LONG");
+        return entry;
+    }
+
+    static Map<String, ConfigEntry> configs(String retentionMs, String retentionSource) {
+        Map<String, ConfigEntry> configs = new HashMap<>();
+        configs.put("retention.ms", entry("retention.ms", retentionMs, retentionSource));
+        configs.put("segment.ms", entry("segment.ms", "604800000", "DEFAULT_CONFIG"));
+        return configs;
+    }
+
+    @Test
+    void testGetReturnsSharedAndOverriddenEntries() {
+        TopicConfigCache cache = new TopicConfigCache();
+        cache.put("t1", configs("604800000", "DEFAULT_CONFIG"), 10);
+        cache.put("t2", configs("1000", "DYNAMIC_TOPIC_CONFIG"), 10);
+
+        Map<String, ConfigEntry> t1 = cache.get("t1", 0);
+        Map<String, ConfigEntry> t2 = cache.get("t2", 0);
+
+        assertEquals("604800000", t1.get("retention.ms").getValue());
+        assertEquals("1000", t2.get("retention.ms").getValue());
+        assertEquals("DYNAMIC_TOPIC_CONFIG", t2.get("retention.ms").getSource());
+        // Inherited entries are shared by all topics
+        assertSame(t1.get("segment.ms"), t2.get("segment.ms"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testExpiredSnapshotIsMiss() {
+        TopicConfigCache cache = new TopicConfigCache();
+        cache.put("t1", configs("1000", "DYNAMIC_TOPIC_CONFIG"), 10);
+
+        assertTrue(cache.isOlderThan("t1", 20));
+        assertFalse(cache.isOlderThan("t1", 5));
+        assertNull(cache.get("t1", 20));
+        assertNull(cache.get("t2", 0));
+    }
+
+    @Test
+    void testInvalidateRejectsEarlierDescribe() {
+        TopicConfigCache cache = new TopicConfigCache();
+        long describeStart = System.nanoTime();
+        cache.invalidate("t1");
+        // Result of a describe request sent before the topic was altered
+        cache.put("t1", configs("1000", "DYNAMIC_TOPIC_CONFIG"), describeStart);
+
+        assertNull(cache.get("t1", describeStart));
+        assertEquals(0, cache.size());
+
+        cache.put("t1", configs("2000", "DYNAMIC_TOPIC_CONFIG"), System.nanoTime());
+        assertEquals("2000", cache.get("t1", describeStart).get("retention.ms").getValue());
+    }
+
+    @Test
+    void testPruneAndRefreshClaims() {
+        TopicConfigCache cache = new TopicConfigCache();
+        cache.put("t1", configs("1000", "DYNAMIC_TOPIC_CONFIG"), 10);
+        cache.put("t2", configs("1000", "DYNAMIC_TOPIC_CONFIG"), 10);
+        cache.prune(Set.of("t2")::contains);
+
+        assertNull(cache.get("t1", 0));
+        assertEquals(1, cache.size());
+
+        assertEquals(Set.of("t1", "t2"), cache.beginRefresh(List.of("t1", "t2")));
+        assertEquals(Set.of(), cache.beginRefresh(List.of("t2")));
+        cache.endRefresh(List.of("t1", "t2"));
+        assertEquals(Set.of("t2"), cache.beginRefresh(List.of("t2")));
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.Uuid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.github.streamshub.console.api.model.FetchFilter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopicNameIndexTest {
+
+    static final List<String> NAMES = IntStream.range(0, 1000)
+            .mapToObj(i -> String.format("%s.orders-%03d", i % 2 == 0 ? "eu" : "us", i))
+            .toList();
+
+    TopicNameIndex index;
+    List<TopicListing> listings;
+
+    @BeforeEach
+    void setup() {
+        index = new TopicNameIndex();
+        listings = NAMES.stream()
+                .map(name -> new TopicListing(name, Uuid.randomUuid(), false))
+                .toList();
+        index.refresh(listings);
+    }
+
+    @Test
+    void testNamesByPrefix() {
+        assertEquals(1000, index.names("").size());
+        assertEquals(500, index.names("eu.").size());
+        assertEquals(List.of("us.orders-901", "us.orders-903"), List.copyOf(index.names("us.orders-90").headSet("us.orders-904")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "eu.*",
+        "*-00?",
+        "*ders-12*",
+        "us.orders-9*",
+        "*.orders-1?3",
+        "*s-99",
+        "*",
+        "??",
+        "*missing*",
+    })
+    void testLikeCandidatesContainMatches(String pattern) {
+        FetchFilterPredicate<String, String> filter =
+                new FetchFilterPredicate<>(FetchFilter.valueOf("like," + pattern), name -> name);
+
+        Set<String> expected = NAMES.stream().filter(filter).collect(Collectors.toSet());
+        Set<String> candidates = index.candidates("like", List.of(pattern));
+
+        if (candidates != null) {
+            assertTrue(candidates.containsAll(expected));
+            assertEquals(expected, candidates.stream().filter(filter).collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    void testLikeCandidatesNarrowSearch() {
+        assertEquals(500, index.candidates("like", List.of("eu.*")).size());
+        assertEquals(10, index.candidates("like", List.of("*ders-12*")).size());
+        assertEquals(50, index.candidates("like", List.of("us.orders-9?1*")).size());
+        assertTrue(index.candidates("like", List.of("*missing*")).isEmpty());
+        assertNull(index.candidates("like", List.of("*")));
+    }
+
+    @Test
+    void testEqualityCandidates() {
+        assertEquals(Set.of("eu.orders-000"), index.candidates("eq", List.of("eu.orders-000")));
+        assertEquals(Set.of("us.orders-001"), index.candidates("in", List.of("us.orders-001", "missing")));
+        assertNull(index.candidates("neq", List.of("eu.orders-000")));
+        assertNull(index.candidates("re", List.of("orders")));
+    }
+
+    @Test
+    void testListingsInNameOrder() {
+        var candidates = index.candidates("like", List.of("*ders-12*"));
+
+        assertEquals(List.copyOf(candidates), index.listings(candidates).stream().map(TopicListing::name).toList());
+        assertEquals("eu.orders-120", index.listings(candidates).get(0).name());
+        assertEquals(NAMES.stream().sorted().toList(), index.listings(null).stream().map(TopicListing::name).toList());
+        assertEquals(List.of(), index.listings(List.of("missing")));
+    }
+
+    @Test
+    void testLookupByNameAndId() {
+        TopicListing listing = listings.get(42);
+        String topicId = listing.topicId().toString();
+
+        assertEquals(Optional.of(topicId), index.topicId(listing.name()));
+        assertEquals(Optional.of(listing.name()), index.topicName(topicId));
+        assertEquals(Optional.empty(), index.topicId("missing"));
+    }
+
+    @Test
+    void testRefreshAddAndRemove() {
+        List<String> removed = index.refresh(listings.subList(0, 10));
+        assertEquals(990, removed.size());
+        assertEquals(10, index.size());
+        assertEquals(Optional.empty(), index.topicName(listings.get(10).topicId().toString()));
+
+        String topicId = Uuid.randomUuid().toString();
+        index.add("new-topic", topicId);
+        assertEquals(Optional.of("new-topic"), index.topicName(topicId));
+        assertEquals(Set.of("new-topic"), index.candidates("like", List.of("*new-top*")));
+
+        assertEquals(Optional.of("new-topic"), index.removeById(topicId));
+        assertEquals(10, index.size());
+        assertEquals(10, index.names("").size());
+        assertTrue(index.candidates("like", List.of("*new-top*")).isEmpty());
+        assertTrue(index.candidates("like", List.of("*ders-12*")).isEmpty());
+        assertEquals(Optional.empty(), index.removeById(topicId));
+    }
+
+    @Test
+    void testRefreshClaimedOncePerMaxAge() {
+        long now = System.currentTimeMillis();
+
+        assertFalse(index.beginRefresh(now, 30_000));
+        assertTrue(index.beginRefresh(now + 30_000, 30_000));
+        // Claimed by the first caller until refreshed or cancelled
+        assertFalse(index.beginRefresh(now + 30_000, 30_000));
+
+        index.cancelRefresh();
+        assertTrue(index.beginRefresh(now + 30_000, 30_000));
+    }
+
+    @Test
+    void testNewIndexRefreshedImmediately() {
+        TopicNameIndex empty = new TopicNameIndex();
+        assertFalse(empty.isPopulated());
+        assertTrue(empty.beginRefresh(System.currentTimeMillis(), 30_000));
+    }
+}
@@ -2,6 +2,7 @@ package com.github.streamshub.console.config;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
@@ -88,4 +89,30 @@ public class KafkaClusterConfig {
         this.producerProperties = producerProperties;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof KafkaClusterConfig)) {
+            return false;
+        }
+
+        KafkaClusterConfig other = (KafkaClusterConfig) obj;
+        return Objects.equals(id, other.id)
+                && Objects.equals(name, other.name)
+                && Objects.equals(namespace, other.namespace)
+                && Objects.equals(listener, other.listener)
+                && Objects.equals(properties, other.properties)
+                && Objects.equals(adminProperties, other.adminProperties)
+                && Objects.equals(consumerProperties, other.consumerProperties)
+                && Objects.equals(producerProperties, other.producerProperties);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, namespace, listener, properties, adminProperties,
+                consumerProperties, producerProperties);
+    }
+
 }
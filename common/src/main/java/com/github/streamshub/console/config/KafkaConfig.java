@@ -8,7 +8,10 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 
 public class KafkaConfig {
 
-    List<KafkaClusterConfig> clusters = new ArrayList<>();
+    /**
+     * Replaced rather than modified when the configuration is reloaded
+     */
+    volatile List<KafkaClusterConfig> clusters = new ArrayList<>();
 
     @JsonIgnore
     public Optional<KafkaClusterConfig> getCluster(String clusterKey) {
@@ -9,6 +9,7 @@ const OffsetAndMetadataSchema = z.object({
   offset: z.number(),
   logEndOffset: z.number().optional(),
   lag: z.number().optional(),
+  timeLag: z.number().optional(),
   metadata: z.string(),
   leaderEpoch: z.number().optional(),
 });
@@ -35,6 +36,7 @@ export const ConsumerGroupSchema = z.object({
     coordinator: NodeSchema.nullable().optional(),
     authorizedOperations: z.array(z.string()).nullable().optional(),
     offsets: z.array(OffsetAndMetadataSchema).optional(),
+    timeLag: z.number().nullable().optional(),
     errors: z.array(ApiError).optional(),
   }),
 });